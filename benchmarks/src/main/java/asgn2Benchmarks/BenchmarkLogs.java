@@ -0,0 +1,47 @@
+package asgn2Benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+
+import asgn2Tests.LogGenerator;
+
+/**
+ * A class that writes log files of a given number of lines for the benchmarks. The files are written by a
+ * LogGenerator with a fixed seed, so the same file is written on every run. The fixed set of valid orders
+ * covering every customer and pizza type is used by the benchmarks of single lines.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+final class BenchmarkLogs {
+
+	static final String[] LINES = {
+		"20:05:00,20:26:00,Aiden Zhang,0161429209,DVC,-3,9,PZV,2",
+		"22:35:00,22:55:00,Aria Thompson,0695536923,DVC,6,0,PZV,6",
+		"19:39:00,20:06:00,Eli Walker,0106952291,DNC,8,1,PZM,2",
+		"22:16:00,22:31:00,Olivia Williams,0771390439,PUC,0,0,PZM,3",
+		"21:00:00,21:35:00,Oroku Saki,0111222333,PUC,0,0,PZL,3",
+		"20:00:00,20:25:00,April O'Neal,0987654321,DNC,3,4,PZM,1",
+		"21:52:00,22:07:00,Lucas Anderson,0755201141,DNC,-4,5,PZL,9",
+		"19:07:00,19:30:00,Aria Jones,0490411652,DVC,6,1,PZV,6",
+	};
+
+	static final long SEED = 20170101L;
+
+	private BenchmarkLogs() {
+	}
+
+	/**
+	 * Writes a temporary log file that is deleted when the benchmark exits.
+	 * @param numLines - The number of lines in the log file
+	 * @return The file name of the log file
+	 * @throws IOException If the log file cannot be written
+	 */
+	static String write(int numLines) throws IOException {
+		File file = File.createTempFile("benchmark-" + numLines + "-", ".txt");
+		file.deleteOnExit();
+		new LogGenerator(SEED).write(file.getPath(), numLines);
+		return file.getPath();
+	}
+
+}
@@ -0,0 +1,107 @@
+package asgn2Benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import asgn2Customers.Customer;
+import asgn2Exceptions.CustomerException;
+import asgn2Exceptions.LogHandlerException;
+import asgn2Exceptions.PizzaException;
+import asgn2Pizzas.Pizza;
+import asgn2Restaurant.ErrorReport;
+import asgn2Restaurant.LogHandler;
+import asgn2Restaurant.MappedLogReader;
+import asgn2Restaurant.OrderRecord;
+import asgn2Restaurant.ParallelLogReader;
+import asgn2Restaurant.PizzaRestaurant;
+
+/**
+ * Measures the time taken to read a whole log file with each of the ways of reading a log file, to validate it
+ * without creating any orders, and to load a restaurant from the log file or from a snapshot of it.
+ * The 10 million line log file is about 550MB, so it needs a heap of several GB.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class DatasetBenchmark {
+	@Param({"1000", "100000", "10000000"})
+	int numLines;
+	String filename;
+	String snapshot;
+
+	@Setup
+	public void writeLog() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		filename = BenchmarkLogs.write(numLines);
+		File file = File.createTempFile("benchmark-" + numLines + "-", ".snapshot");
+		file.deleteOnExit();
+		snapshot = file.getPath();
+		PizzaRestaurant restaurant = new PizzaRestaurant();
+		restaurant.processLog(filename);
+		restaurant.saveSnapshot(snapshot);
+	}
+
+	@Benchmark
+	public ArrayList<Customer> populateCustomerDataset() throws CustomerException, LogHandlerException {
+		return LogHandler.populateCustomerDataset(filename);
+	}
+
+	@Benchmark
+	public ArrayList<Pizza> populatePizzaDataset() throws PizzaException, LogHandlerException {
+		return LogHandler.populatePizzaDataset(filename);
+	}
+
+	@Benchmark
+	public ArrayList<OrderRecord> populateOrderDataset() throws CustomerException, PizzaException, LogHandlerException {
+		return LogHandler.populateOrderDataset(filename);
+	}
+
+	@Benchmark
+	public ArrayList<OrderRecord> mappedReadOrders() throws CustomerException, PizzaException, LogHandlerException {
+		return MappedLogReader.readOrders(filename);
+	}
+
+	@Benchmark
+	public ArrayList<OrderRecord> parallelReadOrders() throws CustomerException, PizzaException, LogHandlerException {
+		return ParallelLogReader.readOrders(filename);
+	}
+
+	@Benchmark
+	public boolean parallelValidate() throws LogHandlerException {
+		return ParallelLogReader.validate(filename, new ErrorReport());
+	}
+
+	@Benchmark
+	public PizzaRestaurant processLog() throws CustomerException, PizzaException, LogHandlerException {
+		PizzaRestaurant restaurant = new PizzaRestaurant();
+		restaurant.processLog(filename);
+		return restaurant;
+	}
+
+	@Benchmark
+	public PizzaRestaurant loadSnapshot() throws LogHandlerException {
+		PizzaRestaurant restaurant = new PizzaRestaurant();
+		restaurant.loadSnapshot(snapshot);
+		return restaurant;
+	}
+
+}
@@ -0,0 +1,72 @@
+package asgn2Benchmarks;
+
+import java.io.IOException;
+
+import asgn2Tests.LogGenerator;
+
+/**
+ * Writes a synthetic log file for load and soak testing. Run with
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar asgn2Benchmarks.GenerateLog FILE LINES [OPTION]...
+ * </pre>
+ * where the options are
+ * <pre>
+ * --seed=N            the seed of the generator (default 20170101)
+ * --customers=P,N,V   the weights of PUC, DNC and DVC customers (default 1,1,1)
+ * --pizzas=L,M,V      the weights of PZL, PZM and PZV pizzas (default 1,1,1)
+ * --spread=B          delivery customers are at most B blocks from the restaurant (default 10)
+ * --malformed=R       the fraction of malformed lines (default 0)
+ * </pre>
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+public final class GenerateLog {
+
+	private GenerateLog() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			System.err.println("Usage: GenerateLog FILE LINES [--seed=N] [--customers=P,N,V] [--pizzas=L,M,V] [--spread=B] [--malformed=R]");
+			System.exit(2);
+		}
+		long seed = BenchmarkLogs.SEED;
+		for (int i = 2; i < args.length; i++) {
+			if (args[i].startsWith("--seed=")) {
+				seed = Long.parseLong(value(args[i]));
+			}
+		}
+		LogGenerator generator = new LogGenerator(seed);
+		for (int i = 2; i < args.length; i++) {
+			String option = args[i];
+			if (option.startsWith("--customers=")) {
+				double[] weights = weights(option);
+				generator.setCustomerMix(weights[0], weights[1], weights[2]);
+			} else if (option.startsWith("--pizzas=")) {
+				double[] weights = weights(option);
+				generator.setPizzaMix(weights[0], weights[1], weights[2]);
+			} else if (option.startsWith("--spread=")) {
+				generator.setLocationSpread(Integer.parseInt(value(option)));
+			} else if (option.startsWith("--malformed=")) {
+				generator.setMalformedRate(Double.parseDouble(value(option)));
+			} else if (!option.startsWith("--seed=")) {
+				throw new IllegalArgumentException("Unknown option " + option);
+			}
+		}
+		generator.write(args[0], Long.parseLong(args[1]));
+	}
+
+	private static String value(String option) {
+		return option.substring(option.indexOf('=') + 1);
+	}
+
+	private static double[] weights(String option) {
+		String[] parts = value(option).split(",");
+		if (parts.length != 3) {
+			throw new IllegalArgumentException("Expected three weights in " + option);
+		}
+		return new double[] {Double.parseDouble(parts[0]), Double.parseDouble(parts[1]), Double.parseDouble(parts[2])};
+	}
+
+}
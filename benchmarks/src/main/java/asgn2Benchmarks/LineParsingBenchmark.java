@@ -0,0 +1,59 @@
+package asgn2Benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import asgn2Customers.Customer;
+import asgn2Exceptions.CustomerException;
+import asgn2Exceptions.LogHandlerException;
+import asgn2Exceptions.PizzaException;
+import asgn2Pizzas.Pizza;
+import asgn2Restaurant.LogHandler;
+import asgn2Restaurant.OrderRecord;
+
+/**
+ * Measures the throughput of creating the Customer and Pizza of a single line of the log file.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LineParsingBenchmark {
+	private int next;
+
+	//Cycles through the lines so that every customer and pizza type is measured
+	private String nextLine() {
+		next = (next + 1) % BenchmarkLogs.LINES.length;
+		return BenchmarkLogs.LINES[next];
+	}
+
+	@Benchmark
+	public Customer createCustomer() throws CustomerException, LogHandlerException {
+		return LogHandler.createCustomer(nextLine());
+	}
+
+	@Benchmark
+	public Pizza createPizza() throws PizzaException, LogHandlerException {
+		return LogHandler.createPizza(nextLine());
+	}
+
+	@Benchmark
+	public OrderRecord createOrder() throws CustomerException, PizzaException, LogHandlerException {
+		return LogHandler.createOrder(nextLine());
+	}
+
+}
@@ -0,0 +1,72 @@
+package asgn2Benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import asgn2Exceptions.CustomerException;
+import asgn2Exceptions.LogHandlerException;
+import asgn2Exceptions.PizzaException;
+import asgn2Restaurant.PizzaRestaurant;
+import asgn2Restaurant.TimeWindowAnalytics;
+
+/**
+ * Measures the aggregate queries of a restaurant that has a log file loaded.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+public class RestaurantBenchmark {
+	@Param({"1000", "100000"})
+	int numLines;
+	PizzaRestaurant restaurant;
+
+	@Setup
+	public void loadLog() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		restaurant = new PizzaRestaurant();
+		restaurant.processLog(BenchmarkLogs.write(numLines));
+	}
+
+	@Benchmark
+	public double getTotalProfit() {
+		return restaurant.getTotalProfit();
+	}
+
+	@Benchmark
+	public double getTotalDeliveryDistance() {
+		return restaurant.getTotalDeliveryDistance();
+	}
+
+	@Benchmark
+	public TimeWindowAnalytics getTotalsByWindow() {
+		return restaurant.getTotalsByWindow(5);
+	}
+
+	@Benchmark
+	public int[] getOrdersWithin() {
+		return restaurant.getOrdersWithin(3, -2, 2.5);
+	}
+
+	@Benchmark
+	public int[] getNearestCustomers() {
+		return restaurant.getNearestCustomers(3, -2, 10);
+	}
+
+}
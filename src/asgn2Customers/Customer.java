@@ -3,8 +3,6 @@ package asgn2Customers;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import asgn2Exceptions.CustomerException;
 
@@ -21,6 +19,7 @@ public abstract class Customer {
 	final static int MIN_NAME_LENGTH = 1;
 	final static int MAX_NAME_LENGTH = 20;
 	final static int MOBILE_NUM_LENGTH = 10;
+	final static int MAX_DISTANCE = 10;
 	final static double RESTAURANT_X = 0;
 	final static double RESTAURANT_Y = 0;
 	String name;
@@ -28,6 +27,8 @@ public abstract class Customer {
 	int locationX;
 	int locationY;
 	String type;
+	//The code the customer was created from by CustomerFactory, or null if it was created by its constructor
+	String code;
 	
 	/**
 	 *  This class represents a customer of the Pizza Palace restaurant.  A detailed description of the class's fields
@@ -53,40 +54,33 @@ public abstract class Customer {
 	 * 7. the location is beyond valid distance from the restaurant
 	 */
 	public Customer(String name, String mobileNumber, int locationX, int locationY, String type) throws CustomerException{
-		//Patterns for string input validation
-		String nameRegex = "[a-zA-Z' ]*[a-zA-Z]+[a-zA-Z ]*";
-    	Pattern namePattern = Pattern.compile(nameRegex);
-    	Matcher nameMatcher = namePattern.matcher(name);
-		String mobileRegex = "[0-9]+";
-		Pattern mobilePattern = Pattern.compile(mobileRegex);
-    	Matcher mobileMatcher = mobilePattern.matcher(mobileNumber);
 		//Throw exception if length of the name is 0, or more than 20
-		if ((name.length()<MIN_NAME_LENGTH) || (name.length()>MAX_NAME_LENGTH)){
+		if (!CustomerValidator.isValidNameLength(name)){
 			throw new CustomerException("Invalid customer name length");
 		//Throw exception if the name contains characters other than alphabet or spaces and when there are only white spaces
-		} else if (!nameMatcher.matches()){
+		} else if (!CustomerValidator.isValidNameCharacters(name)){
 			throw new CustomerException("Invalid customer name: Contains non alphabet characters");
 		//Throw exception if the the type is not valid
 		} else if (!type.equals("Pick Up") && !type.equals("Driver Delivery") && !type.equals("Drone Delivery")){
 			throw new CustomerException("Invalid customer type");
 		//if the length of the mobile number is not 10, or if the mobile number does not start with '0' or if the string contains non-numeric characters
-		} else if (mobileNumber.length()!= MOBILE_NUM_LENGTH || mobileNumber.toCharArray()[0] != '0' || !mobileMatcher.matches()){
+		} else if (!CustomerValidator.isValidMobileNumber(mobileNumber)){
 			throw new CustomerException("Invalid mobile number");
 		} else if (type == "Pick Up"){
-			if (locationX != 0 || locationY != 0){
+			if (!CustomerValidator.isValidPickUpLocation(locationX, locationY)){
 				throw new CustomerException("Invalid pick up customer location");
 			}
 		} else if (type == "Driver Delivery"){
-			if (locationX == 0 && locationY == 0){
+			if (!CustomerValidator.isValidDeliveryLocation(locationX, locationY)){
 				throw new CustomerException("Customer name: " + name + " Invalid driver delivery customer location");
 			}
 		} else if (type == "Drone Delivery"){
-			if (locationX == 0 && locationY == 0){
+			if (!CustomerValidator.isValidDeliveryLocation(locationX, locationY)){
 				throw new CustomerException("Invalid drone delivery customer location");
 			}
 		}
 		//Test that the location is not beyond acceptable range.
-		if (locationX > 10 || locationX < -10 || locationY > 10 || locationY < -10){
+		if (!CustomerValidator.isWithinRange(locationX, locationY)){
 			throw new CustomerException("Customer located more than 10 blocks north/south/west/east of restaurant");
 		}
 		this.name = name;
@@ -121,6 +115,23 @@ public abstract class Customer {
 		return this.type;
 	}
 	
+	/**
+	 * Returns the code of the Customer's type in the log file. This is the code that CustomerFactory created the
+	 * Customer from, which may be a code registered with the factory. A Customer created by its constructor has
+	 * the built-in code of its type.
+	 * @return The Customer's code, such as PUC, DNC or DVC.
+	 */
+	public final String getCustomerCode(){
+		if (this.code != null){
+			return this.code;
+		} else if (this.type.equals(PickUpCustomer.TYPE)){
+			return "PUC";
+		} else if (this.type.equals(DroneDeliveryCustomer.TYPE)){
+			return "DNC";
+		}
+		return "DVC";
+	}
+
 	/**
 	 * Returns the Customer's X location which is the number of blocks East or West 
 	 * that the Customer is located relative to the Pizza Palace restaurant. 
@@ -1,23 +1,90 @@
 package asgn2Customers;
 
 
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
-
 import asgn2Exceptions.CustomerException;
 
 /**
  * A class that instantiates the subclasses of asgn2Customers.Customer using the Factory Method pattern. 
  * The classes are instantiated from one of the three valid customer codes outlined in
  * Section 5.3 of the Assignment Specification. Any other code will throw a CustomerException.   
+ * 
+ * Each code is three capital letters, so the codes are numbered from 0 to 26 * 26 * 26 - 1 and the constructor of each
+ * code is found by indexing a table with its number rather than by comparing the code with each valid code. Further
+ * types of customer can be registered with their own code when the program starts.
+ * 
+ * Each customer created by getCustomer remembers its code, so that a registered code is accepted by every log reader
+ * and stored by OrderStore under the same code. A registered constructor must create one of the three types of
+ * customer, which gives the rules that its customers are validated against and their description in the totals.
  *     
  * @author Gyeongmin Jee
  *
  */
 
 public class CustomerFactory {
-	final static Set<String> CODES= new HashSet<String>(Arrays.asList(new String[]{"PUC", "DNC", "DVC"}));
+	//The number of letters in a code and the number of possible codes
+	static final int CODE_LENGTH = 3;
+	static final int NUM_CODES = 26 * 26 * 26;
+
+	/**
+	 * Creates a customer of a single subclass of asgn2Customers.Customer, such as the constructor of the subclass.
+	 */
+	@FunctionalInterface
+	public interface CustomerConstructor {
+		/**
+		 * Creates a customer with the specified details.
+		 * @param name - The customer's name
+		 * @param mobileNumber - The customer mobile number
+		 * @param locationX - The customer x location relative to the Pizza Palace Restaurant measured in units of 'blocks'
+		 * @param locationY - The customer y location relative to the Pizza Palace Restaurant measured in units of 'blocks'
+		 * @return The customer
+		 * @throws CustomerException If the customer detail is invalid
+		 */
+		Customer create(String name, String mobileNumber, int locationX, int locationY) throws CustomerException;
+	}
+
+	//The constructor of each code by its number, replaced as a whole when a code is registered
+	private static volatile CustomerConstructor[] constructors = new CustomerConstructor[NUM_CODES];
+
+	static {
+		register("PUC", PickUpCustomer::new);
+		register("DNC", DroneDeliveryCustomer::new);
+		register("DVC", DriverDeliveryCustomer::new);
+	}
+
+	/**
+	 * Registers the constructor of a type of customer, replacing the constructor already registered for the code.
+	 * 
+	 * <P> PRE: TRUE
+	 * <P> POST: getCustomer creates customers with the code using the constructor
+	 * 
+	 * The memory mapped and parallel log readers and OrderStore take the type and delivery distances of a registered
+	 * code from customers created with it the first time the code is stored, so a code should be registered when the
+	 * program starts rather than registered again with another constructor.
+	 * 
+	 * @param customerCode - A code of three capital letters
+	 * @param constructor - The constructor of the type of customer
+	 * @throws IllegalArgumentException If the code is not three capital letters or the constructor is null
+	 */
+	public static synchronized void register(String customerCode, CustomerConstructor constructor) {
+		int index = codeIndex(customerCode);
+		if (index < 0 || constructor == null) {
+			throw new IllegalArgumentException("Cannot register the customer code " + customerCode);
+		}
+		CustomerConstructor[] registered = constructors.clone();
+		registered[index] = constructor;
+		constructors = registered;
+	}//end Register
+
+	/**
+	 * Indicates if a constructor is registered for the customer code.
+	 * @param customerCode - A customer code
+	 * @return true if getCustomer creates customers with the code and false otherwise.
+	 */
+	public static boolean isRegistered(String customerCode) {
+		int index = codeIndex(customerCode);
+		return index >= 0 && constructors[index] != null;
+	}
+
 	/**
 	 * A method that uses the Factory Method pattern to produce an instance of one of the asgn2Customers.Customer subclasses. 
 	 * Subclasses are created using the customerCode. All valid customer codes are listed in Section 5.3 of the Assignment Specification.
@@ -33,22 +100,38 @@ public class CustomerFactory {
 	 */
 	
 	public static Customer getCustomer(String customerCode, String name, String mobileNumber, int locationX,  int locationY) throws CustomerException{
-		if(!CODES.contains(customerCode)){
+		int index = codeIndex(customerCode);
+		CustomerConstructor constructor = (index < 0) ? null : constructors[index];
+		if (constructor == null) {
 			throw new CustomerException("Invalid customer code");
 		}
-		try{
-			if (customerCode.equals("PUC")){
-				PickUpCustomer puc = new PickUpCustomer(name, mobileNumber, locationX, locationY);
-				return puc;
-			} else if (customerCode.equals("DNC")) {
-				DroneDeliveryCustomer dnc = new DroneDeliveryCustomer(name, mobileNumber, locationX, locationY);
-				return dnc;
-			} else {
-				DriverDeliveryCustomer dvc = new DriverDeliveryCustomer(name, mobileNumber, locationX, locationY);
-				return dvc;
-			}
-		} catch (Exception e){
+		Customer customer;
+		try {
+			customer = constructor.create(name, mobileNumber, locationX, locationY);
+		} catch (RuntimeException e) {
 			throw new CustomerException(e.getMessage());
 		}
+		//Remember the code so that the customer is stored and written with the code it was read from
+		customer.code = customerCode;
+		return customer;
+	}
+
+	/**
+	 * Returns the number of a code of three capital letters.
+	 * @param code - The code
+	 * @return The number of the code from 0 to NUM_CODES - 1, or -1 if it is not three capital letters
+	 */
+	static int codeIndex(String code) {
+		if (code == null || code.length() != CODE_LENGTH) {
+			return -1;
+		}
+		int first = code.charAt(0) - 'A';
+		int second = code.charAt(1) - 'A';
+		int third = code.charAt(2) - 'A';
+		//A letter outside A to Z makes its number negative or above 25
+		if ((first | second | third) < 0 || first > 25 || second > 25 || third > 25) {
+			return -1;
+		}
+		return (first * 26 + second) * 26 + third;
 	}
 }
@@ -0,0 +1,97 @@
+package asgn2Customers;
+
+/**
+ * A class that contains the rules used to validate the details of a Customer, listed in Section 5.2 of the 
+ * Assignment Specification. Each rule is a single scan over the characters of the detail, so a detail is 
+ * validated without compiling a regular expression or allocating any objects. The rules can be applied
+ * to any CharSequence, so details can be checked before a String is created for them.
+ * 
+ * @author Gyeongmin Jee
+ *
+ */
+public final class CustomerValidator {
+
+	private CustomerValidator() {
+	}
+
+	/**
+	 * Indicates if the length of the name is between the minimum and maximum name length.
+	 * @param name - The customer's name
+	 * @return true if the name is between 1 and 20 characters long and false otherwise.
+	 */
+	public static boolean isValidNameLength(CharSequence name) {
+		return name.length() >= Customer.MIN_NAME_LENGTH && name.length() <= Customer.MAX_NAME_LENGTH;
+	}//end IsValidNameLength
+
+	/**
+	 * Indicates if the name only contains letters, spaces and apostrophes, and contains a letter after its last
+	 * apostrophe. This accepts the same names as the pattern [a-zA-Z' ]*[a-zA-Z]+[a-zA-Z ]*, so a name that
+	 * contains only spaces is not valid.
+	 * @param name - The customer's name
+	 * @return true if the name contains valid characters and false otherwise.
+	 */
+	public static boolean isValidNameCharacters(CharSequence name) {
+		boolean letterAfterApostrophe = false;
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+				letterAfterApostrophe = true;
+			} else if (c == '\'') {
+				letterAfterApostrophe = false;
+			} else if (c != ' ') {
+				return false;
+			}//end if-else
+		}//end for loop
+		return letterAfterApostrophe;
+	}//end IsValidNameCharacters
+
+	/**
+	 * Indicates if the mobile number is 10 digits long and begins with 0.
+	 * @param mobileNumber - The customer's mobile number
+	 * @return true if the mobile number is valid and false otherwise.
+	 */
+	public static boolean isValidMobileNumber(CharSequence mobileNumber) {
+		if (mobileNumber.length() != Customer.MOBILE_NUM_LENGTH || mobileNumber.charAt(0) != '0') {
+			return false;
+		}
+		for (int i = 1; i < mobileNumber.length(); i++) {
+			char c = mobileNumber.charAt(i);
+			if (c < '0' || c > '9') {
+				return false;
+			}//end if
+		}//end for loop
+		return true;
+	}//end IsValidMobileNumber
+
+	/**
+	 * Indicates if the location is a valid location for a customer who picks up their pizza, which is at the restaurant.
+	 * @param locationX - The customer x location relative to the restaurant
+	 * @param locationY - The customer y location relative to the restaurant
+	 * @return true if the location is the restaurant and false otherwise.
+	 */
+	public static boolean isValidPickUpLocation(int locationX, int locationY) {
+		return locationX == 0 && locationY == 0;
+	}//end IsValidPickUpLocation
+
+	/**
+	 * Indicates if the location is a valid location for a customer who has their pizza delivered, which is anywhere but the restaurant.
+	 * @param locationX - The customer x location relative to the restaurant
+	 * @param locationY - The customer y location relative to the restaurant
+	 * @return true if the location is not the restaurant and false otherwise.
+	 */
+	public static boolean isValidDeliveryLocation(int locationX, int locationY) {
+		return locationX != 0 || locationY != 0;
+	}//end IsValidDeliveryLocation
+
+	/**
+	 * Indicates if the location is no more than 10 blocks north, south, east or west of the restaurant.
+	 * @param locationX - The customer x location relative to the restaurant
+	 * @param locationY - The customer y location relative to the restaurant
+	 * @return true if the location is within range and false otherwise.
+	 */
+	public static boolean isWithinRange(int locationX, int locationY) {
+		return locationX <= Customer.MAX_DISTANCE && locationX >= -Customer.MAX_DISTANCE
+				&& locationY <= Customer.MAX_DISTANCE && locationY >= -Customer.MAX_DISTANCE;
+	}//end IsWithinRange
+
+}//end CustomerValidator
@@ -6,6 +6,10 @@ package asgn2Exceptions;
  *
  */
 public class CustomerException extends Exception {
+	//The reason, line number and parameter index of an invalid line of a log file, if the exception reports one
+	private LogError error;
+	private long lineNumber = -1;
+	private int fieldIndex = -1;
 
 	/**
 	 * Produces a CustomerException
@@ -49,4 +53,54 @@ public class CustomerException extends Exception {
 		super(message, cause, enableSuppression, writableStackTrace);
 	}
 
+	/**
+	 * Produces a CustomerException without a stack trace for an invalid line of a log file, so that many invalid lines can be
+	 * reported without the cost of filling in a stack trace for each of them
+	 * @param error - The reason that the line is invalid, which also gives the exception's message
+	 * @param lineNumber - The number of the invalid line, counting from 1
+	 * @param fieldIndex - The index of the invalid parameter of the line counting from 0, or -1 if the whole line is invalid
+	 */
+	public CustomerException(LogError error, long lineNumber, int fieldIndex) {
+		this(error.getMessage(), error, lineNumber, fieldIndex);
+	}
+
+	/**
+	 * Produces a CustomerException without a stack trace for an invalid line of a log file, with a message that adds to the
+	 * reason, such as the name of the log file
+	 * @param message - The exception's message
+	 * @param error - The reason that the line is invalid
+	 * @param lineNumber - The number of the invalid line, counting from 1
+	 * @param fieldIndex - The index of the invalid parameter of the line counting from 0, or -1 if the whole line is invalid
+	 */
+	public CustomerException(String message, LogError error, long lineNumber, int fieldIndex) {
+		super(message, null, false, false);
+		this.error = error;
+		this.lineNumber = lineNumber;
+		this.fieldIndex = fieldIndex;
+	}
+
+	/**
+	 * Returns the reason that a line of a log file is invalid
+	 * @return The reason, or null if the exception does not report an invalid line
+	 */
+	public LogError getError() {
+		return error;
+	}
+
+	/**
+	 * Returns the number of the invalid line of the log file
+	 * @return The line number counting from 1, or -1 if the exception does not report an invalid line
+	 */
+	public long getLineNumber() {
+		return lineNumber;
+	}
+
+	/**
+	 * Returns the index of the invalid parameter of the line
+	 * @return The index of the parameter counting from 0, or -1 if the whole line is invalid or the exception does not report an invalid line
+	 */
+	public int getFieldIndex() {
+		return fieldIndex;
+	}
+
 }
@@ -0,0 +1,67 @@
+package asgn2Exceptions;
+
+/**
+ * The reasons that a line of a log file can be invalid. Each reason is reported as a CustomerException,
+ * PizzaException or LogHandlerException, the same type of exception that creating the Customer and Pizza
+ * of the line would throw.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+public enum LogError {
+	EMPTY_LINE(Kind.LOG, "The line is empty or is not comma separated"),
+	WRONG_NUMBER_OF_PARAMETERS(Kind.LOG, "A line does not contain the right number of parameters"),
+	INVALID_LOCATION_NUMBER(Kind.LOG, "Parsing error. Incorrect locationX or locationY or Non integer locationx/y"),
+	INVALID_TIME_OR_QUANTITY(Kind.LOG, "Parsing error. Incorrect orderTime, deliveryTime or quantity"),
+	INVALID_CUSTOMER_CODE(Kind.CUSTOMER, "Invalid customer code"),
+	INVALID_NAME_LENGTH(Kind.CUSTOMER, "Invalid customer name length"),
+	INVALID_NAME_CHARACTERS(Kind.CUSTOMER, "Invalid customer name: Contains non alphabet characters"),
+	INVALID_MOBILE_NUMBER(Kind.CUSTOMER, "Invalid mobile number"),
+	INVALID_PICK_UP_LOCATION(Kind.CUSTOMER, "Invalid pick up customer location"),
+	INVALID_DELIVERY_LOCATION(Kind.CUSTOMER, "Invalid delivery customer location"),
+	LOCATION_OUT_OF_RANGE(Kind.CUSTOMER, "Customer located more than 10 blocks north/south/west/east of restaurant"),
+	INVALID_PIZZA_CODE(Kind.PIZZA, "Invalid pizza code"),
+	INVALID_QUANTITY(Kind.PIZZA, "The quantity is less than 1 or greater than 10"),
+	ORDER_TIME_OUT_OF_HOURS(Kind.PIZZA, "The order time is before 19:00:00 or after 22:59:00"),
+	DELIVERY_TOO_SOON(Kind.PIZZA, "The delivery time is less than 10 minutes after the order time"),
+	DELIVERY_TOO_LATE(Kind.PIZZA, "The delivery time is more than 59 minutes after the order time");
+
+	//The type of exception that reports each reason
+	private enum Kind { CUSTOMER, PIZZA, LOG }
+
+	private final Kind kind;
+	private final String message;
+
+	private LogError(Kind kind, String message) {
+		this.kind = kind;
+		this.message = message;
+	}
+
+	/**
+	 * Returns the message of the exceptions that report this reason.
+	 * @return The message describing the reason
+	 */
+	public String getMessage() {
+		return message;
+	}
+
+	/**
+	 * Throws an exception without a stack trace that reports this reason for a line of a log file.
+	 * @param lineNumber - The number of the invalid line, counting from 1
+	 * @param fieldIndex - The index of the invalid parameter of the line counting from 0, or -1 if the whole line is invalid
+	 * @throws CustomerException If the reason is invalid customer detail or an invalid customer code
+	 * @throws PizzaException If the reason is a violated pizza constraint or an invalid pizza code
+	 * @throws LogHandlerException If the reason is that the line cannot be parsed
+	 */
+	public void throwException(long lineNumber, int fieldIndex) throws CustomerException, PizzaException, LogHandlerException {
+		switch (kind) {
+		case CUSTOMER:
+			throw new CustomerException(this, lineNumber, fieldIndex);
+		case PIZZA:
+			throw new PizzaException(this, lineNumber, fieldIndex);
+		default:
+			throw new LogHandlerException(this, lineNumber, fieldIndex);
+		}
+	}
+
+}
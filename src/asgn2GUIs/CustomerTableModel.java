@@ -0,0 +1,42 @@
+package asgn2GUIs;
+
+import asgn2Restaurant.OrderColumn;
+import asgn2Restaurant.PizzaRestaurant;
+
+/**
+ * A table model that shows the customers of a PizzaRestaurant, reading each cell from the stored orders when its row
+ * is rendered.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+class CustomerTableModel extends OrderTableModel {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Creates a model that shows none of the customers of the restaurant.
+	 * @param restaurant - The restaurant whose customers are shown
+	 */
+	CustomerTableModel(PizzaRestaurant restaurant) {
+		super(restaurant, "Customer Name", "Mobile", "Type", "X/Y location", "Delivery Distance");
+	}
+
+	@Override
+	public Object getValueAt(int row, int column) {
+		//Each value is null if the restaurant was reset before the table was told
+		switch (column) {
+		case 0: return restaurant.getOrderValue(row, OrderColumn.CUSTOMER_NAME);
+		case 1: return restaurant.getOrderValue(row, OrderColumn.MOBILE_NUMBER);
+		case 2: return restaurant.getOrderValue(row, OrderColumn.CUSTOMER_TYPE);
+		case 3:
+			Object locationX = restaurant.getOrderValue(row, OrderColumn.LOCATION_X);
+			Object locationY = restaurant.getOrderValue(row, OrderColumn.LOCATION_Y);
+			return locationX == null || locationY == null ? null : locationX + "/" + locationY;
+		default:
+			Object distance = restaurant.getOrderValue(row, OrderColumn.DELIVERY_DISTANCE);
+			//Round the distance to 2 decimal places
+			return distance == null ? null : decimalFormat.format(distance) + " blocks";
+		}
+	}
+
+}//end CustomerTableModel
@@ -0,0 +1,71 @@
+package asgn2GUIs;
+
+import java.text.DecimalFormat;
+
+import javax.swing.table.AbstractTableModel;
+
+import asgn2Restaurant.PizzaRestaurant;
+
+/**
+ * A read only table model that shows the orders of a PizzaRestaurant without copying them. Each cell is read from the
+ * restaurant and formatted only when the table asks for it, which is when the cell is rendered, so the time taken
+ * to show or clear the orders does not depend on the number of orders.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+abstract class OrderTableModel extends AbstractTableModel {
+	private static final long serialVersionUID = 1L;
+
+	protected final PizzaRestaurant restaurant;
+	//A format to limit the decimal places for float values, only used on the Event Dispatch Thread
+	protected final DecimalFormat decimalFormat = new DecimalFormat("#0.00");
+	private final String[] columns;
+	//The number of orders of the restaurant shown in the table
+	private int numRows;
+
+	/**
+	 * Creates a model that shows none of the orders of the restaurant.
+	 * @param restaurant - The restaurant whose orders are shown
+	 * @param columns - The names of the columns
+	 */
+	OrderTableModel(PizzaRestaurant restaurant, String... columns) {
+		this.restaurant = restaurant;
+		this.columns = columns;
+	}
+
+	/**
+	 * Shows the first orders of the restaurant up to the specified number of orders.
+	 * @param numRows - The number of orders to show
+	 */
+	void setNumRows(int numRows) {
+		int oldNumRows = this.numRows;
+		this.numRows = numRows;
+		if (numRows > oldNumRows) {
+			fireTableRowsInserted(oldNumRows, numRows - 1);
+		} else if (numRows < oldNumRows) {
+			fireTableRowsDeleted(numRows, oldNumRows - 1);
+		}
+	}
+
+	@Override
+	public int getRowCount() {
+		return numRows;
+	}
+
+	@Override
+	public int getColumnCount() {
+		return columns.length;
+	}
+
+	@Override
+	public String getColumnName(int column) {
+		return columns[column];
+	}
+
+	@Override
+	public boolean isCellEditable(int row, int column) {
+		return false;
+	}
+
+}//end OrderTableModel
@@ -4,18 +4,17 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.io.File;
 import java.text.DecimalFormat;
-import java.util.ArrayList;
-import java.util.Vector;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 import javax.swing.JPanel;
-import javax.swing.table.DefaultTableModel;
+import javax.swing.SwingWorker;
 import javax.swing.text.DefaultCaret;
 
-import asgn2Customers.Customer;
 import asgn2Exceptions.CustomerException;
-import asgn2Exceptions.LogHandlerException;
 import asgn2Exceptions.PizzaException;
-import asgn2Pizzas.Pizza;
+import asgn2Restaurant.OrderRecord;
+import asgn2Restaurant.ParallelLogReader;
 import asgn2Restaurant.PizzaRestaurant;
 
 import javax.swing.JFrame;
@@ -50,14 +49,18 @@ public class PizzaGUI extends javax.swing.JFrame implements Runnable, ActionList
 	Boolean loaded = false;
 	JTable customerTable;
 	JTable pizzaTable;	
-	DefaultTableModel customerModel;
-	DefaultTableModel pizzaModel;	
+	CustomerTableModel customerModel;
+	PizzaTableModel pizzaModel;	
 	JTextField totalDistance;
 	JTextField totalProfit;	
 	JButton open;
 	JButton view;
 	JButton total;
 	JButton reset;
+	JButton cancel;
+	JProgressBar progressBar;
+	//The worker loading a log file in the background, or null if no log file is being loaded
+	LogLoader loader;
 	/**
 	 * Creates a new Pizza GUI with the specified title 
 	 * @param title - The title for the supertype JFrame
@@ -82,22 +85,10 @@ public class PizzaGUI extends javax.swing.JFrame implements Runnable, ActionList
 		headingPanel.add(Box.createHorizontalGlue());
 		displayPanel.add(headingPanel, BorderLayout.NORTH);
 		
-		//Create a model for the jtable that disables users from editing the table contents
-		class myCustomerModel extends DefaultTableModel{
-			public myCustomerModel(String[] columns, int i){
-				super(columns, i);
-			}
-			public boolean isCellEditable(int row, int column){  
-	          return false;  
-			}
-		}
-		
-		//Create customer and pizza order tables
-		String[] columns = {"Customer Name","Mobile","Type","X/Y location","Delivery Distance"};
-		customerTable = new JTable(new myCustomerModel(columns, 0));
+		//Create customer and pizza order tables, whose read only models are set once the restaurant is created
+		customerTable = new JTable();
 		displayPanel.add(new JScrollPane(customerTable), BorderLayout.WEST);
-		String[] columns2 = {"Pizza Type","Quantity","Order Price","Order Cost","Order Profit"};
-		pizzaTable = new JTable(new myCustomerModel(columns2, 0));
+		pizzaTable = new JTable();
 		displayPanel.add(new JScrollPane(pizzaTable), BorderLayout.EAST);
 		
 		//Create total value fields
@@ -113,6 +104,10 @@ public class PizzaGUI extends javax.swing.JFrame implements Runnable, ActionList
 		totalValuePanel.add(totalDistance);
 		totalValuePanel.add(totalProf);
 		totalValuePanel.add(totalProfit);
+		//Create a progress bar that shows how much of the log file has been loaded
+		progressBar = new JProgressBar(0, 100);
+		progressBar.setStringPainted(true);
+		totalValuePanel.add(progressBar);
 		displayPanel.add(totalValuePanel, BorderLayout.SOUTH);		
 		add(displayPanel, BorderLayout.CENTER);
 		
@@ -127,10 +122,14 @@ public class PizzaGUI extends javax.swing.JFrame implements Runnable, ActionList
 		total.addActionListener(this);
 		reset = new JButton("reset");
 		reset.addActionListener(this);
+		cancel = new JButton("cancel");
+		cancel.addActionListener(this);
+		cancel.setEnabled(false);
 		buttonPanel.add(open);
 		buttonPanel.add(view);
 		buttonPanel.add(total);
 		buttonPanel.add(reset);
+		buttonPanel.add(cancel);
 		add(buttonPanel, BorderLayout.SOUTH);
 		
 		setSize(new Dimension(WIDTH, HEIGHT));
@@ -142,6 +141,11 @@ public class PizzaGUI extends javax.swing.JFrame implements Runnable, ActionList
 	
 	public void run() {
 		restaurant = new PizzaRestaurant();
+		//The tables read the orders straight from the restaurant as their rows are rendered
+		customerModel = new CustomerTableModel(restaurant);
+		customerTable.setModel(customerModel);
+		pizzaModel = new PizzaTableModel(restaurant);
+		pizzaTable.setModel(pizzaModel);
 	}
 
 
@@ -155,6 +159,8 @@ public class PizzaGUI extends javax.swing.JFrame implements Runnable, ActionList
 			updateTotal();
 		} else if (buttonString == "reset"){
 			reset();
+		} else if (buttonString == "cancel"){
+			cancelLoading();
 		}
 	}
 
@@ -164,26 +170,16 @@ public class PizzaGUI extends javax.swing.JFrame implements Runnable, ActionList
 			int returnVal = fc.showOpenDialog(this);
 			if (returnVal == JFileChooser.APPROVE_OPTION){
 				File file = fc.getSelectedFile();
-				String filenameString = file.getName();
-				String path = ".\\logs\\" + filenameString;
-					try {
-						restaurant.processLog(path);	
-						//Display a success message and set loaded to true
-						JOptionPane.showMessageDialog(this, "Successfully loaded a log file");
-						loaded = true;
-					} catch (CustomerException e) {
-						JOptionPane.showMessageDialog(this, e.getMessage(), "Customer data error",
-							    JOptionPane.ERROR_MESSAGE);
-						loaded = false;
-					} catch (PizzaException e) {
-						JOptionPane.showMessageDialog(this, e.getMessage(), "Pizza data error",
-							    JOptionPane.ERROR_MESSAGE);
-						loaded = false;
-					} catch (LogHandlerException e) {
-						JOptionPane.showMessageDialog(this, e.getMessage(), "Log error",
-							    JOptionPane.ERROR_MESSAGE);
-						loaded = false;
+				//Load the log file in the background so that the window stays responsive
+				clearDetails();
+				loader = new LogLoader(file.getPath());
+				loader.addPropertyChangeListener(event -> {
+					if ("progress".equals(event.getPropertyName())){
+						progressBar.setValue((Integer) event.getNewValue());
 					}
+				});
+				setLoading(true);
+				loader.execute();
 			}
 		//If a log file is already loaded, show an error message
 		} else {
@@ -192,69 +188,51 @@ public class PizzaGUI extends javax.swing.JFrame implements Runnable, ActionList
 		}
 	}
 	
+	/**
+	 * Stops loading the log file. The orders loaded so far are removed.
+	 */
+	public void cancelLoading(){
+		if (loader != null){
+			loader.cancel(false);
+		}
+	}
+	
+	//Enables the cancel button while a log file is loading and the other buttons otherwise
+	private void setLoading(boolean loading){
+		open.setEnabled(!loading);
+		view.setEnabled(!loading);
+		total.setEnabled(!loading);
+		reset.setEnabled(!loading);
+		cancel.setEnabled(loading);
+	}
+	
+	//Empties the restaurant, the tables and the totals
+	private void clearDetails(){
+		restaurant.resetDetails();
+		customerModel.setNumRows(0);
+		pizzaModel.setNumRows(0);
+		totalDistance.setText("");
+		totalProfit.setText("");
+		progressBar.setValue(0);
+	}
+	
 	public void updateTables(){
-		try {
-			ArrayList<Object> data = new ArrayList<Object>();
-			int customerOrders, pizzaOrders;
-			//Get reference to the model for customer table and pizza table to edit.
-			customerModel = (DefaultTableModel)customerTable.getModel();
-			pizzaModel = (DefaultTableModel)pizzaTable.getModel();
-			if (loaded) {
-				//Fill customer table
-				if ((customerOrders = restaurant.getNumCustomerOrders()) != 0){
-					for (int i=0; i< customerOrders; i++){
-						Customer customer = restaurant.getCustomerByIndex(i);
-						data.add(customer.getName());
-						data.add(customer.getMobileNumber());
-						data.add(customer.getCustomerType());
-						data.add(customer.getLocationX()+"/"+customer.getLocationY());
-						//Round the distance to 2 decimal places
-						String distanceFormatted = decimalFormat.format(customer.getDeliveryDistance());
-						data.add(distanceFormatted + " blocks");
-						Object[] row = new Object[data.size()];
-						row = data.toArray(row);
-						customerModel.addRow(row);
-						data.clear();
-					}
-				}
-				//Fill pizza table
-				if ((pizzaOrders = restaurant.getNumPizzaOrders()) != 0) {
-					for(int i=0; i < pizzaOrders; i++){
-						Pizza pizza = restaurant.getPizzaByIndex(i);
-						data.add(pizza.getPizzaType());
-						data.add(pizza.getQuantity());
-						data.add(pizza.getOrderPrice());
-						String costFormatted = decimalFormat.format(pizza.getOrderCost());
-						data.add("$"+costFormatted);
-						String profitFormatted = decimalFormat.format(pizza.getOrderProfit());
-						data.add("$"+profitFormatted);
-						Object[] row = new Object[data.size()];
-						row = data.toArray(row);
-						pizzaModel.addRow(row);
-						data.clear();
-					}
-				}
-				JOptionPane.showMessageDialog(this, "Successfully displayed the data");
-			//If log file is not loaded, throw an error message
-			} else {
-				JOptionPane.showMessageDialog(this, "You must load a log file first", "Error",
-					    JOptionPane.ERROR_MESSAGE);
-			}			
-		} catch (CustomerException e){
-			JOptionPane.showMessageDialog(this, e.getMessage(), "Error displaying customer data",
-				    JOptionPane.ERROR_MESSAGE);
-			loaded = false;
-		} catch (PizzaException e){
-			JOptionPane.showMessageDialog(this, e.getMessage(), "Error displaying Pizza data",
-				    JOptionPane.ERROR_MESSAGE);
-			loaded = false;
-		} catch (Exception e){
-			JOptionPane.showMessageDialog(this, e.getMessage(), "Error displaying data.",
+		if (loaded) {
+			addRows();
+			JOptionPane.showMessageDialog(this, "Successfully displayed the data");
+		//If log file is not loaded, throw an error message
+		} else {
+			JOptionPane.showMessageDialog(this, "You must load a log file first", "Error",
 				    JOptionPane.ERROR_MESSAGE);
-			loaded = false;
 		}
 	}
 	
+	//Shows a row in the tables for each order of the restaurant
+	private void addRows(){
+		customerModel.setNumRows(restaurant.getNumCustomerOrders());
+		pizzaModel.setNumRows(restaurant.getNumPizzaOrders());
+	}
+	
 	public void updateTotal(){
 		if (loaded){
 			//Update total delivery distance
@@ -272,18 +250,7 @@ public class PizzaGUI extends javax.swing.JFrame implements Runnable, ActionList
 	
 	public void reset(){
 		if (loaded){
-			restaurant.resetDetails();
-			if (customerModel.getRowCount() > 0 && pizzaModel.getRowCount() > 0){
-				for (int i= customerModel.getRowCount()-1; i > -1 ; i--){
-					customerModel.removeRow(i);
-				}
-				
-				for (int i=pizzaModel.getRowCount()-1; i > -1 ; i--){
-					pizzaModel.removeRow(i);
-				}
-			}
-			totalDistance.setText("");
-			totalProfit.setText("");
+			clearDetails();
 			JOptionPane.showMessageDialog(this, "Reset successful");
 			loaded = false;
 		//If not loaded, throw an error message
@@ -292,4 +259,72 @@ public class PizzaGUI extends javax.swing.JFrame implements Runnable, ActionList
 				    JOptionPane.ERROR_MESSAGE);
 		}	
 	}
+	
+	/**
+	 * A worker that loads a log file in the background. The orders of each chunk of the log file are added to
+	 * the restaurant and the tables on the Event Dispatch Thread as soon as the chunk has been read, and the progress
+	 * is the percentage of the bytes of the log file read so far.
+	 */
+	class LogLoader extends SwingWorker<Boolean, List<OrderRecord>> {
+		private final String path;
+		
+		LogLoader(String path){
+			this.path = path;
+		}
+		
+		@Override
+		protected Boolean doInBackground() throws Exception {
+			return ParallelLogReader.readOrders(path, (orders, bytesRead, fileSize) -> {
+				if (isCancelled()){
+					return false;
+				}
+				publish(orders);
+				setProgress((int) (bytesRead * 100 / fileSize));
+				return true;
+			});
+		}
+		
+		@Override
+		protected void process(List<List<OrderRecord>> chunks){
+			//Chunks published before the loading was cancelled are not shown
+			if (isCancelled()){
+				return;
+			}
+			for (List<OrderRecord> orders : chunks){
+				for (OrderRecord order : orders){
+					restaurant.addOrder(order);
+				}
+			}
+			addRows();
+		}
+		
+		@Override
+		protected void done(){
+			loader = null;
+			setLoading(false);
+			if (isCancelled()){
+				clearDetails();
+				JOptionPane.showMessageDialog(PizzaGUI.this, "Loading cancelled");
+				return;
+			}
+			try {
+				get();
+				progressBar.setValue(100);
+				//Display a success message and set loaded to true
+				JOptionPane.showMessageDialog(PizzaGUI.this, "Successfully loaded a log file");
+				loaded = true;
+			} catch (ExecutionException e){
+				//If the log file is invalid none of its orders are kept
+				clearDetails();
+				loaded = false;
+				Throwable cause = e.getCause();
+				String title = (cause instanceof CustomerException) ? "Customer data error"
+						: (cause instanceof PizzaException) ? "Pizza data error" : "Log error";
+				JOptionPane.showMessageDialog(PizzaGUI.this, cause.getMessage(), title, JOptionPane.ERROR_MESSAGE);
+			} catch (InterruptedException e){
+				clearDetails();
+				loaded = false;
+			}
+		}
+	}
 }
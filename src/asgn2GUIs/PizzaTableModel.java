@@ -0,0 +1,41 @@
+package asgn2GUIs;
+
+import asgn2Restaurant.OrderColumn;
+import asgn2Restaurant.PizzaRestaurant;
+
+/**
+ * A table model that shows the pizzas of a PizzaRestaurant, reading each cell from the stored orders when its row is
+ * rendered.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+class PizzaTableModel extends OrderTableModel {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Creates a model that shows none of the pizzas of the restaurant.
+	 * @param restaurant - The restaurant whose pizzas are shown
+	 */
+	PizzaTableModel(PizzaRestaurant restaurant) {
+		super(restaurant, "Pizza Type", "Quantity", "Order Price", "Order Cost", "Order Profit");
+	}
+
+	@Override
+	public Object getValueAt(int row, int column) {
+		//Each value is null if the restaurant was reset before the table was told
+		switch (column) {
+		case 0: return restaurant.getOrderValue(row, OrderColumn.PIZZA_TYPE);
+		case 1: return restaurant.getOrderValue(row, OrderColumn.QUANTITY);
+		case 2: return restaurant.getOrderValue(row, OrderColumn.ORDER_PRICE);
+		case 3: return formatAmount(restaurant.getOrderValue(row, OrderColumn.ORDER_COST));
+		default: return formatAmount(restaurant.getOrderValue(row, OrderColumn.ORDER_PROFIT));
+		}
+	}
+
+	//Formats an amount of dollars to 2 decimal places, or returns null if there is no amount
+	private Object formatAmount(Object amount) {
+		return amount == null ? null : "$" + decimalFormat.format(amount);
+	}
+
+}//end PizzaTableModel
@@ -20,6 +20,9 @@ public class MargheritaPizza extends Pizza {
 	private static String type = "Margherita";
 	//The price of the pizza paid by the customer "$"
 	private static double price = 8;
+	//The toppings of the pizza, shared by every margherita pizza
+	static final PizzaRecipe RECIPE = new PizzaRecipe(type, price,
+			PizzaTopping.CHEESE, PizzaTopping.TOMATO);
 	
 	/**
 	 * 
@@ -44,12 +47,8 @@ public class MargheritaPizza extends Pizza {
 	 * 7. the delivery time is one hour after the order time
 	 */
 	public MargheritaPizza(int quantity, LocalTime orderTime, LocalTime deliveryTime) throws PizzaException {
-		//Calls superclass method using supplied parameters and fields
-		super(quantity, orderTime, deliveryTime, type, price);
-		//clears the toppings array and adds the new toppings to it
-		toppings.clear();
-		toppings.add(PizzaTopping.CHEESE);
-		toppings.add(PizzaTopping.TOMATO);
+		//Calls superclass method using supplied parameters and the shared recipe
+		super(quantity, orderTime, deliveryTime, RECIPE);
 	}//end constructor
 	
 }//end MargheritaPizza
\ No newline at end of file
@@ -19,6 +19,9 @@ public class MeatLoversPizza extends Pizza {
 	private static String type = "Meat Lovers";
 	//The price of the pizza paid by the customer "$"
 	private static double price = 12;
+	//The toppings of the pizza, shared by every meat lovers pizza
+	static final PizzaRecipe RECIPE = new PizzaRecipe(type, price,
+			PizzaTopping.TOMATO, PizzaTopping.CHEESE, PizzaTopping.BACON, PizzaTopping.PEPPERONI, PizzaTopping.SALAMI);
 
 /**
  * 
@@ -43,15 +46,8 @@ public class MeatLoversPizza extends Pizza {
 	 * 7. the delivery time is one hour after the order time
 	 */
 	public MeatLoversPizza(int quantity, LocalTime orderTime, LocalTime deliveryTime) throws PizzaException {
-		//Calls the supercalss method using supplied parameters and fields
-		super(quantity, orderTime, deliveryTime, type, price);
-		//Clears the toppings array and adds the new toppings to it
-		toppings.clear();
-		toppings.add(PizzaTopping.TOMATO);
-		toppings.add(PizzaTopping.CHEESE);
-		toppings.add(PizzaTopping.BACON);
-		toppings.add(PizzaTopping.PEPPERONI);
-		toppings.add(PizzaTopping.SALAMI);
+		//Calls the supercalss method using supplied parameters and the shared recipe
+		super(quantity, orderTime, deliveryTime, RECIPE);
 	}//end constructor
 	
 }//end MeatLoversPizza
\ No newline at end of file
@@ -0,0 +1,33 @@
+package asgn2Pizzas;
+
+import java.time.LocalTime;
+
+import asgn2Exceptions.PizzaException;
+
+/**
+ * A class that represents a pizza made at the Pizza Palace restaurant from a recipe on a menu loaded from a file,
+ * rather than from one of the recipes built into the program. It has the same constraints as every other Pizza.
+ * 
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+public class MenuPizza extends Pizza {
+
+	/**
+	 * Creates an order of a pizza from a menu.
+	 * A PizzaException is thrown if the any of the constraints listed in Section 5.1 of the Assignment Specification are violated.
+	 * 
+	 * <P>PRE: TRUE
+	 * <P>POST: All field values including the cost per pizza are set
+	 *
+	 * @param quantity - The number of pizzas ordered 
+	 * @param orderTime - The time that the pizza order was made and sent to the kitchen 
+	 * @param deliveryTime - The time that the pizza was delivered to the customer
+	 * @param recipe - The recipe of the pizza on the menu
+	 * @throws PizzaException if the quantity, order time or delivery time violate the constraints of a Pizza
+	 */
+	public MenuPizza(int quantity, LocalTime orderTime, LocalTime deliveryTime, PizzaRecipe recipe) throws PizzaException {
+		super(quantity, orderTime, deliveryTime, recipe);
+	}//end constructor
+
+}//end MenuPizza
@@ -3,7 +3,6 @@ package asgn2Pizzas;
 import java.sql.Date;
 import java.text.SimpleDateFormat;
 import java.time.LocalTime;
-import java.util.ArrayList;
 
 import asgn2Exceptions.PizzaException;
 
@@ -28,20 +27,15 @@ public abstract class Pizza  {
 	private int quantity;
 	private LocalTime orderTime;
 	private LocalTime deliveryTime;
-	//Strings of each time for string comparison
-	private String orderTimeString;
-	private String deliveryTimeString;
 	//Minimum time for an order
-	private String minOrderTime = "19:00:00";
+	static final LocalTime MIN_ORDER_TIME = LocalTime.of(19, 0);
 	//Maximum time for an order
-	private String maxOrderTime = "22:59:00";
-	//Minimum and maximum order time strings as LocalTime type
-	private LocalTime minimum = LocalTime.parse(minOrderTime);
-	private LocalTime maximum = LocalTime.parse(maxOrderTime);
-	//Boolean to determine if a topping is on a pizza
-	private boolean onPizza;
-	//Array list accessed by the subclass
-	protected ArrayList<PizzaTopping> toppings = new ArrayList<PizzaTopping>();
+	static final LocalTime MAX_ORDER_TIME = LocalTime.of(22, 59);
+	//Minutes it takes to cook a pizza and the longest time a delivery can take after the order
+	static final int COOKING_MINUTES = 10;
+	static final int MAX_DELIVERY_MINUTES = 59;
+	//Recipe shared by every pizza of the same type
+	private final PizzaRecipe recipe;
 	
 	/**
 	 *  This class represents a pizza produced at the Pizza Palace restaurant.  A detailed description of the class's fields
@@ -50,13 +44,12 @@ public abstract class Pizza  {
 	 *  are violated. 
      *
      *  PRE: TRUE
-	 *  POST: All field values except cost per pizza are set
+	 *  POST: All field values including the cost per pizza are set
 	 * 
 	 * @param quantity - The number of pizzas ordered 
 	 * @param orderTime - The time that the pizza order was made and sent to the kitchen 
 	 * @param deliveryTime - The time that the pizza was delivered to the customer
-	 * @param type -  A human understandable description of this Pizza type
-	 * @param price - The price that the pizza is sold to the customer
+	 * @param recipe - The type, price and toppings of this Pizza, shared by every Pizza of the same type
 	 * @throws PizzaException if:
 	 * 1. the quantity is less than 1 or greater than 10
 	 * 2. the order time and delivery times aren't set
@@ -66,39 +59,66 @@ public abstract class Pizza  {
 	 * 6. the order time plus 10 minutes is after the delivery time as it takes 10 minutes to cook
 	 * 7. the delivery time is one hour after the order time
 	 */
-	public Pizza(int quantity, LocalTime orderTime, LocalTime deliveryTime, String type, double price) throws PizzaException {
-		//Conversion to strings
-		orderTimeString = orderTime.toString();
-		deliveryTimeString = deliveryTime.toString();
-		//Throw exception if quantity is less than 1 or greater than 10, if the string is empty, or if it is at an unacceptable time
-		if ((quantity < 1) || (quantity > 10) || (orderTimeString.isEmpty()) || (deliveryTimeString.isEmpty()) ||
-				(orderTime.isBefore(minimum)) ||(orderTime.isAfter(maximum)) ||(orderTime.isAfter(deliveryTime)) ||
-				(orderTime.plusMinutes(10).isAfter(deliveryTime)) || (deliveryTime.isAfter(orderTime.plusMinutes(59)))) {
+	public Pizza(int quantity, LocalTime orderTime, LocalTime deliveryTime, PizzaRecipe recipe) throws PizzaException {
+		//Throw exception if quantity is less than 1 or greater than 10, if a time is not set, or if it is at an unacceptable time
+		if ((quantity < 1) || (quantity > 10) || (orderTime == null) || (deliveryTime == null) ||
+				(orderTime.isBefore(MIN_ORDER_TIME)) ||(orderTime.isAfter(MAX_ORDER_TIME)) ||(orderTime.isAfter(deliveryTime)) ||
+				(orderTime.plusMinutes(COOKING_MINUTES).isAfter(deliveryTime)) || (deliveryTime.isAfter(orderTime.plusMinutes(MAX_DELIVERY_MINUTES)))) {
 			throw new PizzaException();
 		} else {
-			//Set the fields (with parsing) to the parameters passed by the subclass
+			//Set the fields to the parameters passed by the subclass, LocalTime is immutable so no copy is needed
 			this.quantity = quantity;
-			this.orderTime = LocalTime.parse(orderTimeString);
-			this.deliveryTime = LocalTime.parse(deliveryTimeString);
-			this.type = type;
-			this.price = price;
+			this.orderTime = orderTime;
+			this.deliveryTime = deliveryTime;
+			this.recipe = recipe;
+			this.type = recipe.getPizzaType();
+			this.price = recipe.getPricePerPizza();
+			calculateCostPerPizza();
 		}//end if-else
 	}//end constructor
 
+	/**
+	 *  This class represents a pizza produced at the Pizza Palace restaurant, given its type and price rather than a
+	 *  recipe. The pizza shares the recipe of the pizza of the same type and price on the installed menu, so it has
+	 *  the toppings of that pizza, and otherwise has a recipe of its own without any toppings. 
+	 *  A PizzaException is thrown if the any of the constraints listed in Section 5.1 of the Assignment Specification
+	 *  are violated. 
+     *
+     *  PRE: TRUE
+	 *  POST: All field values including the cost per pizza are set
+	 * 
+	 * @param quantity - The number of pizzas ordered 
+	 * @param orderTime - The time that the pizza order was made and sent to the kitchen 
+	 * @param deliveryTime - The time that the pizza was delivered to the customer
+	 * @param type -  A human understandable description of this Pizza type
+	 * @param price - The price that the pizza is sold to the customer
+	 * @throws PizzaException if the quantity, order time or delivery time violate the constraints listed above
+	 */
+	public Pizza(int quantity, LocalTime orderTime, LocalTime deliveryTime, String type, double price) throws PizzaException {
+		this(quantity, orderTime, deliveryTime, recipeOf(type, price));
+	}//end constructor
+
+	//Returns the recipe of the pizza of the type and price on the installed menu, or a new recipe without toppings
+	private static PizzaRecipe recipeOf(String type, double price) {
+		PizzaMenu menu = PizzaMenu.getCurrent();
+		int id = (type == null) ? -1 : menu.getIdOfType(type);
+		if (id >= 0 && menu.getPricePerPizza(id) == price) {
+			return menu.getRecipe(id);
+		}
+		//Interned so that Pizza.equals finds the type equal to that of other pizzas of the type
+		return new PizzaRecipe((type == null) ? null : type.intern(), price);
+	}//end RecipeOf
+
 	/**
 	 * Calculates how much a pizza would cost to make calculated from its toppings.
+	 * The sum of the toppings is calculated once by the recipe shared by every pizza of this type.
 	 *  
      * <P> PRE: TRUE
 	 * <P> POST: The cost field is set to sum of the Pizzas's toppings
 	 */
 	public final void calculateCostPerPizza() {
-		//Sets the cost field to zero
-		this.cost = 0;
-		//For each topping in the arraylist toppings,
-		//get the cost associated with it and add it to cost
-		for (PizzaTopping topping : toppings) {
-			this.cost += topping.getCost();
-		}//end for loop
+		//Sets the cost field to the precalculated sum of the toppings
+		this.cost = recipe.getCostPerPizza();
 	}//end CalculateCostPerPizza
 	
 	/**
@@ -122,9 +142,7 @@ public abstract class Pizza  {
 	 * @return The amount that the entire order costs to make, taking into account the type and quantity of pizzas. 
 	 */
 	public final double getOrderCost(){
-		//Calculates a new cost per pizza
-		calculateCostPerPizza();
-		//Returns cost per pizza multiplied by quantity
+		//Returns cost per pizza, set when the pizza was constructed, multiplied by quantity
 		return this.cost * this.quantity;
 	}//end GetOrderCost
 	
@@ -150,17 +168,18 @@ public abstract class Pizza  {
 	 * @return Returns  true if the instance of Pizza contains the specified topping and false otherwise.
 	 */
 	public final boolean containsTopping(PizzaTopping topping){
-		//Initializes onPizza boolean variable
-		onPizza = true;
-		//If the arraylist toppings contains the topping passed,
-		//return onPizza, else return !onPizza
-		if (toppings.contains(topping)) {
-			return onPizza;
-		} else {
-			return !onPizza;
-		}//end if-else
+		//A single bit test on the toppings of the recipe
+		return recipe.containsTopping(topping);
 	}//end ContainsTopping(PizzaTopping)
 	
+	/**
+	 * Returns the recipe of the pizza, which is shared by every pizza of the same type.
+	 * @return The type, price and toppings of the pizza.
+	 */
+	public final PizzaRecipe getRecipe(){
+		return this.recipe;
+	}//end
+	
 	/**
 	 * Returns the quantity of pizzas ordered. 
 	 * @return the quantity of pizzas ordered. 
@@ -169,6 +188,22 @@ public abstract class Pizza  {
 		return this.quantity;
 	}//end 
 
+	/**
+	 * Returns the time that the pizza order was made and sent to the kitchen.
+	 * @return the time that the pizza order was made.
+	 */
+	public final LocalTime getOrderTime(){
+		return this.orderTime;
+	}//end
+	
+	/**
+	 * Returns the time that the pizza was delivered to the customer.
+	 * @return the time that the pizza was delivered.
+	 */
+	public final LocalTime getDeliveryTime(){
+		return this.deliveryTime;
+	}//end
+	
 	/**
 	 * Returns a human understandable description of the Pizza's type. 
 	 * The valid alternatives are listed in Section 5.1 of the Assignment Specification. 
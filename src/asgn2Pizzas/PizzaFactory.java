@@ -1,22 +1,21 @@
 package asgn2Pizzas;
 
 import java.time.LocalTime;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
-
-import asgn2Customers.Customer;
-import asgn2Customers.DriverDeliveryCustomer;
-import asgn2Customers.DroneDeliveryCustomer;
-import asgn2Customers.PickUpCustomer;
-import asgn2Exceptions.CustomerException;
+
 import asgn2Exceptions.PizzaException;
 
 /**
  * A class that instantiates the subclasses of asgn2Pizzas.Pizza using the Factory Method pattern. 
  * The classes are instantiated from one of the three valid pizza codes outlined in
  * Section 5.3 of the Assignment Specification. Any other code will throw a PizzaException.      
+ * 
+ * Each code is three capital letters, so the codes are numbered from 0 to 26 * 26 * 26 - 1 and the constructor of each
+ * code is found by indexing a table with its number. Further pizzas can be registered with their own code when the
+ * program starts.
+ * 
+ * A registered code is accepted by getPizza and so by LogHandler. The memory mapped and parallel log readers,
+ * OrderStore and OrderSnapshot instead look codes up on the installed PizzaMenu and create its pizzas from the menu,
+ * so a pizza that every reader accepts is added by installing a menu with it rather than by registering it here.
  *  
  * @author Matthew Holdsworth
  *
@@ -24,7 +23,86 @@ import asgn2Exceptions.PizzaException;
 
 public class PizzaFactory {
 	
-	final static Set<String> pizzaCodes = new HashSet<String>(Arrays.asList(new String[]{"PZL", "PZM", "PZV"}));
+	//The number of letters in a code and the number of possible codes
+	static final int CODE_LENGTH = 3;
+	static final int NUM_CODES = 26 * 26 * 26;
+
+	/**
+	 * Creates a pizza of a single subclass of asgn2Pizzas.Pizza, such as the constructor of the subclass.
+	 */
+	@FunctionalInterface
+	public interface PizzaConstructor {
+		/**
+		 * Creates an order of the pizza.
+		 * @param quantity - The number of pizzas ordered
+		 * @param orderTime - The time that the pizza order was made and sent to the kitchen
+		 * @param deliveryTime - The time that the pizza was delivered to the customer
+		 * @return The pizza
+		 * @throws PizzaException If the order violates the pizza constraints
+		 */
+		Pizza create(int quantity, LocalTime orderTime, LocalTime deliveryTime) throws PizzaException;
+	}
+
+	//The constructor of each code by its number, replaced as a whole when a code is registered
+	private static volatile PizzaConstructor[] constructors = new PizzaConstructor[NUM_CODES];
+
+	static {
+		register("PZL", MeatLoversPizza::new);
+		register("PZM", MargheritaPizza::new);
+		register("PZV", VegetarianPizza::new);
+	}
+
+	/**
+	 * Registers the constructor of a pizza, replacing the constructor already registered for the code.
+	 * 
+	 * <P> PRE: TRUE
+	 * <P> POST: getPizza creates pizzas with the code using the constructor
+	 * 
+	 * Only LogHandler creates its pizzas with the constructor. The memory mapped and parallel log readers reject the
+	 * code unless it is on the installed PizzaMenu, and create the pizzas of the menu from the menu. Installing a
+	 * menu registers the codes of its pizzas again, replacing their constructors.
+	 * 
+	 * @param pizzaCode - A code of three capital letters
+	 * @param constructor - The constructor of the pizza
+	 * @throws IllegalArgumentException If the code is not three capital letters or the constructor is null
+	 */
+	public static synchronized void register(String pizzaCode, PizzaConstructor constructor) {
+		int index = codeIndex(pizzaCode);
+		if (index < 0 || constructor == null) {
+			throw new IllegalArgumentException("Cannot register the pizza code " + pizzaCode);
+		}
+		PizzaConstructor[] registered = constructors.clone();
+		registered[index] = constructor;
+		constructors = registered;
+	}//end Register
+
+	/**
+	 * Removes the constructor registered for a pizza code, as when a pizza is taken off the menu.
+	 * 
+	 * <P> PRE: TRUE
+	 * <P> POST: getPizza throws a PizzaException for the code
+	 * 
+	 * @param pizzaCode - A code of three capital letters
+	 */
+	static synchronized void unregister(String pizzaCode) {
+		int index = codeIndex(pizzaCode);
+		if (index >= 0) {
+			PizzaConstructor[] registered = constructors.clone();
+			registered[index] = null;
+			constructors = registered;
+		}
+	}//end Unregister
+
+	/**
+	 * Indicates if a constructor is registered for the pizza code. A registered code is only accepted by the memory
+	 * mapped and parallel log readers if it is also on the installed PizzaMenu, as described in register.
+	 * @param pizzaCode - A pizza code
+	 * @return true if getPizza creates pizzas with the code and false otherwise.
+	 */
+	public static boolean isRegistered(String pizzaCode) {
+		int index = codeIndex(pizzaCode);
+		return index >= 0 && constructors[index] != null;
+	}//end IsRegistered
 	
 	/**
 	 * A method that uses the Factory Method pattern to produce an instance of one of the asgn2Pizzas.Pizza subclasses. 
@@ -39,23 +117,35 @@ public class PizzaFactory {
 	 * @return A valid Pizza object using the specified parameters 
 	 * */
 	public static Pizza getPizza(String pizzaCode, int quantity, LocalTime orderTime, LocalTime deliveryTime) throws PizzaException {
-		if (!pizzaCodes.contains(pizzaCode)) {
+		int index = codeIndex(pizzaCode);
+		PizzaConstructor constructor = (index < 0) ? null : constructors[index];
+		if (constructor == null) {
 			throw new PizzaException("Invalid pizza code");
 		}//end if
 		try {
-			if (pizzaCode.equals("PZL")){
-				MeatLoversPizza meatlovers = new MeatLoversPizza(quantity, orderTime, deliveryTime);
-				return meatlovers;
-			} else if (pizzaCode.equals("PZM")) {
-				MargheritaPizza margherita = new MargheritaPizza(quantity, orderTime, deliveryTime);
-				return margherita;
-			} else {
-				VegetarianPizza vegetarian = new VegetarianPizza(quantity, orderTime, deliveryTime);
-				return vegetarian;
-			}//end if-else
-		} catch (Exception e) {
+			return constructor.create(quantity, orderTime, deliveryTime);
+		} catch (RuntimeException e) {
 			throw new PizzaException(e.getMessage());
 		}//end try-catch block
 	}//end Pizza
+
+	/**
+	 * Returns the number of a code of three capital letters.
+	 * @param code - The code, which can be read in place from a log file rather than from a String
+	 * @return The number of the code from 0 to NUM_CODES - 1, or -1 if it is not three capital letters
+	 */
+	static int codeIndex(CharSequence code) {
+		if (code == null || code.length() != CODE_LENGTH) {
+			return -1;
+		}
+		int first = code.charAt(0) - 'A';
+		int second = code.charAt(1) - 'A';
+		int third = code.charAt(2) - 'A';
+		//A letter outside A to Z makes its number negative or above 25
+		if ((first | second | third) < 0 || first > 25 || second > 25 || third > 25) {
+			return -1;
+		}
+		return (first * 26 + second) * 26 + third;
+	}//end CodeIndex
 	
 }//end PizzaFactory
@@ -0,0 +1,368 @@
+package asgn2Pizzas;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+
+import asgn2Exceptions.PizzaException;
+import asgn2Pizzas.PizzaFactory.PizzaConstructor;
+
+/**
+ * A class that represents the menu of pizzas sold at the Pizza Palace restaurant. Each pizza on the menu has an id,
+ * numbered from 0 in the order of the menu, a three letter code and a recipe. The price, cost and profit of a single
+ * pizza are calculated once for each pizza on the menu and kept in arrays indexed by id, so that the price or profit
+ * of an order is found without creating a Pizza.
+ *
+ * A menu can be loaded from a text file with a line for each pizza, giving its code, type, price and toppings
+ * separated by commas, with the toppings separated by spaces and their costs taken from PizzaTopping. Blank lines
+ * and lines starting with # are ignored. For example:
+ *
+ * <pre>
+ * PZM,Margherita,8,CHEESE TOMATO
+ * </pre>
+ *
+ * Installing a menu registers its pizzas with PizzaFactory, and the log readers and order stores of the restaurant
+ * accept the codes of the installed menu. A menu must keep the pizzas of the default menu, under the same codes and
+ * types, as log files refer to them, but can change their prices and toppings and add further pizzas. A menu holds
+ * at most MAX_SIZE pizzas, so that the id of a pizza fits in a byte.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+public final class PizzaMenu {
+	//The number of parameters on each line of a menu file, and their indexes
+	static final int NUM_PARAMETERS = 4;
+	static final int CODE = 0;
+	static final int TYPE = 1;
+	static final int PRICE = 2;
+	static final int TOPPINGS = 3;
+
+	/**
+	 * The largest number of pizzas on a menu.
+	 */
+	public static final int MAX_SIZE = Byte.MAX_VALUE;
+
+	/**
+	 * The system property that names the menu file to install when the program starts.
+	 */
+	public static final String MENU_PROPERTY = "asgn2.menu";
+
+	/**
+	 * The name of the menu file that is installed when the program starts if it is found and no file is named by
+	 * MENU_PROPERTY.
+	 */
+	public static final String MENU_FILE_NAME = "menu.txt";
+
+	/**
+	 * The menu of the pizzas built into the program, which is used when no other menu is installed.
+	 */
+	public static final PizzaMenu DEFAULT = new PizzaMenu(new String[] {"PZL", "PZM", "PZV"},
+			new PizzaRecipe[] {MeatLoversPizza.RECIPE, MargheritaPizza.RECIPE, VegetarianPizza.RECIPE},
+			new PizzaConstructor[] {MeatLoversPizza::new, MargheritaPizza::new, VegetarianPizza::new});
+
+	private static volatile PizzaMenu current = DEFAULT;
+
+	private final String[] codes;
+	private final PizzaRecipe[] recipes;
+	private final PizzaConstructor[] constructors;
+	private final double[] prices;
+	private final double[] costs;
+	private final double[] profits;
+	//The id of each code by the number given to it by PizzaFactory, or -1 if the code is not on the menu
+	private final int[] ids = new int[PizzaFactory.NUM_CODES];
+	//The id of each pizza by its type
+	private final HashMap<String, Integer> typeIds = new HashMap<String, Integer>();
+
+	/**
+	 * Creates a menu of the pizzas, calculating the price, cost and profit of a single pizza of each.
+	 *
+	 * <P> PRE: The codes are distinct codes of three capital letters
+	 * <P> POST: The id of each pizza is its index in the arrays
+	 *
+	 * @param codes - The code of each pizza
+	 * @param recipes - The recipe of each pizza
+	 * @param constructors - The constructor of each pizza
+	 */
+	private PizzaMenu(String[] codes, PizzaRecipe[] recipes, PizzaConstructor[] constructors) {
+		this.codes = codes;
+		this.recipes = recipes;
+		this.constructors = constructors;
+		prices = new double[codes.length];
+		costs = new double[codes.length];
+		profits = new double[codes.length];
+		Arrays.fill(ids, -1);
+		for (int id = 0; id < codes.length; id++) {
+			prices[id] = recipes[id].getPricePerPizza();
+			costs[id] = recipes[id].getCostPerPizza();
+			profits[id] = prices[id] - costs[id];
+			ids[PizzaFactory.codeIndex(codes[id])] = id;
+			typeIds.put(recipes[id].getPizzaType(), id);
+		}//end for loop
+	}//end constructor
+
+	/**
+	 * Loads a menu from a file with a line for each pizza, each giving its code, type, price and toppings.
+	 * @param filename - The file name of the menu
+	 * @return The menu of the pizzas in the order they appear in the file
+	 * @throws PizzaException If the file cannot be read, contains more than MAX_SIZE pizzas, a line does not contain the
+	 * right number of parameters, or a code is not three capital letters or appears twice, a type is empty or appears
+	 * twice, a price is not a number that is at least zero or a topping is not a PizzaTopping.
+	 */
+	public static PizzaMenu load(String filename) throws PizzaException {
+		ArrayList<String> codes = new ArrayList<String>();
+		ArrayList<PizzaRecipe> recipes = new ArrayList<PizzaRecipe>();
+		Set<String> types = new HashSet<String>();
+		try (BufferedReader reader = Files.newBufferedReader(Paths.get(filename), StandardCharsets.UTF_8)) {
+			int lineNumber = 0;
+			String line;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				if (line.trim().isEmpty() || line.startsWith("#")) {
+					continue;
+				}
+				String[] parameters = line.split(",", -1);
+				if (codes.size() == MAX_SIZE) {
+					throw invalidLine(lineNumber, "The menu contains more than " + MAX_SIZE + " pizzas");
+				} else if (parameters.length != NUM_PARAMETERS) {
+					throw invalidLine(lineNumber, "A line does not contain the right number of parameters");
+				}
+				String code = parameters[CODE].trim();
+				if (PizzaFactory.codeIndex(code) < 0 || codes.contains(code)) {
+					throw invalidLine(lineNumber, "Invalid or repeated pizza code " + code);
+				}
+				//Interned so that the type is the same String as that of the built in pizzas, which Pizza.equals compares
+				String type = parameters[TYPE].trim().intern();
+				if (type.isEmpty() || !types.add(type)) {
+					throw invalidLine(lineNumber, "Empty or repeated pizza type " + type);
+				}
+				recipes.add(new PizzaRecipe(type, parsePrice(parameters[PRICE].trim(), lineNumber),
+						parseToppings(parameters[TOPPINGS].trim(), lineNumber)));
+				codes.add(code);
+			}//end while loop
+		} catch (IOException e) {
+			throw new PizzaException(e.getMessage());
+		}//end try-catch block
+		PizzaConstructor[] constructors = new PizzaConstructor[recipes.size()];
+		for (int id = 0; id < constructors.length; id++) {
+			PizzaRecipe recipe = recipes.get(id);
+			constructors[id] = (quantity, orderTime, deliveryTime) -> new MenuPizza(quantity, orderTime, deliveryTime, recipe);
+		}//end for loop
+		return new PizzaMenu(codes.toArray(new String[codes.size()]), recipes.toArray(new PizzaRecipe[recipes.size()]), constructors);
+	}//end Load
+
+	private static double parsePrice(String text, int lineNumber) throws PizzaException {
+		try {
+			double price = Double.parseDouble(text);
+			if (price >= 0 && !Double.isInfinite(price)) {
+				return price;
+			}
+		} catch (NumberFormatException e) {
+			//Reported below with the line number
+		}//end try-catch block
+		throw invalidLine(lineNumber, "Invalid pizza price " + text);
+	}//end ParsePrice
+
+	private static PizzaTopping[] parseToppings(String text, int lineNumber) throws PizzaException {
+		if (text.isEmpty()) {
+			return new PizzaTopping[0];
+		}
+		String[] names = text.split(" +");
+		PizzaTopping[] toppings = new PizzaTopping[names.length];
+		for (int i = 0; i < names.length; i++) {
+			try {
+				toppings[i] = PizzaTopping.valueOf(names[i]);
+			} catch (IllegalArgumentException e) {
+				throw invalidLine(lineNumber, "Invalid pizza topping " + names[i]);
+			}//end try-catch block
+		}//end for loop
+		return toppings;
+	}//end ParseToppings
+
+	private static PizzaException invalidLine(int lineNumber, String message) {
+		return new PizzaException("Menu line " + lineNumber + ": " + message);
+	}
+
+	/**
+	 * Returns the file name of the menu to install when the program starts. This is the file named by the MENU_PROPERTY
+	 * system property if it is set, or else MENU_FILE_NAME in the first of the directories that contains one.
+	 * @param directories - The directories to look for MENU_FILE_NAME in, in order, any of which can be null
+	 * @return The file name of the menu, or null if there is none and the default menu is kept
+	 */
+	public static String findStartupFile(String... directories) {
+		String filename = System.getProperty(MENU_PROPERTY);
+		if (filename != null && !filename.isEmpty()) {
+			return filename;
+		}
+		for (String directory : directories) {
+			if (directory != null && Files.isRegularFile(Paths.get(directory, MENU_FILE_NAME))) {
+				return Paths.get(directory, MENU_FILE_NAME).toString();
+			}
+		}//end for loop
+		return null;
+	}//end FindStartupFile
+
+	/**
+	 * Returns the menu that is installed, which is the default menu unless another menu has been installed.
+	 * @return The installed menu
+	 */
+	public static PizzaMenu getCurrent() {
+		return current;
+	}
+
+	/**
+	 * Installs the menu, registering each of its pizzas with PizzaFactory so that orders of the pizzas are created
+	 * from the recipes of the menu. The pizzas of the menu installed before that are not on this menu are removed
+	 * from PizzaFactory. Orders already stored keep the menu they were stored with.
+	 *
+	 * <P> PRE: TRUE
+	 * <P> POST: The menu is the current menu and PizzaFactory creates the pizzas of the menu and no others
+	 *
+	 * @throws PizzaException If the menu does not contain each pizza of the default menu with the same code and type
+	 */
+	public void install() throws PizzaException {
+		for (int id = 0; id < DEFAULT.size(); id++) {
+			int menuId = getId(DEFAULT.codes[id]);
+			if (menuId < 0 || !recipes[menuId].getPizzaType().equals(DEFAULT.recipes[id].getPizzaType())) {
+				throw new PizzaException("The menu does not contain the " + DEFAULT.recipes[id].getPizzaType()
+						+ " pizza with the code " + DEFAULT.codes[id]);
+			}
+		}//end for loop
+		synchronized (PizzaMenu.class) {
+			for (int id = 0; id < current.size(); id++) {
+				if (getId(current.codes[id]) < 0) {
+					PizzaFactory.unregister(current.codes[id]);
+				}
+			}//end for loop
+			for (int id = 0; id < codes.length; id++) {
+				PizzaFactory.register(codes[id], constructors[id]);
+			}//end for loop
+			current = this;
+		}
+	}//end Install
+
+	/**
+	 * Returns the number of pizzas on the menu.
+	 * @return The number of pizzas, one more than the largest id
+	 */
+	public int size() {
+		return codes.length;
+	}
+
+	/**
+	 * Returns the id of the pizza with a code.
+	 * @param pizzaCode - A pizza code, which can be read in place from a log file rather than from a String
+	 * @return The id of the pizza, or -1 if no pizza on the menu has the code
+	 */
+	public int getId(CharSequence pizzaCode) {
+		int index = PizzaFactory.codeIndex(pizzaCode);
+		return (index < 0) ? -1 : ids[index];
+	}
+
+	/**
+	 * Returns the id of the pizza of a type.
+	 * @param pizzaType - A human understandable description of a pizza type
+	 * @return The id of the pizza, or -1 if no pizza on the menu has the type
+	 */
+	public int getIdOfType(String pizzaType) {
+		Integer id = typeIds.get(pizzaType);
+		return (id == null) ? -1 : id;
+	}
+
+	/**
+	 * Returns the code of a pizza.
+	 * @param id - The id of the pizza, from 0 to size() - 1
+	 * @return The three letter code of the pizza
+	 */
+	public String getCode(int id) {
+		return codes[id];
+	}
+
+	/**
+	 * Returns the recipe of a pizza.
+	 * @param id - The id of the pizza, from 0 to size() - 1
+	 * @return The type, price and toppings of the pizza
+	 */
+	public PizzaRecipe getRecipe(int id) {
+		return recipes[id];
+	}
+
+	/**
+	 * Returns the amount that a single pizza is sold to the customer.
+	 * @param id - The id of the pizza, from 0 to size() - 1
+	 * @return The price of a single pizza
+	 */
+	public double getPricePerPizza(int id) {
+		return prices[id];
+	}
+
+	/**
+	 * Returns the amount that a single pizza costs to make.
+	 * @param id - The id of the pizza, from 0 to size() - 1
+	 * @return The cost of the toppings of a single pizza
+	 */
+	public double getCostPerPizza(int id) {
+		return costs[id];
+	}
+
+	/**
+	 * Returns the profit made on a single pizza.
+	 * @param id - The id of the pizza, from 0 to size() - 1
+	 * @return The price minus the cost of a single pizza
+	 */
+	public double getProfitPerPizza(int id) {
+		return profits[id];
+	}
+
+	/**
+	 * Returns the amount that an order of a pizza is sold for, calculated in the same way as Pizza.getOrderPrice.
+	 * @param id - The id of the pizza, from 0 to size() - 1
+	 * @param quantity - The number of pizzas ordered
+	 * @return The price of a single pizza times the quantity
+	 */
+	public double getOrderPrice(int id, int quantity) {
+		return prices[id] * quantity;
+	}
+
+	/**
+	 * Returns the amount that an order of a pizza costs to make, calculated in the same way as Pizza.getOrderCost.
+	 * @param id - The id of the pizza, from 0 to size() - 1
+	 * @param quantity - The number of pizzas ordered
+	 * @return The cost of a single pizza times the quantity
+	 */
+	public double getOrderCost(int id, int quantity) {
+		return costs[id] * quantity;
+	}
+
+	/**
+	 * Returns the profit made on an order of a pizza, calculated in the same way as Pizza.getOrderProfit so that the
+	 * profit is exactly that of the Pizza of the order.
+	 * @param id - The id of the pizza, from 0 to size() - 1
+	 * @param quantity - The number of pizzas ordered
+	 * @return The order price minus the order cost
+	 */
+	public double getOrderProfit(int id, int quantity) {
+		return prices[id] * quantity - costs[id] * quantity;
+	}
+
+	/**
+	 * Creates an order of a pizza on the menu.
+	 * @param id - The id of the pizza, from 0 to size() - 1
+	 * @param quantity - The number of pizzas ordered
+	 * @param orderTime - The time that the pizza order was made and sent to the kitchen
+	 * @param deliveryTime - The time that the pizza was delivered to the customer
+	 * @return The pizza
+	 * @throws PizzaException If the order violates the pizza constraints
+	 */
+	public Pizza createPizza(int id, int quantity, LocalTime orderTime, LocalTime deliveryTime) throws PizzaException {
+		return constructors[id].create(quantity, orderTime, deliveryTime);
+	}
+
+}//end PizzaMenu
@@ -0,0 +1,94 @@
+package asgn2Pizzas;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * A class that represents the recipe of a type of pizza sold at the Pizza Palace restaurant, that is its human 
+ * understandable description, the price it is sold for and its set of toppings. A recipe is immutable and is
+ * created once for each type of pizza, so every pizza of that type shares the same toppings and the cost 
+ * per pizza is only calculated once, when the recipe is created.
+ * 
+ * @author Matthew Holdsworth
+ *
+ */
+public final class PizzaRecipe {
+	//A human understandable description of the pizza type
+	private final String type;
+	//The price of the pizza paid by the customer "$"
+	private final double price;
+	//The cost of the toppings of a single pizza
+	private final double costPerPizza;
+	//The toppings, both as a set and as a bit for each topping
+	private final Set<PizzaTopping> toppings;
+	private final long toppingMask;
+
+	/**
+	 * Creates a recipe for a type of pizza and calculates its cost per pizza from the toppings.
+	 * 
+	 * <P> PRE: TRUE
+	 * <P> POST: All field values including the cost per pizza are set
+	 * 
+	 * @param type - A human understandable description of the pizza type
+	 * @param price - The price that the pizza is sold to the customer
+	 * @param toppings - The toppings of the pizza, with their costs added in the order given
+	 */
+	public PizzaRecipe(String type, double price, PizzaTopping... toppings) {
+		this.type = type;
+		this.price = price;
+		EnumSet<PizzaTopping> toppingSet = EnumSet.noneOf(PizzaTopping.class);
+		double cost = 0;
+		long mask = 0;
+		for (PizzaTopping topping : toppings) {
+			toppingSet.add(topping);
+			cost += topping.getCost();
+			mask |= 1L << topping.ordinal();
+		}//end for loop
+		this.toppings = Collections.unmodifiableSet(toppingSet);
+		this.costPerPizza = cost;
+		this.toppingMask = mask;
+	}//end constructor
+
+	/**
+	 * Returns a human understandable description of the pizza type.
+	 * @return A human understandable description of the pizza type.
+	 */
+	public String getPizzaType() {
+		return type;
+	}
+
+	/**
+	 * Returns the amount that a single pizza is sold to the customer.
+	 * @return The amount that a single pizza is sold to the customer.
+	 */
+	public double getPricePerPizza() {
+		return price;
+	}
+
+	/**
+	 * Returns the amount that a single pizza costs to make, which is the sum of the cost of its toppings.
+	 * @return The amount that a single pizza costs to make.
+	 */
+	public double getCostPerPizza() {
+		return costPerPizza;
+	}
+
+	/**
+	 * Returns the toppings of the pizza. The set cannot be modified.
+	 * @return The toppings of the pizza.
+	 */
+	public Set<PizzaTopping> getToppings() {
+		return toppings;
+	}
+
+	/**
+	 * Indicates if the recipe contains the specified pizza topping or not. 
+	 * @param topping - A topping as specified in the enumeration PizzaTopping
+	 * @return true if the recipe contains the specified topping and false otherwise.
+	 */
+	public boolean containsTopping(PizzaTopping topping) {
+		return (toppingMask & (1L << topping.ordinal())) != 0;
+	}
+
+}//end PizzaRecipe
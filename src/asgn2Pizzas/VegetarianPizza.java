@@ -20,6 +20,9 @@ public class VegetarianPizza extends Pizza {
 	private static String type = "Vegetarian";
 	//The price of the pizza paid by the customer "$"
 	private static double price = 10;
+	//The toppings of the pizza, shared by every vegetarian pizza
+	static final PizzaRecipe RECIPE = new PizzaRecipe(type, price,
+			PizzaTopping.TOMATO, PizzaTopping.CHEESE, PizzaTopping.EGGPLANT, PizzaTopping.MUSHROOM, PizzaTopping.CAPSICUM);
 	
 	/**
 	 * 
@@ -43,15 +46,8 @@ public class VegetarianPizza extends Pizza {
 	 * 7. the delivery time is one hour after the order time
 	 */
 	public VegetarianPizza(int quantity, LocalTime orderTime, LocalTime deliveryTime) throws PizzaException {
-		//Calls the supercalss method using supplied parameters and fields
-		super(quantity, orderTime, deliveryTime, type, price);
-		//Clears the toppings array and adds the new toppings to it
-		toppings.clear();
-		toppings.add(PizzaTopping.TOMATO);
-		toppings.add(PizzaTopping.CHEESE);
-		toppings.add(PizzaTopping.EGGPLANT);
-		toppings.add(PizzaTopping.MUSHROOM);
-		toppings.add(PizzaTopping.CAPSICUM);
+		//Calls the supercalss method using supplied parameters and the shared recipe
+		super(quantity, orderTime, deliveryTime, RECIPE);
 	}//end constructor
 	
 }//end VegetarianPizza
\ No newline at end of file
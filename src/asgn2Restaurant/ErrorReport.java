@@ -0,0 +1,192 @@
+package asgn2Restaurant;
+
+import java.util.Arrays;
+
+import asgn2Exceptions.LogError;
+
+/**
+ * A class that reports the invalid lines of a log file that was read leniently, where the valid lines are kept and
+ * the invalid lines are skipped. Every invalid line is counted by the reason it is invalid, but only the first few
+ * lines for each reason are kept as samples, so the report stays small however many lines of a log file are invalid.
+ * Each sample gives the reason, the line number, the position of the start of the line in the log file and the index
+ * of the invalid parameter. The samples are kept in the order that the lines appear in the log file.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+public class ErrorReport {
+	public static final int DEFAULT_SAMPLES_PER_ERROR = 5;
+	private static final LogError[] ERRORS = LogError.values();
+
+	private final int samplesPerError;
+	private final long[] counts = new long[ERRORS.length];
+	private long numInvalidLines;
+	private int numSamples;
+	private byte[] sampleErrors = new byte[0];
+	private long[] sampleLineNumbers = new long[0];
+	private long[] sampleOffsets = new long[0];
+	private byte[] sampleFields = new byte[0];
+
+	/**
+	 * Creates an empty report that keeps DEFAULT_SAMPLES_PER_ERROR samples for each reason.
+	 *
+	 * <P> PRE: TRUE
+	 * <P> POST: The report contains no invalid lines
+	 */
+	public ErrorReport() {
+		this(DEFAULT_SAMPLES_PER_ERROR);
+	}
+
+	/**
+	 * Creates an empty report that keeps the specified number of samples for each reason.
+	 *
+	 * <P> PRE: TRUE
+	 * <P> POST: The report contains no invalid lines
+	 *
+	 * @param samplesPerError - The most lines to keep as samples for each reason
+	 * @throws IllegalArgumentException If the number of samples is negative
+	 */
+	public ErrorReport(int samplesPerError) {
+		if (samplesPerError < 0) {
+			throw new IllegalArgumentException("The number of samples must not be negative");
+		}
+		this.samplesPerError = samplesPerError;
+	}
+
+	/**
+	 * Adds an invalid line to the report. The line is kept as a sample if fewer lines have been kept for its reason
+	 * than the number of samples per reason.
+	 * @param error - The reason that the line is invalid
+	 * @param lineNumber - The number of the line, counting from 1
+	 * @param offset - The position of the start of the line in the log file
+	 * @param fieldIndex - The index of the invalid parameter, or -1 if the whole line is invalid
+	 */
+	public void add(LogError error, long lineNumber, long offset, int fieldIndex) {
+		numInvalidLines++;
+		if (counts[error.ordinal()]++ >= samplesPerError) {
+			return;
+		}
+		if (numSamples == sampleErrors.length) {
+			int capacity = Math.min(Math.max(numSamples * 2, 8), samplesPerError * ERRORS.length);
+			sampleErrors = Arrays.copyOf(sampleErrors, capacity);
+			sampleLineNumbers = Arrays.copyOf(sampleLineNumbers, capacity);
+			sampleOffsets = Arrays.copyOf(sampleOffsets, capacity);
+			sampleFields = Arrays.copyOf(sampleFields, capacity);
+		}
+		sampleErrors[numSamples] = (byte) error.ordinal();
+		sampleLineNumbers[numSamples] = lineNumber;
+		sampleOffsets[numSamples] = offset;
+		sampleFields[numSamples] = (byte) fieldIndex;
+		numSamples++;
+	}//end Add
+
+	/**
+	 * Adds the invalid lines of a report of a later part of the same log file, such as a chunk read in parallel.
+	 * The line numbers of the other report are counted from the start of its part of the log file.
+	 * @param other - The report of the later part of the log file
+	 * @param linesBefore - The number of lines of the log file before the part
+	 */
+	void addAll(ErrorReport other, long linesBefore) {
+		for (int i = 0; i < other.numSamples; i++) {
+			add(ERRORS[other.sampleErrors[i]], other.sampleLineNumbers[i] + linesBefore, other.sampleOffsets[i], other.sampleFields[i]);
+		}//end for loop
+		//Count the lines of the other report that were not kept as samples
+		for (int i = 0; i < counts.length; i++) {
+			long notSampled = other.counts[i] - Math.min(other.counts[i], other.samplesPerError);
+			counts[i] += notSampled;
+			numInvalidLines += notSampled;
+		}//end for loop
+	}//end AddAll
+
+	/**
+	 * Removes every invalid line from the report.
+	 *
+	 * <P> PRE: TRUE
+	 * <P> POST: The report contains no invalid lines
+	 */
+	public void clear() {
+		Arrays.fill(counts, 0);
+		numInvalidLines = 0;
+		numSamples = 0;
+	}
+
+	/**
+	 * Returns the most lines kept as samples for each reason.
+	 * @return The number of samples per reason
+	 */
+	public int getSamplesPerError() {
+		return samplesPerError;
+	}
+
+	/**
+	 * Returns the number of invalid lines in the report.
+	 * @return The number of invalid lines, whether or not they were kept as samples
+	 */
+	public long getNumInvalidLines() {
+		return numInvalidLines;
+	}
+
+	/**
+	 * Returns the number of invalid lines in the report for a reason.
+	 * @param error - The reason
+	 * @return The number of lines that are invalid for the reason
+	 */
+	public long getCount(LogError error) {
+		return counts[error.ordinal()];
+	}
+
+	/**
+	 * Returns the number of invalid lines kept as samples.
+	 * @return The number of samples, at most the number of samples per reason for each reason
+	 */
+	public int getNumSamples() {
+		return numSamples;
+	}
+
+	/**
+	 * Returns the reason that a sample line is invalid.
+	 * @param sample - The index of the sample, from 0 to getNumSamples() - 1
+	 * @return The reason that the line is invalid
+	 */
+	public LogError getSampleError(int sample) {
+		checkSample(sample);
+		return ERRORS[sampleErrors[sample]];
+	}
+
+	/**
+	 * Returns the line number of a sample line.
+	 * @param sample - The index of the sample, from 0 to getNumSamples() - 1
+	 * @return The number of the line, counting from 1
+	 */
+	public long getSampleLineNumber(int sample) {
+		checkSample(sample);
+		return sampleLineNumbers[sample];
+	}
+
+	/**
+	 * Returns the position of the start of a sample line in the log file.
+	 * @param sample - The index of the sample, from 0 to getNumSamples() - 1
+	 * @return The number of bytes of the log file before the line
+	 */
+	public long getSampleOffset(int sample) {
+		checkSample(sample);
+		return sampleOffsets[sample];
+	}
+
+	/**
+	 * Returns the index of the invalid parameter of a sample line.
+	 * @param sample - The index of the sample, from 0 to getNumSamples() - 1
+	 * @return The index of the parameter counting from 0, or -1 if the whole line is invalid
+	 */
+	public int getSampleFieldIndex(int sample) {
+		checkSample(sample);
+		return sampleFields[sample];
+	}
+
+	private void checkSample(int sample) {
+		if (sample < 0 || sample >= numSamples) {
+			throw new IndexOutOfBoundsException("Sample: " + sample + ", Samples: " + numSamples);
+		}
+	}
+
+}//end ErrorReport
@@ -0,0 +1,222 @@
+package asgn2Restaurant;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import asgn2Exceptions.CustomerException;
+import asgn2Exceptions.LogHandlerException;
+import asgn2Exceptions.PizzaException;
+
+/**
+ * A class that follows a log file as orders are appended to it, adding each new order to a PizzaRestaurant so that
+ * its running totals stay up to date. The position reached in the log file is remembered, so each line is read once
+ * and the log file is never read again from the start. A line is only read once its line terminator has been written.
+ * The directory of the log file is watched for changes so that new orders are read as soon as they are written,
+ * with the log file also checked at a regular interval in case a change is not reported.
+ *
+ * The orders are added on the thread that calls poll or follow, through the synchronized methods of the restaurant, so
+ * the restaurant can be read by other threads while the log file is followed. Only one thread should poll or follow
+ * at a time; poll is synchronized so that the position in the log file is not read by two threads at once.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+public class LogFollower implements Closeable {
+	//Size of each read of the appended part of the log file
+	static final int READ_SIZE = 1 << 16;
+
+	private final PizzaRestaurant restaurant;
+	private final FileChannel channel;
+	private final Path fileName;
+	private final WatchService watcher;
+	private final ByteBuffer buffer = ByteBuffer.allocate(READ_SIZE);
+	//Position of the first byte of the log file that has not been read
+	private long position;
+	//The bytes of a line whose terminator has not been written yet
+	private byte[] pending = new byte[128];
+	private int pendingLength;
+	//Whether the last byte read was a carriage return, so that a following new line ends the same line
+	private boolean afterCarriageReturn;
+	private volatile boolean closed;
+
+	/**
+	 * Opens the log file to follow from its start, adding its orders to the restaurant.
+	 *
+	 * <P> PRE: TRUE
+	 * <P> POST: No orders have been read from the log file
+	 *
+	 * @param filename - The file name of the log file
+	 * @param restaurant - The restaurant to add the orders to
+	 * @throws LogHandlerException If the log file cannot be opened or its directory cannot be watched
+	 */
+	public LogFollower(String filename, PizzaRestaurant restaurant) throws LogHandlerException {
+		this.restaurant = restaurant;
+		Path path = Paths.get(filename).toAbsolutePath();
+		this.fileName = path.getFileName();
+		try {
+			this.channel = FileChannel.open(path, StandardOpenOption.READ);
+			this.watcher = FileSystems.getDefault().newWatchService();
+			path.getParent().register(watcher, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+		} catch (IOException e) {
+			close();
+			throw new LogHandlerException(e.getMessage());
+		}//end try-catch block
+	}//end constructor
+
+	/**
+	 * Reads the lines appended to the log file since the last call and adds their orders to the restaurant.
+	 * If a line is invalid, or its order cannot be added to the restaurant, the orders before it are added, the line
+	 * is skipped and its exception is thrown, so that the next call carries on from the line after it.
+	 * @return The number of orders added to the restaurant
+	 * @throws CustomerException If a new line contains an invalid customer code or invalid customer detail.
+	 * @throws PizzaException If a new line violates the pizza constraints or contains an invalid pizza code.
+	 * @throws LogHandlerException If a new line cannot be parsed or its order cannot be added to the restaurant, or the log
+	 * file cannot be read or is shorter than the part already read.
+	 */
+	public synchronized int poll() throws CustomerException, PizzaException, LogHandlerException {
+		int added = 0;
+		try {
+			long size = channel.size();
+			if (size < position) {
+				throw new LogHandlerException("The log file is shorter than the part already read");
+			}
+			while (position < size) {
+				buffer.clear();
+				long blockStart = position;
+				int read = channel.read(buffer, blockStart);
+				if (read <= 0) {
+					break;
+				}
+				for (int i = 0; i < read; i++) {
+					byte b = buffer.get(i);
+					//Each byte is part of the pending line or of a line that has been added or skipped, so an exception
+					//thrown for a line leaves the position just after it
+					position = blockStart + i + 1;
+					boolean newLineAfterCarriageReturn = afterCarriageReturn && b == '\n';
+					afterCarriageReturn = b == '\r';
+					if (newLineAfterCarriageReturn) {
+						continue;
+					} else if (b != '\n' && b != '\r') {
+						append(b);
+						continue;
+					}
+					String line = new String(pending, 0, pendingLength, StandardCharsets.UTF_8);
+					pendingLength = 0;
+					OrderRecord order = LogHandler.createOrder(line);
+					try {
+						restaurant.addOrder(order);
+					} catch (RuntimeException e) {
+						//An order that the restaurant cannot store, such as a pizza that is not on its menu, is skipped
+						//in the same way as an invalid line
+						throw new LogHandlerException(e.getMessage());
+					}//end try-catch block
+					added++;
+				}//end for loop
+			}//end while loop
+		} catch (IOException e) {
+			throw new LogHandlerException(e.getMessage());
+		}//end try-catch block
+		return added;
+	}//end Poll
+
+	/**
+	 * Waits until the log file changes or the time runs out, whichever comes first.
+	 * @param timeoutMillis - The longest time to wait in milliseconds
+	 * @return true if a change to the log file was reported, otherwise false
+	 * @throws InterruptedException If the thread is interrupted while waiting
+	 */
+	public boolean awaitChange(long timeoutMillis) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+		try {
+			while (!closed) {
+				long remaining = deadline - System.nanoTime();
+				WatchKey key = watcher.poll(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+				if (key == null) {
+					return false;
+				}
+				boolean changed = false;
+				for (WatchEvent<?> event : key.pollEvents()) {
+					changed |= event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context());
+				}//end for loop
+				key.reset();
+				if (changed) {
+					return true;
+				}
+			}//end while loop
+		} catch (ClosedWatchServiceException e) {
+			//The follower was closed while waiting
+		}//end try-catch block
+		return false;
+	}//end AwaitChange
+
+	/**
+	 * Adds the orders of the log file to the restaurant as they are written, until the follower is closed by
+	 * another thread or a line is invalid. After an invalid line, follow can be called again to carry on after it.
+	 * @param pollMillis - The longest time in milliseconds to wait before checking the log file without a reported change
+	 * @throws CustomerException If a new line contains an invalid customer code or invalid customer detail.
+	 * @throws PizzaException If a new line violates the pizza constraints or contains an invalid pizza code.
+	 * @throws LogHandlerException If a new line cannot be parsed, or the log file cannot be read.
+	 * @throws InterruptedException If the thread is interrupted while waiting for a change
+	 */
+	public void follow(long pollMillis) throws CustomerException, PizzaException, LogHandlerException, InterruptedException {
+		while (!closed) {
+			try {
+				poll();
+			} catch (LogHandlerException e) {
+				if (closed) {
+					return;
+				}
+				throw e;
+			}//end try-catch block
+			awaitChange(pollMillis);
+		}//end while loop
+	}//end Follow
+
+	/**
+	 * Returns the position in the log file up to which lines have been read.
+	 * @return The number of bytes of the log file that have been read
+	 */
+	public synchronized long getPosition() {
+		return position;
+	}
+
+	/**
+	 * Stops following the log file and closes it. A thread waiting in follow returns.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		try {
+			if (watcher != null) {
+				watcher.close();
+			}
+			if (channel != null) {
+				channel.close();
+			}
+		} catch (IOException e) {
+			//Nothing more can be done once the log file is no longer followed
+		}//end try-catch block
+	}//end Close
+
+	private void append(byte b) {
+		if (pendingLength == pending.length) {
+			pending = Arrays.copyOf(pending, pendingLength * 2);
+		}
+		pending[pendingLength++] = b;
+	}
+
+}//end LogFollower
@@ -8,7 +8,6 @@ import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 
 import asgn2Customers.Customer;
@@ -32,9 +31,7 @@ public class LogHandler {
 	
 	final static int LOG_STRING_NUM_PARAMETERS = 9;
 	final static String COMMA = ",";
-	private static ArrayList<Customer> customers;
-	private static ArrayList<Pizza> pizzas;
-	private static String[] pizzaParameters;
+	final static int TIME_LENGTH = 8;
 	
 	/**
 	 * Returns an ArrayList of Customer objects from the information contained in the log file ordered as they appear in the log file.
@@ -45,7 +42,7 @@ public class LogHandler {
 	 */
 	public static ArrayList<Customer> populateCustomerDataset(String filename) throws CustomerException, LogHandlerException{		 
 		 try{
-			 customers = new ArrayList<Customer>();
+			 ArrayList<Customer> customers = new ArrayList<Customer>();
 			 BufferedReader br = new BufferedReader(new FileReader(filename));
 			 String line = br.readLine(); 
 			 while (line != null){
@@ -74,7 +71,7 @@ public class LogHandler {
 	public static ArrayList<Pizza> populatePizzaDataset(String filename) throws PizzaException, LogHandlerException {
 		try {
 			//Create new arraylist 'pizzas'
-			pizzas = new ArrayList<Pizza>();
+			ArrayList<Pizza> pizzas = new ArrayList<Pizza>();
 			//Create new buffered reader to read in the log file
 			BufferedReader reader = new BufferedReader(new FileReader(filename));
 			//Store the input in a variable
@@ -96,6 +93,50 @@ public class LogHandler {
 		}//end try-catch block
 	}//end PopulateDataSet<Pizza>		
 
+	/**
+	 * Returns an ArrayList of OrderRecord objects from the information contained in the log file ordered as they appear in the log file.
+	 * Each line of the log file is read and split only once, and the Customer and Pizza for that line are created together.
+	 * @param filename The file name of the log file
+	 * @return an ArrayList of OrderRecord objects from the information contained in the log file ordered as they appear in the log file.
+	 * @throws CustomerException If the log file contains an invalid customer code or invalid customer detail such that constructor of each customer types throw CustomerException.
+	 * @throws PizzaException If the log file contains semantic errors that violate the pizza constraints listed in Section 5.3 of 
+	 * the Assignment Specification or contain an invalid pizza code (passed by another class).
+	 * @throws LogHandlerException If there was a problem with the log file not related to the semantic errors above such as parsing errors and invalid number of parameters, or if there are other exceptions not specified such as accessing invalid index.
+	 */
+	public static ArrayList<OrderRecord> populateOrderDataset(String filename) throws CustomerException, PizzaException, LogHandlerException {
+		ArrayList<OrderRecord> orders = new ArrayList<OrderRecord>();
+		try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
+			String line = reader.readLine();
+			while (line != null) {
+				orders.add(createOrder(line));
+				line = reader.readLine();
+			}//end while loop
+			return orders;
+		} catch (CustomerException | PizzaException | LogHandlerException e) {
+			throw e;
+		} catch (Exception e) {
+			//To catch file related exceptions
+			throw new LogHandlerException(e.getMessage());
+		}//end try-catch block
+	}//end PopulateOrderDataset
+
+	/**
+	 * Creates an OrderRecord by parsing the information contained in a single line of the log file. The line is split once
+	 * and both the Customer and the Pizza are created from the same parameters. The format of each line is outlined in 
+	 * Section 5.3 of the Assignment Specification.
+	 * @param line - A line from the log file
+	 * @return An OrderRecord containing the Customer and Pizza from the line in the log file
+	 * @throws CustomerException - If the line contains invalid customer detail or an invalid customer code.
+	 * @throws PizzaException - If the line violates the pizza constraints or contains an invalid pizza code.
+	 * @throws LogHandlerException - If there was a problem with the line not related to the semantic errors above such as parsing errors and invalid number of parameters.
+	 */
+	public static OrderRecord createOrder(String line) throws CustomerException, PizzaException, LogHandlerException {
+		String[] parameters = splitLine(line);
+		Customer customer = createCustomer(parameters);
+		Pizza pizza = createPizza(parameters);
+		return new OrderRecord(customer, pizza);
+	}//end CreateOrder
+
 	/**
 	 * Creates a Customer object by parsing the  information contained in a single line of the log file. The format of 
 	 * each line is outlined in Section 5.3 of the Assignment Specification.  
@@ -105,16 +146,17 @@ public class LogHandler {
 	 * @throws LogHandlerException - If there was a problem with the log file not related to the semantic errors above such as parsing errors and invalid number of parameters, or if there are other exceptions not specified such as accessing invalid index.
 	 */
 	public static Customer createCustomer(String line) throws CustomerException, LogHandlerException{
-		//Throw a LogHandlerException if the line is empty or has no comma
-		if (line == "" || !line.contains(COMMA)){
-			throw new LogHandlerException("The line is empty or is not comma separated");
-		}
-		String[] parameters = line.split(COMMA);
-		//Throw a LogHandlerException if the number of parameters is not correct
-		if (parameters.length != LOG_STRING_NUM_PARAMETERS){
-			throw new LogHandlerException("One of the line does not contain the right number of parameters");
-		}
-		
+		return createCustomer(splitLine(line));
+	}
+
+	/**
+	 * Creates a Customer object from the parameters of a line of the log file that has already been split.
+	 * @param parameters - The comma separated parameters of a line from the log file
+	 * @return A Customer object containing the information from the parameters
+	 * @throws CustomerException - If the parameters contain invalid customer detail or an invalid customer code.
+	 * @throws LogHandlerException - If locationX or locationY cannot be parsed.
+	 */
+	private static Customer createCustomer(String[] parameters) throws CustomerException, LogHandlerException{
 		try {
 			String name = parameters[2];
 			String mobile = parameters[3];
@@ -142,24 +184,24 @@ public class LogHandler {
 	 * @throws LogHandlerException - If there was a problem with the log file not related to the semantic errors above such as parsing errors and invalid number of parameters, or if there are other exceptions not specified such as accessing invalid index.
 	 */
 	public static Pizza createPizza(String line) throws PizzaException, LogHandlerException{
-		//Throw exception if the line passed is empty or contains no commas
-		if (line == "" || !line.contains(COMMA)){
-			throw new LogHandlerException("The line is empty or is not comma separated");
-		}//end if
-		//Split the input by each comma and add to 'parameters' array
-		String[] pizzaParameters = line.split(COMMA);
-		//If the length of the array is not equal to the expected number of log parameters, throw exception
-		if (pizzaParameters.length != LOG_STRING_NUM_PARAMETERS){
-			throw new LogHandlerException("A line does not contain the right number of parameters");
-		}//end if
+		return createPizza(splitLine(line));
+	}//end CreatePizza
+
+	/**
+	 * Creates a Pizza object from the parameters of a line of the log file that has already been split.
+	 * @param pizzaParameters - The comma separated parameters of a line from the log file
+	 * @return A Pizza object containing the information from the parameters
+	 * @throws PizzaException - If the parameters violate the pizza constraints or contain an invalid pizza code.
+	 * @throws LogHandlerException - If the order time, delivery time or quantity cannot be parsed.
+	 */
+	private static Pizza createPizza(String[] pizzaParameters) throws PizzaException, LogHandlerException{
 		try {
 			//Assign parameters to respective fields with parsing
 			String pizzaCode = pizzaParameters[7];
 			int quantity = Integer.parseInt(pizzaParameters[8]);
-			//Used to check that the time format is "HH:mm:ss"
-			DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm:ss");
-			LocalTime orderTime = LocalTime.parse(pizzaParameters[0], formatter);
-			LocalTime deliveryTime = LocalTime.parse(pizzaParameters[1], formatter);
+			//Parse the times, which must be in the format "HH:mm:ss"
+			LocalTime orderTime = parseTime(pizzaParameters[0]);
+			LocalTime deliveryTime = parseTime(pizzaParameters[1]);
 			//Creates a new pizza with the provided parameters and returns it
 			Pizza newPizza = PizzaFactory.getPizza(pizzaCode, quantity, orderTime, deliveryTime);
 			return newPizza;
@@ -170,6 +212,71 @@ public class LogHandler {
 			//To catch invalid logfile input exceptions
 			throw new LogHandlerException("Parsing error. Incorrect orderTime, deliveryTime or quantity");
 		}//end try-catch block
-	}//end CreatePizza
+	}//end CreatePizza(String[])
+
+	/**
+	 * Parses a time in the fixed width format HH:mm:ss. The same times are accepted as by LocalTime.parse with the pattern
+	 * "HH:mm:ss", which also reads 24:00:00 as midnight, but without creating a formatter or any intermediate objects.
+	 * @param text - The time to parse
+	 * @return The parsed time
+	 * @throws LogHandlerException - If the text is not a valid time in the format HH:mm:ss.
+	 */
+	public static LocalTime parseTime(String text) throws LogHandlerException{
+		if (text.length() != TIME_LENGTH || text.charAt(2) != ':' || text.charAt(5) != ':'){
+			throw new LogHandlerException("Parsing error. Time is not in the format HH:mm:ss");
+		}
+		int secondOfDay = toSecondOfDay(twoDigits(text, 0), twoDigits(text, 3), twoDigits(text, 6));
+		if (secondOfDay < 0){
+			throw new LogHandlerException("Parsing error. Time is not in the format HH:mm:ss");
+		}
+		return LocalTime.ofSecondOfDay(secondOfDay);
+	}//end ParseTime
+
+	//Parses two decimal digits, returning -1 if either character is not a digit
+	private static int twoDigits(String text, int start){
+		int tens = text.charAt(start) - '0';
+		int units = text.charAt(start + 1) - '0';
+		if (tens < 0 || tens > 9 || units < 0 || units > 9){
+			return -1;
+		}
+		return tens * 10 + units;
+	}//end TwoDigits
+
+	/**
+	 * Converts the parsed fields of a time to the number of seconds after midnight, applying the same range checks as
+	 * LocalTime.parse with the pattern "HH:mm:ss". A negative field means that the field could not be parsed.
+	 * @param hour - The hour of the day, where 24 is only valid as 24:00:00
+	 * @param minute - The minute of the hour
+	 * @param second - The second of the minute
+	 * @return The number of seconds after midnight, or -1 if the fields are not a valid time
+	 */
+	static int toSecondOfDay(int hour, int minute, int second){
+		if (hour < 0 || minute < 0 || minute > 59 || second < 0 || second > 59){
+			return -1;
+		}
+		if (hour == 24 && minute == 0 && second == 0){
+			return 0;
+		}
+		return (hour > 23) ? -1 : hour * 3600 + minute * 60 + second;
+	}//end ToSecondOfDay
+
+	/**
+	 * Splits a single line of the log file into its comma separated parameters.
+	 * @param line - A line from the log file
+	 * @return The parameters of the line in the order they appear in the line
+	 * @throws LogHandlerException - If the line is empty, is not comma separated or does not contain the right number of parameters.
+	 */
+	private static String[] splitLine(String line) throws LogHandlerException{
+		//Throw a LogHandlerException if the line is empty or has no comma
+		if (line == "" || !line.contains(COMMA)){
+			throw new LogHandlerException("The line is empty or is not comma separated");
+		}
+		String[] parameters = line.split(COMMA);
+		//Throw a LogHandlerException if the number of parameters is not correct
+		if (parameters.length != LOG_STRING_NUM_PARAMETERS){
+			throw new LogHandlerException("A line does not contain the right number of parameters");
+		}
+		return parameters;
+	}//end SplitLine
 
 }//end LogHandler
@@ -0,0 +1,608 @@
+package asgn2Restaurant;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalTime;
+import java.util.ArrayList;
+
+import asgn2Customers.Customer;
+import asgn2Customers.CustomerFactory;
+import asgn2Exceptions.CustomerException;
+import asgn2Exceptions.LogError;
+import asgn2Exceptions.LogHandlerException;
+import asgn2Exceptions.PizzaException;
+import asgn2Pizzas.Pizza;
+import asgn2Pizzas.PizzaMenu;
+
+/**
+ * A class that reads the log file through a memory mapped buffer instead of a BufferedReader. The nine comma separated
+ * parameters of each line are located directly in the buffer and the numbers and times are parsed in place, so that a
+ * String is only created for the customer's name and mobile number. The lines are accepted and rejected exactly as
+ * they are by LogHandler.createOrder, including which exception is thrown. An invalid line is reported by an exception
+ * without a stack trace that gives the reason, the line number and the index of the invalid parameter, so that checking
+ * logs with many invalid lines is not slowed down by filling in stack traces.
+ *
+ * Lines can also be validated without creating an order, applying the same rules in the same order. The name and
+ * mobile number are then checked in place in the buffer, so validating a line of ASCII text allocates no objects.
+ *
+ * The customer codes accepted are the built-in codes and those registered with CustomerFactory. The pizza codes
+ * accepted are those of a PizzaMenu, the installed menu unless another is given, and the pizzas
+ * are created from the recipes of that menu. Lines can also be read straight into the columns of an OrderStore for
+ * the same menu, so that no Customer or Pizza is created for them.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+public class MappedLogReader {
+
+	//The largest region of the file that is mapped at a time
+	static final int MAX_WINDOW_SIZE = 1 << 30;
+	//Indexes of the parameters in a line of the log file
+	static final int ORDER_TIME = 0;
+	static final int DELIVERY_TIME = 1;
+	static final int NAME = 2;
+	static final int MOBILE = 3;
+	static final int CUSTOMER_CODE = 4;
+	static final int LOCATION_X = 5;
+	static final int LOCATION_Y = 6;
+	static final int PIZZA_CODE = 7;
+	static final int QUANTITY = 8;
+	//Returned by the number parsers when a parameter is not a number
+	static final long NOT_A_NUMBER = Long.MIN_VALUE;
+	static final int NOT_A_TIME = -1;
+
+	private final ByteBuffer buffer;
+	//The menu of the pizzas that the lines can order
+	private final PizzaMenu menu;
+	//The number of the line last read from the buffer, counting the lines of the log file before the buffer
+	private long lineNumber;
+	//The position in the buffer of the start of the line last read
+	private int lineStart;
+	//The reason and invalid parameter of the line last read, if it is invalid
+	private LogError lastError;
+	private int lastFieldIndex;
+	//Start and end (exclusive) of each parameter of the current line
+	private final int[] fieldStarts = new int[LogHandler.LOG_STRING_NUM_PARAMETERS];
+	private final int[] fieldEnds = new int[LogHandler.LOG_STRING_NUM_PARAMETERS];
+	//Reused when copying a parameter out of the buffer to create a String
+	private byte[] scratch = new byte[32];
+	//Views of the name and mobile number of the current line, used when validating without creating a String
+	private final FieldChars nameChars = new FieldChars();
+	private final FieldChars mobileChars = new FieldChars();
+	private final FieldChars pizzaCodeChars = new FieldChars();
+	private final FieldChars customerCodeChars = new FieldChars();
+	//The parsed parameters of the current line, set as the line is checked
+	private int customerType;
+	private int locationX;
+	private int locationY;
+	private int pizzaId;
+	private int quantity;
+	private int orderTime;
+	private int deliveryTime;
+
+	/**
+	 * Creates a reader over the lines contained between the position and the limit of the buffer.
+	 *
+	 * <P> PRE: The buffer starts at the beginning of a line
+	 * <P> POST: The reader returns the orders of the buffer in the order they appear
+	 *
+	 * @param buffer - The buffer holding the lines of the log file
+	 * @param menu - The menu of the pizzas that the lines can order
+	 */
+	MappedLogReader(ByteBuffer buffer, PizzaMenu menu) {
+		this(buffer, 0, menu);
+	}
+
+	/**
+	 * Creates a reader over the lines contained between the position and the limit of the buffer, numbering the
+	 * lines after the lines of the log file that come before the buffer.
+	 *
+	 * <P> PRE: The buffer starts at the beginning of a line
+	 * <P> POST: The reader returns the orders of the buffer in the order they appear
+	 *
+	 * @param buffer - The buffer holding the lines of the log file
+	 * @param linesBefore - The number of lines of the log file before the buffer
+	 * @param menu - The menu of the pizzas that the lines can order
+	 */
+	MappedLogReader(ByteBuffer buffer, long linesBefore, PizzaMenu menu) {
+		this.buffer = buffer;
+		this.lineNumber = linesBefore;
+		this.menu = menu;
+	}
+
+	/**
+	 * Returns an ArrayList of OrderRecord objects from the information contained in the log file ordered as they appear in the log file.
+	 * The file is memory mapped one region at a time so that log files larger than a single buffer can be read.
+	 * @param filename The file name of the log file
+	 * @return an ArrayList of OrderRecord objects from the information contained in the log file ordered as they appear in the log file.
+	 * @throws CustomerException If the log file contains an invalid customer code or invalid customer detail.
+	 * @throws PizzaException If the log file contains semantic errors that violate the pizza constraints or contain an invalid pizza code.
+	 * @throws LogHandlerException If there was a problem with the log file not related to the semantic errors above such as parsing errors,
+	 * invalid number of parameters or the file not being readable.
+	 */
+	public static ArrayList<OrderRecord> readOrders(String filename) throws CustomerException, PizzaException, LogHandlerException {
+		ArrayList<OrderRecord> orders = new ArrayList<OrderRecord>();
+		PizzaMenu menu = PizzaMenu.getCurrent();
+		try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+			long size = channel.size();
+			long position = 0;
+			while (position < size) {
+				ByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(size - position, MAX_WINDOW_SIZE));
+				//Only read up to the last complete line unless this is the end of the file
+				if (position + window.limit() < size) {
+					window.limit(lastLineEnd(window));
+				}
+				MappedLogReader reader = new MappedLogReader(window, orders.size(), menu);
+				OrderRecord order = reader.readOrder();
+				while (order != null) {
+					orders.add(order);
+					order = reader.readOrder();
+				}//end while loop
+				position += window.limit();
+			}//end while loop
+			return orders;
+		} catch (IOException e) {
+			throw new LogHandlerException(e.getMessage());
+		}//end try-catch block
+	}//end ReadOrders
+
+	/**
+	 * Returns the position just after the last line terminator of the buffer, so that a line is never split between two
+	 * regions of the file. A carriage return at the very end of the buffer is not used because it may be followed by a new line.
+	 * @param buffer - A region of the log file
+	 * @return The position just after the last complete line of the buffer
+	 * @throws LogHandlerException If the buffer does not contain a line terminator
+	 */
+	static int lastLineEnd(ByteBuffer buffer) throws LogHandlerException {
+		if (buffer.get(buffer.limit() - 1) == '\n') {
+			return buffer.limit();
+		}
+		for (int i = buffer.limit() - 2; i >= buffer.position(); i--) {
+			if (buffer.get(i) == '\n' || buffer.get(i) == '\r') {
+				return i + 1;
+			}
+		}//end for loop
+		throw new LogHandlerException("A line is longer than " + MAX_WINDOW_SIZE + " bytes");
+	}//end LastLineEnd
+
+	/**
+	 * Reads the next line of the buffer and creates the Customer and Pizza of the order. Lines are terminated
+	 * the same way as BufferedReader.readLine, by a new line, a carriage return or both.
+	 * @return The next order of the buffer, or null if there are no lines left
+	 * @throws CustomerException If the line contains an invalid customer code or invalid customer detail.
+	 * @throws PizzaException If the line violates the pizza constraints or contains an invalid pizza code.
+	 * @throws LogHandlerException If the line is empty, is not comma separated, does not contain the right number of parameters or cannot be parsed.
+	 */
+	OrderRecord readOrder() throws CustomerException, PizzaException, LogHandlerException {
+		int end = nextLine();
+		if (end < 0) {
+			return null;
+		}
+		splitLine(lineStart, end);
+		Customer customer = createCustomer();
+		Pizza pizza = createPizza();
+		return new OrderRecord(customer, pizza);
+	}//end ReadOrder
+
+	/**
+	 * Reads the next line of the buffer and adds its order to the end of an order store, without creating the Customer
+	 * and Pizza of the order. The line is checked against the same rules as readOrder, in the same order, and an invalid
+	 * line throws the same exception. The name and mobile number of ASCII text are looked up in the dictionary of the
+	 * store in place, so a String is only created for them the first time they are seen.
+	 * @param orders - The store to add the order to, for the menu of the reader
+	 * @return true if an order was added, or false if there are no lines left
+	 * @throws CustomerException If the line contains an invalid customer code or invalid customer detail.
+	 * @throws PizzaException If the line violates the pizza constraints or contains an invalid pizza code.
+	 * @throws LogHandlerException If the line is empty, is not comma separated, does not contain the right number of parameters or cannot be parsed.
+	 */
+	boolean readOrder(OrderStore orders) throws CustomerException, PizzaException, LogHandlerException {
+		int end = nextLine();
+		if (end < 0) {
+			return false;
+		}
+		splitLine(lineStart, end);
+		CharSequence name = chars(NAME, nameChars);
+		CharSequence mobileNumber = chars(MOBILE, mobileChars);
+		requireCustomer(name, mobileNumber);
+		requirePizza();
+		StringDictionary dictionary = orders.getDictionary();
+		orders.addEncoded(customerType, pizzaId, locationX, locationY, quantity, orderTime, deliveryTime,
+				dictionary.add(name), dictionary.add(mobileNumber));
+		return true;
+	}//end ReadOrder(OrderStore)
+
+	/**
+	 * Reads the next line of the buffer and checks it against the same rules as readOrder, in the same order, without
+	 * creating the Customer and Pizza of the order or throwing an exception. The reason that the line is invalid is
+	 * returned by getLastError.
+	 * @return true if a line was read, or false if there are no lines left
+	 */
+	boolean validateLine() {
+		int end = nextLine();
+		if (end < 0) {
+			return false;
+		}
+		LogError error = split(lineStart, end);
+		if (error == null) {
+			error = checkCustomer(chars(NAME, nameChars), chars(MOBILE, mobileChars));
+		}
+		if (error == null) {
+			checkPizza();
+		}
+		return true;
+	}//end ValidateLine
+
+	/**
+	 * Moves the buffer past the next line and starts a new line number. Lines are terminated the same way as
+	 * BufferedReader.readLine, by a new line, a carriage return or both.
+	 * @return The position just after the last byte of the line, or -1 if there are no lines left
+	 */
+	private int nextLine() {
+		if (!buffer.hasRemaining()) {
+			return -1;
+		}
+		int start = buffer.position();
+		int limit = buffer.limit();
+		int end = start;
+		while (end < limit && buffer.get(end) != '\n' && buffer.get(end) != '\r') {
+			end++;
+		}//end while loop
+		int next = end;
+		if (next < limit) {
+			next += (buffer.get(next) == '\r' && next + 1 < limit && buffer.get(next + 1) == '\n') ? 2 : 1;
+		}
+		buffer.position(next);
+		lineNumber++;
+		lineStart = start;
+		lastError = null;
+		lastFieldIndex = -1;
+		return end;
+	}//end NextLine
+
+	/**
+	 * Remembers the reason that the current line is invalid, so that the line can be reported without looking at
+	 * the exception thrown for it.
+	 * @param error - The reason that the line is invalid
+	 * @param fieldIndex - The index of the invalid parameter, or -1 if the whole line is invalid
+	 * @return The reason
+	 */
+	private LogError invalid(LogError error, int fieldIndex) {
+		lastError = error;
+		lastFieldIndex = fieldIndex;
+		return error;
+	}//end Invalid
+
+	/**
+	 * Returns the number of the line last read, counting the lines of the log file before the buffer.
+	 * @return The line number counting from 1, or the number of lines before the buffer if no line has been read
+	 */
+	long getLineNumber() {
+		return lineNumber;
+	}
+
+	/**
+	 * Returns the position in the buffer of the start of the line last read.
+	 * @return The position of the first byte of the line
+	 */
+	int getLineStart() {
+		return lineStart;
+	}
+
+	/**
+	 * Returns the reason that the line last read is invalid.
+	 * @return The reason, or null if the line is valid or no line has been read
+	 */
+	LogError getLastError() {
+		return lastError;
+	}
+
+	/**
+	 * Returns the index of the invalid parameter of the line last read.
+	 * @return The index of the parameter, or -1 if the whole line is invalid
+	 */
+	int getLastFieldIndex() {
+		return lastFieldIndex;
+	}
+
+	/**
+	 * Finds the start and end of each parameter of the line. Empty parameters at the end of the line are
+	 * ignored in the same way as String.split.
+	 * @param start - The position of the first byte of the line
+	 * @param end - The position just after the last byte of the line
+	 * @throws LogHandlerException If the line is empty, is not comma separated or does not contain the right number of parameters.
+	 */
+	private void splitLine(int start, int end) throws LogHandlerException {
+		LogError error = split(start, end);
+		if (error != null) {
+			throw new LogHandlerException(error, lineNumber, -1);
+		}
+	}//end SplitLine
+
+	/**
+	 * Finds the start and end of each parameter of the line, returning the reason that the line cannot be split.
+	 * @param start - The position of the first byte of the line
+	 * @param end - The position just after the last byte of the line
+	 * @return The reason that the line is invalid, or null if it contains the right number of parameters
+	 */
+	private LogError split(int start, int end) {
+		int count = 0;
+		int lastNonEmpty = -1;
+		int fieldStart = start;
+		boolean hasComma = false;
+		for (int i = start; i <= end; i++) {
+			if (i == end || buffer.get(i) == ',') {
+				hasComma |= i < end;
+				if (count < fieldStarts.length) {
+					fieldStarts[count] = fieldStart;
+					fieldEnds[count] = i;
+				}
+				if (i > fieldStart) {
+					lastNonEmpty = count;
+				}
+				count++;
+				fieldStart = i + 1;
+			}
+		}//end for loop
+		if (start == end || !hasComma) {
+			return invalid(LogError.EMPTY_LINE, -1);
+		}
+		if (lastNonEmpty + 1 != LogHandler.LOG_STRING_NUM_PARAMETERS) {
+			return invalid(LogError.WRONG_NUMBER_OF_PARAMETERS, -1);
+		}
+		return null;
+	}//end Split
+
+	/**
+	 * Creates the Customer of the current line.
+	 * @return A Customer object containing the information from the line
+	 * @throws CustomerException If the line contains an invalid customer code or invalid customer detail.
+	 * @throws LogHandlerException If locationX or locationY is not an integer.
+	 */
+	private Customer createCustomer() throws CustomerException, LogHandlerException {
+		String name = string(NAME);
+		String mobile = string(MOBILE);
+		//Check the customer before creating it so that an invalid customer is reported without a stack trace
+		requireCustomer(name, mobile);
+		return CustomerFactory.getCustomer(OrderStore.customerCode(customerType), name, mobile, locationX, locationY);
+	}//end CreateCustomer
+
+	/**
+	 * Checks the customer of the current line, throwing the exception for the reason that it is invalid.
+	 * @param name - The customer's name
+	 * @param mobileNumber - The customer's mobile number
+	 * @throws CustomerException If the line contains an invalid customer code or invalid customer detail.
+	 * @throws LogHandlerException If locationX or locationY is not an integer.
+	 */
+	private void requireCustomer(CharSequence name, CharSequence mobileNumber) throws CustomerException, LogHandlerException {
+		LogError error = checkCustomer(name, mobileNumber);
+		if (error == LogError.INVALID_LOCATION_NUMBER) {
+			throw new LogHandlerException(error, lineNumber, lastFieldIndex);
+		} else if (error != null) {
+			throw new CustomerException(error, lineNumber, lastFieldIndex);
+		}
+	}//end RequireCustomer
+
+	/**
+	 * Parses the location and customer code of the current line and checks the details of the customer.
+	 * @param name - The customer's name
+	 * @param mobileNumber - The customer's mobile number
+	 * @return The reason that the customer is invalid, or null if it is valid
+	 */
+	private LogError checkCustomer(CharSequence name, CharSequence mobileNumber) {
+		long locX = parseInt(LOCATION_X);
+		long locY = parseInt(LOCATION_Y);
+		if (locX == NOT_A_NUMBER || locY == NOT_A_NUMBER) {
+			return invalid(LogError.INVALID_LOCATION_NUMBER, (locX == NOT_A_NUMBER) ? LOCATION_X : LOCATION_Y);
+		}
+		locationX = (int) locX;
+		locationY = (int) locY;
+		customerCodeChars.start = fieldStarts[CUSTOMER_CODE];
+		customerCodeChars.end = fieldEnds[CUSTOMER_CODE];
+		customerType = OrderStore.customerType(customerCodeChars);
+		LogError error = OrderValidator.customerError(customerType, name, mobileNumber, locationX, locationY);
+		return (error == null) ? null : invalid(error, OrderValidator.fieldIndex(error, locationX));
+	}//end CheckCustomer
+
+	/**
+	 * Creates the Pizza of the current line.
+	 * @return A Pizza object containing the information from the line
+	 * @throws PizzaException If the line violates the pizza constraints or contains an invalid pizza code.
+	 * @throws LogHandlerException If the order time, delivery time or quantity cannot be parsed.
+	 */
+	private Pizza createPizza() throws PizzaException, LogHandlerException {
+		//Check the pizza before creating it so that an invalid pizza is reported without a stack trace
+		requirePizza();
+		return menu.createPizza(pizzaId, quantity, LocalTime.ofSecondOfDay(orderTime), LocalTime.ofSecondOfDay(deliveryTime));
+	}//end CreatePizza
+
+	/**
+	 * Checks the pizza of the current line, throwing the exception for the reason that it is invalid.
+	 * @throws PizzaException If the line violates the pizza constraints or contains an invalid pizza code.
+	 * @throws LogHandlerException If the order time, delivery time or quantity cannot be parsed.
+	 */
+	private void requirePizza() throws PizzaException, LogHandlerException {
+		LogError error = checkPizza();
+		if (error == LogError.INVALID_TIME_OR_QUANTITY) {
+			throw new LogHandlerException(error, lineNumber, lastFieldIndex);
+		} else if (error != null) {
+			throw new PizzaException(error, lineNumber, lastFieldIndex);
+		}
+	}//end RequirePizza
+
+	/**
+	 * Parses the times, pizza code and quantity of the current line and checks the pizza.
+	 * @return The reason that the pizza is invalid, or null if it is valid
+	 */
+	private LogError checkPizza() {
+		long quantity = parseInt(QUANTITY);
+		orderTime = parseTime(ORDER_TIME);
+		deliveryTime = parseTime(DELIVERY_TIME);
+		if (quantity == NOT_A_NUMBER || orderTime == NOT_A_TIME || deliveryTime == NOT_A_TIME) {
+			int field = (orderTime == NOT_A_TIME) ? ORDER_TIME : (deliveryTime == NOT_A_TIME) ? DELIVERY_TIME : QUANTITY;
+			return invalid(LogError.INVALID_TIME_OR_QUANTITY, field);
+		}
+		pizzaCodeChars.start = fieldStarts[PIZZA_CODE];
+		pizzaCodeChars.end = fieldEnds[PIZZA_CODE];
+		//A byte that is not ASCII is read as a character that is not a capital letter, so is not a valid code
+		pizzaId = menu.getId(pizzaCodeChars);
+		LogError error = OrderValidator.pizzaError(pizzaId, quantity, orderTime, deliveryTime);
+		if (error != null) {
+			return invalid(error, OrderValidator.fieldIndex(error, 0));
+		}
+		this.quantity = (int) quantity;
+		return null;
+	}//end CheckPizza
+
+	/**
+	 * Parses a parameter of the current line as a decimal integer, an optional '+' or '-' followed by one or more
+	 * ASCII digits, as described for parseInt(ByteBuffer, int, int).
+	 * @param field - The index of the parameter
+	 * @return The value of the parameter, or NOT_A_NUMBER if it is not an integer
+	 */
+	long parseInt(int field) {
+		return parseInt(buffer, fieldStarts[field], fieldEnds[field]);
+	}
+
+	/**
+	 * Parses the bytes between start and end as a decimal integer, which is an optional '+' or '-' followed by one or
+	 * more ASCII digits 0 to 9 with a value in the range of an int. Unlike Integer.parseInt, digits outside ASCII are
+	 * not accepted, so a parameter is a number only if each of its bytes is a sign or an ASCII digit.
+	 * @param buffer - The buffer holding the bytes
+	 * @param start - The position of the first byte
+	 * @param end - The position just after the last byte
+	 * @return The value of the bytes, or NOT_A_NUMBER if they are not an integer
+	 */
+	static long parseInt(ByteBuffer buffer, int start, int end) {
+		int i = start;
+		boolean negative = false;
+		if (i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+			negative = buffer.get(i) == '-';
+			i++;
+		}
+		if (i == end) {
+			return NOT_A_NUMBER;
+		}
+		long value = 0;
+		for (; i < end; i++) {
+			int digit = buffer.get(i) - '0';
+			if (digit < 0 || digit > 9) {
+				return NOT_A_NUMBER;
+			}
+			value = value * 10 + digit;
+			if (value > (long) Integer.MAX_VALUE + 1) {
+				return NOT_A_NUMBER;
+			}
+		}//end for loop
+		value = negative ? -value : value;
+		return (value > Integer.MAX_VALUE) ? NOT_A_NUMBER : value;
+	}//end ParseInt
+
+	/**
+	 * Parses a parameter of the current line as a time in the format HH:mm:ss.
+	 * @param field - The index of the parameter
+	 * @return The time as the number of seconds after midnight, or NOT_A_TIME if it is not a valid time
+	 */
+	int parseTime(int field) {
+		return parseTime(buffer, fieldStarts[field], fieldEnds[field]);
+	}
+
+	/**
+	 * Parses the bytes between start and end as a time in the format HH:mm:ss. The same times are accepted as by
+	 * LocalTime.parse with the pattern "HH:mm:ss", which also reads 24:00:00 as midnight.
+	 * @param buffer - The buffer holding the bytes
+	 * @param start - The position of the first byte
+	 * @param end - The position just after the last byte
+	 * @return The time as the number of seconds after midnight, or NOT_A_TIME if it is not a valid time
+	 */
+	static int parseTime(ByteBuffer buffer, int start, int end) {
+		if (end - start != LogHandler.TIME_LENGTH || buffer.get(start + 2) != ':' || buffer.get(start + 5) != ':') {
+			return NOT_A_TIME;
+		}
+		return LogHandler.toSecondOfDay(twoDigits(buffer, start), twoDigits(buffer, start + 3), twoDigits(buffer, start + 6));
+	}//end ParseTime
+
+	/**
+	 * Parses two decimal digits.
+	 * @return The value of the digits, or -1 if either byte is not a digit
+	 */
+	private static int twoDigits(ByteBuffer buffer, int start) {
+		int tens = buffer.get(start) - '0';
+		int units = buffer.get(start + 1) - '0';
+		if (tens < 0 || tens > 9 || units < 0 || units > 9) {
+			return -1;
+		}
+		return tens * 10 + units;
+	}//end TwoDigits
+
+	/**
+	 * Creates a String from a parameter of the current line, decoded as UTF-8.
+	 * @param field - The index of the parameter
+	 * @return The parameter as a String
+	 */
+	private String string(int field) {
+		int start = fieldStarts[field];
+		int length = fieldEnds[field] - start;
+		if (scratch.length < length) {
+			scratch = new byte[length];
+		}
+		for (int i = 0; i < length; i++) {
+			scratch[i] = buffer.get(start + i);
+		}
+		return new String(scratch, 0, length, StandardCharsets.UTF_8);
+	}//end String
+
+	/**
+	 * Returns the characters of a parameter of the current line. A parameter of ASCII text is read in place through
+	 * the view, and any other parameter is decoded as UTF-8 so that its characters are the same as those of the String.
+	 * @param field - The index of the parameter
+	 * @param view - The view to read the parameter through
+	 * @return The characters of the parameter
+	 */
+	private CharSequence chars(int field, FieldChars view) {
+		for (int i = fieldStarts[field]; i < fieldEnds[field]; i++) {
+			if (buffer.get(i) < 0) {
+				return string(field);
+			}
+		}//end for loop
+		view.start = fieldStarts[field];
+		view.end = fieldEnds[field];
+		return view;
+	}//end Chars
+
+	/**
+	 * The characters of a parameter of ASCII text, read directly from the buffer.
+	 */
+	private class FieldChars implements CharSequence {
+		int start;
+		int end;
+
+		@Override
+		public int length() {
+			return end - start;
+		}
+
+		@Override
+		public char charAt(int index) {
+			return (char) buffer.get(start + index);
+		}
+
+		@Override
+		public CharSequence subSequence(int from, int to) {
+			return toString().substring(from, to);
+		}
+
+		@Override
+		public String toString() {
+			byte[] bytes = new byte[end - start];
+			for (int i = 0; i < bytes.length; i++) {
+				bytes[i] = buffer.get(start + i);
+			}
+			return new String(bytes, StandardCharsets.US_ASCII);
+		}
+	}//end FieldChars
+
+}//end MappedLogReader
@@ -0,0 +1,238 @@
+package asgn2Restaurant;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import asgn2Exceptions.CustomerException;
+import asgn2Exceptions.LogHandlerException;
+import asgn2Exceptions.PizzaException;
+
+/**
+ * A class that holds the orders of many days, keyed by the date of the log file they were read from. The log files
+ * of a day are named after the date in the form yyyyMMdd.txt, as in 20170101.txt. A whole directory or a range of
+ * dates is loaded in parallel with one task per log file, and the orders and totals of each day are kept so that any
+ * day or range of days can be queried after loading.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+public class OrderBook {
+	static final String LOG_SUFFIX = ".txt";
+
+	private final TreeMap<LocalDate, List<OrderRecord>> ordersByDate = new TreeMap<LocalDate, List<OrderRecord>>();
+	private final TreeMap<LocalDate, OrderTotals> totalsByDate = new TreeMap<LocalDate, OrderTotals>();
+
+	private OrderBook() {
+	}
+
+	/**
+	 * Loads every log file in the directory that is named after a date. Other files are ignored.
+	 * @param directory - The directory containing the log files
+	 * @return An order book containing the orders of each log file
+	 * @throws CustomerException If a log file contains an invalid customer (the log file of the earliest such date is reported).
+	 * @throws PizzaException If a log file contains an invalid pizza (the log file of the earliest such date is reported).
+	 * @throws LogHandlerException If a log file or the directory cannot be read, or a log file contains a line that cannot be parsed.
+	 */
+	public static OrderBook load(String directory) throws CustomerException, PizzaException, LogHandlerException {
+		return load(directory, LocalDate.MIN, LocalDate.MAX);
+	}//end Load
+
+	/**
+	 * Loads the log files in the directory for each date from the first date to the last date inclusive.
+	 * Dates without a log file are left out of the order book.
+	 * @param directory - The directory containing the log files
+	 * @param from - The first date to load
+	 * @param to - The last date to load
+	 * @return An order book containing the orders of each log file in the range of dates
+	 * @throws CustomerException If a log file contains an invalid customer (the log file of the earliest such date is reported).
+	 * @throws PizzaException If a log file contains an invalid pizza (the log file of the earliest such date is reported).
+	 * @throws LogHandlerException If a log file or the directory cannot be read, or a log file contains a line that cannot be parsed.
+	 */
+	public static OrderBook load(String directory, LocalDate from, LocalDate to)
+			throws CustomerException, PizzaException, LogHandlerException {
+		TreeMap<LocalDate, Path> files = new TreeMap<LocalDate, Path>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(Paths.get(directory), "*" + LOG_SUFFIX)) {
+			for (Path file : stream) {
+				LocalDate date = logDate(file.getFileName().toString());
+				if (date != null && !date.isBefore(from) && !date.isAfter(to) && Files.isRegularFile(file)) {
+					files.put(date, file);
+				}
+			}//end for loop
+		} catch (IOException e) {
+			throw new LogHandlerException(e.getMessage());
+		}//end try-catch block
+		//Read every log file on the fork-join pool, each of which may in turn be read in parallel chunks
+		ArrayList<LogTask> tasks = new ArrayList<LogTask>();
+		for (Map.Entry<LocalDate, Path> entry : files.entrySet()) {
+			tasks.add(new LogTask(entry.getKey(), entry.getValue()));
+		}//end for loop
+		ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+			@Override
+			protected void compute() {
+				invokeAll(tasks);
+			}
+		});
+		OrderBook book = new OrderBook();
+		for (LogTask task : tasks) {
+			if (task.error != null) {
+				rethrow(task.file, task.error);
+			}
+			book.ordersByDate.put(task.date, Collections.unmodifiableList(task.orders));
+			book.totalsByDate.put(task.date, task.totals);
+		}//end for loop
+		return book;
+	}//end Load(String, LocalDate, LocalDate)
+
+	/**
+	 * Returns the date of a log file from its name, or null if the name is not a date followed by .txt.
+	 * @param filename - The name of the log file without its directory
+	 * @return The date of the log file, or null if the name is not a date
+	 */
+	static LocalDate logDate(String filename) {
+		if (!filename.endsWith(LOG_SUFFIX)) {
+			return null;
+		}
+		try {
+			return LocalDate.parse(filename.substring(0, filename.length() - LOG_SUFFIX.length()), DateTimeFormatter.BASIC_ISO_DATE);
+		} catch (DateTimeParseException e) {
+			return null;
+		}//end try-catch block
+	}//end LogDate
+
+	/**
+	 * Returns the dates that have orders in the order book, in order.
+	 * @return The dates that have a log file in the order book.
+	 */
+	public NavigableSet<LocalDate> getDates() {
+		return Collections.unmodifiableNavigableSet(ordersByDate.navigableKeySet());
+	}
+
+	/**
+	 * Returns the orders of a date in the order that they appear in the log file.
+	 * @param date - The date of the orders
+	 * @return The orders of the date, or an empty list if the date has no log file
+	 */
+	public List<OrderRecord> getOrders(LocalDate date) {
+		List<OrderRecord> orders = ordersByDate.get(date);
+		return orders == null ? Collections.<OrderRecord>emptyList() : orders;
+	}
+
+	/**
+	 * Returns the totals of the orders of a date.
+	 * @param date - The date of the orders
+	 * @return The totals of the orders of the date, which are all zero if the date has no log file
+	 */
+	public OrderTotals getTotals(LocalDate date) {
+		OrderTotals totals = new OrderTotals();
+		OrderTotals dateTotals = totalsByDate.get(date);
+		if (dateTotals != null) {
+			totals.add(dateTotals);
+		}
+		return totals;
+	}
+
+	/**
+	 * Returns the totals of the orders from the first date to the last date inclusive.
+	 * @param from - The first date
+	 * @param to - The last date
+	 * @return The totals of the orders in the range of dates
+	 */
+	public OrderTotals getTotals(LocalDate from, LocalDate to) {
+		OrderTotals totals = new OrderTotals();
+		if (!from.isAfter(to)) {
+			for (OrderTotals dateTotals : totalsByDate.subMap(from, true, to, true).values()) {
+				totals.add(dateTotals);
+			}//end for loop
+		}
+		return totals;
+	}
+
+	/**
+	 * Returns the totals of all the orders in the order book.
+	 * @return The totals of all the orders in the order book
+	 */
+	public OrderTotals getTotals() {
+		return getTotals(LocalDate.MIN, LocalDate.MAX);
+	}
+
+	/**
+	 * Returns the number of orders in the order book.
+	 * @return The number of orders of every date in the order book.
+	 */
+	public int getNumOrders() {
+		int numOrders = 0;
+		for (List<OrderRecord> orders : ordersByDate.values()) {
+			numOrders += orders.size();
+		}//end for loop
+		return numOrders;
+	}
+
+	//Rethrows an exception caught while reading a log file with its original type, reason, line and parameter, and the
+	//name of the log file
+	private static void rethrow(Path file, Exception e) throws CustomerException, PizzaException, LogHandlerException {
+		String message = file.getFileName() + ": " + e.getMessage();
+		if (e instanceof CustomerException) {
+			CustomerException ce = (CustomerException) e;
+			if (ce.getError() != null) {
+				throw new CustomerException(message, ce.getError(), ce.getLineNumber(), ce.getFieldIndex());
+			}
+			throw new CustomerException(message, ce);
+		} else if (e instanceof PizzaException) {
+			PizzaException pe = (PizzaException) e;
+			if (pe.getError() != null) {
+				throw new PizzaException(message, pe.getError(), pe.getLineNumber(), pe.getFieldIndex());
+			}
+			throw new PizzaException(message, pe);
+		} else if (e instanceof LogHandlerException) {
+			LogHandlerException lhe = (LogHandlerException) e;
+			if (lhe.getError() != null) {
+				throw new LogHandlerException(message, lhe.getError(), lhe.getLineNumber(), lhe.getFieldIndex());
+			}
+		}//end if-else
+		throw new LogHandlerException(message, e);
+	}//end Rethrow
+
+	/**
+	 * A task that reads the orders of a single log file and adds up their totals.
+	 */
+	private static class LogTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final LocalDate date;
+		private final Path file;
+		ArrayList<OrderRecord> orders;
+		OrderTotals totals = new OrderTotals();
+		Exception error;
+
+		LogTask(LocalDate date, Path file) {
+			this.date = date;
+			this.file = file;
+		}
+
+		@Override
+		protected void compute() {
+			try {
+				orders = ParallelLogReader.readOrders(file.toString());
+				for (OrderRecord order : orders) {
+					totals.add(order);
+				}//end for loop
+			} catch (Exception e) {
+				error = e;
+			}//end try-catch block
+		}//end Compute
+	}//end LogTask
+
+}//end OrderBook
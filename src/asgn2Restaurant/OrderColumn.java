@@ -0,0 +1,26 @@
+package asgn2Restaurant;
+
+/**
+ * An enumeration of the values of an order that can be read from a PizzaRestaurant one at a time, such as the
+ * value of a cell of a table of its orders, without creating the Customer or Pizza of the order.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+public enum OrderColumn {
+
+	//The values of the customer, as returned by Customer
+	CUSTOMER_NAME,
+	MOBILE_NUMBER,
+	CUSTOMER_TYPE,
+	LOCATION_X,
+	LOCATION_Y,
+	DELIVERY_DISTANCE,
+	//The values of the pizza, as returned by Pizza
+	PIZZA_TYPE,
+	QUANTITY,
+	ORDER_PRICE,
+	ORDER_COST,
+	ORDER_PROFIT;
+
+}//end OrderColumn
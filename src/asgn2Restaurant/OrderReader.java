@@ -0,0 +1,66 @@
+package asgn2Restaurant;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.FileReader;
+import java.io.IOException;
+
+import asgn2Exceptions.CustomerException;
+import asgn2Exceptions.LogHandlerException;
+import asgn2Exceptions.PizzaException;
+
+/**
+ * A class that reads the orders of a log file one at a time, in the order they appear in the log file.
+ * Unlike LogHandler.populateOrderDataset, an order is only created when it is asked for and none of the
+ * orders are kept, so a log file of any size can be read in constant memory.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+public class OrderReader implements Closeable {
+	private final BufferedReader reader;
+
+	/**
+	 * Opens the log file for reading.
+	 *
+	 * <P> PRE: TRUE
+	 * <P> POST: The reader is positioned at the first line of the log file
+	 *
+	 * @param filename - The file name of the log file
+	 * @throws LogHandlerException If the log file cannot be opened
+	 */
+	public OrderReader(String filename) throws LogHandlerException {
+		try {
+			this.reader = new BufferedReader(new FileReader(filename));
+		} catch (IOException e) {
+			throw new LogHandlerException(e.getMessage());
+		}//end try-catch block
+	}//end constructor
+
+	/**
+	 * Reads the next line of the log file and creates its order.
+	 * @return The next order of the log file, or null if the end of the log file has been reached
+	 * @throws CustomerException If the line contains an invalid customer code or invalid customer detail.
+	 * @throws PizzaException If the line violates the pizza constraints or contains an invalid pizza code.
+	 * @throws LogHandlerException If the line cannot be parsed or the log file cannot be read.
+	 */
+	public OrderRecord readOrder() throws CustomerException, PizzaException, LogHandlerException {
+		String line;
+		try {
+			line = reader.readLine();
+		} catch (IOException e) {
+			throw new LogHandlerException(e.getMessage());
+		}//end try-catch block
+		return (line == null) ? null : LogHandler.createOrder(line);
+	}//end ReadOrder
+
+	/**
+	 * Closes the log file.
+	 * @throws IOException If the log file cannot be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}//end Close
+
+}//end OrderReader
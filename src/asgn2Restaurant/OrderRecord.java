@@ -0,0 +1,48 @@
+package asgn2Restaurant;
+
+import asgn2Customers.Customer;
+import asgn2Pizzas.Pizza;
+
+/**
+ * A class that represents a single order from the log file, that is the Customer and the Pizza
+ * created from the same line. Both objects are produced from one parse of the line so that
+ * the log file only needs to be read once.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+public class OrderRecord {
+	private final Customer customer;
+	private final Pizza pizza;
+
+	/**
+	 * Creates an order record from a customer and the pizza that they ordered.
+	 *
+	 * <P> PRE: TRUE
+	 * <P> POST: The customer and pizza fields are set
+	 *
+	 * @param customer - The customer who placed the order
+	 * @param pizza - The pizza that was ordered
+	 */
+	public OrderRecord(Customer customer, Pizza pizza) {
+		this.customer = customer;
+		this.pizza = pizza;
+	}
+
+	/**
+	 * Returns the Customer who placed the order.
+	 * @return The Customer who placed the order.
+	 */
+	public Customer getCustomer() {
+		return this.customer;
+	}
+
+	/**
+	 * Returns the Pizza that was ordered.
+	 * @return The Pizza that was ordered.
+	 */
+	public Pizza getPizza() {
+		return this.pizza;
+	}
+
+}//end OrderRecord
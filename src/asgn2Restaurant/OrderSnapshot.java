@@ -0,0 +1,309 @@
+package asgn2Restaurant;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import asgn2Exceptions.LogHandlerException;
+import asgn2Pizzas.PizzaMenu;
+
+/**
+ * A class that writes the orders and totals of a restaurant to a binary snapshot file and reads them back, so that
+ * a log file that has already been processed can be loaded again without parsing and validating its lines.
+ * All numbers are big endian. The snapshot is laid out as
+ * <pre>
+ * header      HEADER_SIZE bytes: magic, version, number of orders, number of strings, dictionary length,
+ *             record size, number of pizzas on the menu, number of customer codes, the totals of all orders
+ *             and the totals of each customer type, zero padded
+ * records     RECORD_SIZE bytes per order: customer type, pizza id, x, y, quantity, 3 unused bytes,
+ *             order time, delivery time, name id, mobile number id
+ * dictionary  for each string in id order: its UTF-8 length as an unsigned short followed by its UTF-8 bytes
+ * menu        for each pizza on the menu of the orders in id order: its code, price and cost, followed by the
+ *             totals of each pizza type
+ * customers   each customer code in the order of the customer types of the records
+ * checksum    CRC32 of everything before it
+ * </pre>
+ * The records have a fixed width and start at a fixed position, so the record of any order can be found in a
+ * memory mapped snapshot without reading the ones before it. A snapshot can only be read into a store whose menu
+ * has each pizza of the snapshot's menu at the same price and cost, so that the totals of the snapshot are those
+ * of its orders, and while each customer code of the snapshot is registered with CustomerFactory.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+class OrderSnapshot {
+	static final int MAGIC = 0x505A534E;
+	static final int VERSION = 4;
+	static final int HEADER_SIZE = 512;
+	static final int RECORD_SIZE = 24;
+	//Bytes of a set of totals: two longs and four doubles
+	static final int TOTALS_SIZE = 48;
+	//Position of the totals of all orders in the header, followed by the totals of each customer type
+	static final int TOTALS_POSITION = 36;
+	//Bytes of each pizza of the menu: its code, price and cost
+	static final int MENU_ENTRY_SIZE = 3 + 8 + 8;
+	//Bytes of each customer code
+	static final int CODE_SIZE = 3;
+	static final int BUFFER_SIZE = 1 << 16;
+	//Largest number of bytes mapped at a time
+	static final long MAX_WINDOW_SIZE = (1L << 30) / RECORD_SIZE * RECORD_SIZE;
+	static final int MAX_STRING_LENGTH = 0xFFFF;
+
+	private OrderSnapshot() {
+	}
+
+	/**
+	 * Writes the orders and totals to a snapshot file, replacing the file if it exists.
+	 * @param filename - The file name of the snapshot
+	 * @param orders - The orders to write
+	 * @param totals - The totals of all orders
+	 * @param pizzaTypeTotals - The totals of each pizza type in the order the types were first ordered
+	 * @param customerTypeTotals - The totals of each customer type in the order the types first ordered
+	 * @throws LogHandlerException If the snapshot cannot be written
+	 */
+	static void write(String filename, OrderStore orders, OrderTotals totals, Map<String, OrderTotals> pizzaTypeTotals,
+			Map<String, OrderTotals> customerTypeTotals) throws LogHandlerException {
+		StringDictionary dictionary = orders.getDictionary();
+		byte[][] strings = new byte[dictionary.size()][];
+		long dictionaryLength = 0;
+		for (int i = 0; i < strings.length; i++) {
+			strings[i] = dictionary.get(i).getBytes(StandardCharsets.UTF_8);
+			if (strings[i].length > MAX_STRING_LENGTH) {
+				throw new LogHandlerException("A string is too long to be written to a snapshot");
+			}
+			dictionaryLength += 2 + strings[i].length;
+		}//end for loop
+		try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.WRITE,
+				StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			CRC32 checksum = new CRC32();
+			ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+			PizzaMenu menu = orders.getMenu();
+			//Every customer type of the records is below the number of customer codes when they are written
+			int numCustomerCodes = OrderStore.numCustomerTypes();
+			buffer.putInt(MAGIC).putInt(VERSION).putInt(orders.size()).putInt(strings.length).putLong(dictionaryLength)
+				.putInt(RECORD_SIZE).putInt(menu.size()).putInt(numCustomerCodes);
+			putTotals(buffer, totals);
+			putTypeTotals(buffer, OrderStore.CUSTOMER_TYPES, customerTypeTotals);
+			buffer.position(HEADER_SIZE);
+			for (int i = 0; i < orders.size(); i++) {
+				if (buffer.remaining() < RECORD_SIZE) {
+					flush(channel, buffer, checksum);
+				}
+				buffer.put((byte) orders.getCustomerType(i)).put((byte) orders.getPizzaId(i))
+					.put((byte) orders.getLocationX(i)).put((byte) orders.getLocationY(i))
+					.put((byte) orders.getQuantity(i)).put((byte) 0).putShort((short) 0)
+					.putInt(orders.getOrderTime(i)).putInt(orders.getDeliveryTime(i))
+					.putInt(orders.getNameId(i)).putInt(orders.getMobileNumberId(i));
+			}//end for loop
+			for (byte[] string : strings) {
+				if (buffer.remaining() < 2 + string.length) {
+					flush(channel, buffer, checksum);
+				}
+				buffer.putShort((short) string.length).put(string);
+			}//end for loop
+			String[] pizzaTypes = new String[menu.size()];
+			flush(channel, buffer, checksum);
+			for (int id = 0; id < menu.size(); id++) {
+				buffer.put(menu.getCode(id).getBytes(StandardCharsets.US_ASCII)).putDouble(menu.getPricePerPizza(id))
+					.putDouble(menu.getCostPerPizza(id));
+				pizzaTypes[id] = menu.getRecipe(id).getPizzaType();
+			}//end for loop
+			putTypeTotals(buffer, pizzaTypes, pizzaTypeTotals);
+			for (int type = 0; type < numCustomerCodes; type++) {
+				buffer.put(OrderStore.customerCode(type).getBytes(StandardCharsets.US_ASCII));
+			}//end for loop
+			flush(channel, buffer, checksum);
+			buffer.putInt((int) checksum.getValue());
+			buffer.flip();
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}//end while loop
+		} catch (IOException e) {
+			throw new LogHandlerException(e.getMessage());
+		}//end try-catch block
+	}//end Write
+
+	/**
+	 * Reads the orders and totals of a snapshot file. The orders are added to the end of the order store and the
+	 * totals replace those passed in.
+	 * @param filename - The file name of the snapshot
+	 * @param orders - The order store to add the orders to
+	 * @param totals - The totals to set to the totals of all orders
+	 * @param pizzaTypeTotals - The map to put the totals of each pizza type into
+	 * @param customerTypeTotals - The map to put the totals of each customer type into
+	 * @throws LogHandlerException If the snapshot cannot be read, is not a snapshot of this version, is corrupt or
+	 * contains a pizza that is not on the menu of the order store at the same price and cost or a customer code that
+	 * is not registered
+	 */
+	static void read(String filename, OrderStore orders, OrderTotals totals, LinkedHashMap<String, OrderTotals> pizzaTypeTotals,
+			LinkedHashMap<String, OrderTotals> customerTypeTotals) throws LogHandlerException {
+		try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size < HEADER_SIZE + 4) {
+				throw new LogHandlerException("The snapshot is too short");
+			}
+			CRC32 checksum = new CRC32();
+			ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+			if (header.getInt() != MAGIC) {
+				throw new LogHandlerException("The file is not a snapshot");
+			} else if (header.getInt() != VERSION) {
+				throw new LogHandlerException("The snapshot version is not supported");
+			}
+			int numOrders = header.getInt();
+			int numStrings = header.getInt();
+			long dictionaryLength = header.getLong();
+			int recordSize = header.getInt();
+			int numPizzas = header.getInt();
+			int numCustomerCodes = header.getInt();
+			long menuLength = (long) numPizzas * (MENU_ENTRY_SIZE + 1 + TOTALS_SIZE);
+			long customersLength = (long) numCustomerCodes * CODE_SIZE;
+			if (numOrders < 0 || numStrings < 0 || dictionaryLength < 2L * numStrings || recordSize != RECORD_SIZE
+					|| numPizzas < 0 || numPizzas > PizzaMenu.MAX_SIZE
+					|| numCustomerCodes < 0 || numCustomerCodes > OrderStore.MAX_CUSTOMER_CODES
+					|| size != HEADER_SIZE + (long) numOrders * RECORD_SIZE + dictionaryLength + menuLength + customersLength + 4) {
+				throw new LogHandlerException("The snapshot is corrupt");
+			}
+			header.rewind();
+			checksum.update(header);
+			//Check the whole snapshot before anything is read from it
+			long recordsEnd = HEADER_SIZE + (long) numOrders * RECORD_SIZE;
+			for (long position = HEADER_SIZE; position < size - 4; position += MAX_WINDOW_SIZE) {
+				checksum.update(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAX_WINDOW_SIZE, size - 4 - position)));
+			}//end for loop
+			ByteBuffer stored = ByteBuffer.allocate(4);
+			channel.read(stored, size - 4);
+			stored.flip();
+			if (stored.getInt() != (int) checksum.getValue()) {
+				throw new LogHandlerException("The snapshot checksum does not match");
+			}
+			//Find the id on the menu of the store of each pizza of the snapshot
+			ByteBuffer menu = channel.map(FileChannel.MapMode.READ_ONLY, recordsEnd + dictionaryLength, menuLength);
+			int[] pizzaIds = new int[numPizzas];
+			String[] pizzaTypes = new String[numPizzas];
+			byte[] code = new byte[3];
+			for (int i = 0; i < numPizzas; i++) {
+				menu.get(code);
+				int id = orders.getMenu().getId(new String(code, StandardCharsets.US_ASCII));
+				double price = menu.getDouble();
+				double cost = menu.getDouble();
+				if (id < 0 || orders.getMenu().getPricePerPizza(id) != price || orders.getMenu().getCostPerPizza(id) != cost) {
+					throw new LogHandlerException("The snapshot was saved with a different pizza menu");
+				}
+				pizzaIds[i] = id;
+				pizzaTypes[i] = orders.getMenu().getRecipe(id).getPizzaType();
+			}//end for loop
+			//Find the type code of each customer code of the snapshot
+			ByteBuffer customers = channel.map(FileChannel.MapMode.READ_ONLY, recordsEnd + dictionaryLength + menuLength,
+					customersLength);
+			int[] customerTypes = new int[numCustomerCodes];
+			for (int i = 0; i < numCustomerCodes; i++) {
+				customers.get(code);
+				String customerCode = new String(code, StandardCharsets.US_ASCII);
+				customerTypes[i] = OrderStore.customerType(customerCode);
+				if (customerTypes[i] < 0) {
+					throw new LogHandlerException("The snapshot contains the customer code " + customerCode + ", which is not registered");
+				}
+			}//end for loop
+			header.position(TOTALS_POSITION);
+			getTotals(header, totals);
+			getTypeTotals(header, OrderStore.CUSTOMER_TYPES, customerTypeTotals);
+			getTypeTotals(menu, pizzaTypes, pizzaTypeTotals);
+			orders.ensureCapacity(orders.size() + numOrders);
+			int firstString = orders.getDictionary().size();
+			for (long position = HEADER_SIZE; position < recordsEnd; position += MAX_WINDOW_SIZE) {
+				ByteBuffer records = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAX_WINDOW_SIZE, recordsEnd - position));
+				while (records.hasRemaining()) {
+					int customerType = records.get();
+					int pizzaId = records.get();
+					int locationX = records.get();
+					int locationY = records.get();
+					int quantity = records.get();
+					records.position(records.position() + 3);
+					int orderTime = records.getInt();
+					int deliveryTime = records.getInt();
+					int name = records.getInt();
+					int mobileNumber = records.getInt();
+					if (customerType < 0 || customerType >= numCustomerCodes || pizzaId < 0
+							|| pizzaId >= numPizzas || name < 0 || name >= numStrings
+							|| mobileNumber < 0 || mobileNumber >= numStrings) {
+						throw new LogHandlerException("The snapshot is corrupt");
+					}
+					orders.addEncoded(customerTypes[customerType], pizzaIds[pizzaId], locationX, locationY, quantity, orderTime, deliveryTime,
+							firstString + name, firstString + mobileNumber);
+				}//end while loop
+			}//end for loop
+			ByteBuffer dictionary = channel.map(FileChannel.MapMode.READ_ONLY, recordsEnd, dictionaryLength);
+			byte[] scratch = new byte[MAX_STRING_LENGTH];
+			for (int i = 0; i < numStrings; i++) {
+				int length = dictionary.getShort() & MAX_STRING_LENGTH;
+				dictionary.get(scratch, 0, length);
+				orders.getDictionary().add(new String(scratch, 0, length, StandardCharsets.UTF_8));
+			}//end for loop
+		} catch (IOException e) {
+			throw new LogHandlerException(e.getMessage());
+		} catch (RuntimeException e) {
+			throw new LogHandlerException("The snapshot is corrupt");
+		}//end try-catch block
+	}//end Read
+
+	//Writes the buffer to the channel and adds it to the checksum, leaving the buffer empty
+	private static void flush(FileChannel channel, ByteBuffer buffer, CRC32 checksum) throws IOException {
+		buffer.flip();
+		ByteBuffer written = buffer.duplicate();
+		checksum.update(written);
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}//end while loop
+		buffer.clear();
+	}//end Flush
+
+	private static void putTotals(ByteBuffer buffer, OrderTotals totals) {
+		buffer.putLong(totals.getNumOrders()).putLong(totals.getNumPizzas()).putDouble(totals.getTotalPrice())
+			.putDouble(totals.getTotalCost()).putDouble(totals.getTotalProfit()).putDouble(totals.getTotalDeliveryDistance());
+	}
+
+	private static void getTotals(ByteBuffer buffer, OrderTotals totals) {
+		totals.set(buffer.getLong(), buffer.getLong(), buffer.getDouble(), buffer.getDouble(), buffer.getDouble(), buffer.getDouble());
+	}
+
+	//Writes a slot for each type holding the index of a type, or -1 if unused, and its totals, in the order of the map
+	private static void putTypeTotals(ByteBuffer buffer, String[] types, Map<String, OrderTotals> totalsByType) {
+		int slots = 0;
+		for (Map.Entry<String, OrderTotals> entry : totalsByType.entrySet()) {
+			for (int i = 0; i < types.length; i++) {
+				if (types[i].equals(entry.getKey())) {
+					buffer.put((byte) i);
+					putTotals(buffer, entry.getValue());
+					slots++;
+				}
+			}//end for loop
+		}//end for loop
+		for (; slots < types.length; slots++) {
+			buffer.put((byte) -1);
+			putTotals(buffer, new OrderTotals());
+		}//end for loop
+	}//end PutTypeTotals
+
+	private static void getTypeTotals(ByteBuffer buffer, String[] types, LinkedHashMap<String, OrderTotals> totalsByType)
+			throws LogHandlerException {
+		for (int slot = 0; slot < types.length; slot++) {
+			int type = buffer.get();
+			if (type < 0) {
+				buffer.position(buffer.position() + TOTALS_SIZE);
+			} else if (type < types.length) {
+				OrderTotals totals = new OrderTotals();
+				getTotals(buffer, totals);
+				totalsByType.put(types[type], totals);
+			} else {
+				throw new LogHandlerException("The snapshot is corrupt");
+			}//end if-else
+		}//end for loop
+	}//end GetTypeTotals
+
+}//end OrderSnapshot
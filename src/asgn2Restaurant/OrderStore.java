@@ -0,0 +1,559 @@
+package asgn2Restaurant;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import asgn2Customers.Customer;
+import asgn2Customers.CustomerFactory;
+import asgn2Exceptions.CustomerException;
+import asgn2Exceptions.PizzaException;
+import asgn2Pizzas.Pizza;
+import asgn2Pizzas.PizzaMenu;
+
+/**
+ * A class that stores orders in columns of primitive arrays rather than as Customer and Pizza objects. Each order
+ * takes a byte for each of its customer type, pizza id, x and y locations and quantity, an int for each of its
+ * order and delivery times in seconds after midnight and an int id for each of its customer name and mobile number,
+ * which are kept once each in a dictionary. The Customer and Pizza of an order are created when they are asked for.
+ * Only valid orders are added, so creating them again never fails.
+ *
+ * The customer type of an order is the index of its customer code in a table shared by every store, which starts
+ * with CUSTOMER_CODES. A code registered with CustomerFactory is added to the table the first time it is stored or
+ * read, taking its description and delivery distances from customers created with it.
+ *
+ * The pizza id of an order is its id on the PizzaMenu that was installed when the store was created or last cleared.
+ * The store keeps that menu, so the pizzas, prices and profits of the stored orders do not change when another menu
+ * is installed.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+public class OrderStore {
+	//The built-in customer codes, which are the first type codes stored for each order
+	public static final String[] CUSTOMER_CODES = {"PUC", "DNC", "DVC"};
+	//The human understandable descriptions of the types of customer, in the same order as the codes
+	static final String[] CUSTOMER_TYPES = {"Pick Up", "Drone Delivery", "Driver Delivery"};
+	//The most customer codes that can be stored, as the type code of an order is a byte
+	static final int MAX_CUSTOMER_CODES = Byte.MAX_VALUE;
+	static final int INITIAL_CAPACITY = 16;
+	//The furthest a customer can be from the restaurant in blocks along each axis, and the most pizzas in an order
+	static final int MAX_BLOCKS = 10;
+	static final int MAX_QUANTITY = 10;
+	//The customer codes that can be stored by type code, with the description of each and its delivery distance by
+	//location, taken from a Customer created once for each so that totals over many orders create no Customer. The
+	//arrays are replaced as a whole when a code is added, the codes last, so that they can be read without locking.
+	//The profit of an order is looked up on the menu of the store
+	private static volatile String[] storedCodes = {};
+	private static volatile String[] storedTypes = {};
+	private static volatile double[][][] distances = {};
+
+	static {
+		for (String code : CUSTOMER_CODES) {
+			addCustomerCode(code);
+		}
+	}
+
+	private int size;
+	private byte[] customerTypes = new byte[INITIAL_CAPACITY];
+	private byte[] pizzaIds = new byte[INITIAL_CAPACITY];
+	private byte[] locationsX = new byte[INITIAL_CAPACITY];
+	private byte[] locationsY = new byte[INITIAL_CAPACITY];
+	private byte[] quantities = new byte[INITIAL_CAPACITY];
+	private int[] orderTimes = new int[INITIAL_CAPACITY];
+	private int[] deliveryTimes = new int[INITIAL_CAPACITY];
+	private int[] names = new int[INITIAL_CAPACITY];
+	private int[] mobileNumbers = new int[INITIAL_CAPACITY];
+	private final StringDictionary dictionary = new StringDictionary();
+	//The menu that the pizza ids of the orders refer to
+	private PizzaMenu menu;
+
+	/**
+	 * Creates an empty order store for the pizzas of the installed menu.
+	 *
+	 * <P> PRE: TRUE
+	 * <P> POST: The store contains no orders
+	 */
+	public OrderStore() {
+		this(PizzaMenu.getCurrent());
+	}
+
+	/**
+	 * Creates an empty order store for the pizzas of a menu.
+	 *
+	 * <P> PRE: TRUE
+	 * <P> POST: The store contains no orders
+	 *
+	 * @param menu - The menu of the pizzas that can be stored
+	 */
+	public OrderStore(PizzaMenu menu) {
+		this.menu = menu;
+	}
+
+	/**
+	 * Adds an order to the end of the store.
+	 * @param customer - The customer who placed the order
+	 * @param pizza - The pizza that was ordered
+	 * @throws IllegalArgumentException If the customer code of the customer cannot be stored, or the pizza is not on the
+	 * menu of the store at the same price and cost
+	 */
+	public void add(Customer customer, Pizza pizza) {
+		int customerType = customerType(customer.getCustomerCode());
+		if (customerType < 0) {
+			throw new IllegalArgumentException("The customer code " + customer.getCustomerCode() + " cannot be stored");
+		}
+		int pizzaId = menu.getIdOfType(pizza.getPizzaType());
+		if (pizzaId < 0 || menu.getPricePerPizza(pizzaId) != pizza.getPricePerPizza()
+				|| menu.getCostPerPizza(pizzaId) != pizza.getCostPerPizza()) {
+			throw new IllegalArgumentException("The " + pizza.getPizzaType() + " pizza is not on the menu of the orders");
+		}
+		ensureCapacity(size + 1);
+		customerTypes[size] = (byte) customerType;
+		pizzaIds[size] = (byte) pizzaId;
+		locationsX[size] = (byte) customer.getLocationX();
+		locationsY[size] = (byte) customer.getLocationY();
+		quantities[size] = (byte) pizza.getQuantity();
+		orderTimes[size] = pizza.getOrderTime().toSecondOfDay();
+		deliveryTimes[size] = pizza.getDeliveryTime().toSecondOfDay();
+		names[size] = dictionary.add(customer.getName());
+		mobileNumbers[size] = dictionary.add(customer.getMobileNumber());
+		size++;
+	}
+
+	/**
+	 * Makes room for the specified number of orders so that adding them does not grow the columns again.
+	 * @param capacity - The number of orders to make room for
+	 */
+	public void ensureCapacity(int capacity) {
+		if (capacity > customerTypes.length) {
+			int newCapacity = Math.max(capacity, customerTypes.length * 2);
+			customerTypes = Arrays.copyOf(customerTypes, newCapacity);
+			pizzaIds = Arrays.copyOf(pizzaIds, newCapacity);
+			locationsX = Arrays.copyOf(locationsX, newCapacity);
+			locationsY = Arrays.copyOf(locationsY, newCapacity);
+			quantities = Arrays.copyOf(quantities, newCapacity);
+			orderTimes = Arrays.copyOf(orderTimes, newCapacity);
+			deliveryTimes = Arrays.copyOf(deliveryTimes, newCapacity);
+			names = Arrays.copyOf(names, newCapacity);
+			mobileNumbers = Arrays.copyOf(mobileNumbers, newCapacity);
+		}
+	}
+
+	/**
+	 * Removes every order from the store, which then stores the pizzas of the installed menu. The columns keep their
+	 * capacity.
+	 *
+	 * <P> PRE: TRUE
+	 * <P> POST: The store contains no orders
+	 */
+	public void clear() {
+		size = 0;
+		dictionary.clear();
+		menu = PizzaMenu.getCurrent();
+	}
+
+	/**
+	 * Returns the menu that the pizzas of the orders are on.
+	 * @return The menu of the store
+	 */
+	public PizzaMenu getMenu() {
+		return menu;
+	}
+
+	/**
+	 * Returns the number of orders in the store.
+	 * @return The number of orders in the store
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Creates the Customer of an order.
+	 * @param index - The index of the order
+	 * @return A Customer equal to the customer of the order when it was added
+	 * @throws IndexOutOfBoundsException If the index is not the index of an order
+	 */
+	public Customer getCustomer(int index) {
+		checkIndex(index);
+		try {
+			return CustomerFactory.getCustomer(getCustomerCode(index), getName(index), getMobileNumber(index),
+					locationsX[index], locationsY[index]);
+		} catch (CustomerException e) {
+			throw new IllegalStateException(e.getMessage());
+		}
+	}
+
+	/**
+	 * Creates the Pizza of an order.
+	 * @param index - The index of the order
+	 * @return A Pizza equal to the pizza of the order when it was added
+	 * @throws IndexOutOfBoundsException If the index is not the index of an order
+	 */
+	public Pizza getPizza(int index) {
+		checkIndex(index);
+		try {
+			return menu.createPizza(pizzaIds[index], quantities[index],
+					LocalTime.ofSecondOfDay(orderTimes[index]), LocalTime.ofSecondOfDay(deliveryTimes[index]));
+		} catch (PizzaException e) {
+			throw new IllegalStateException(e.getMessage());
+		}
+	}
+
+	/**
+	 * Returns a list of the customers of a range of orders, created when the list is returned so that it does not change
+	 * as orders are added to or cleared from the store.
+	 * @param from - The index of the first order
+	 * @param to - The index after the last order
+	 * @return The customers of the orders from index from up to but not including index to
+	 */
+	public List<Customer> getCustomers(int from, int to) {
+		checkRange(from, to);
+		List<Customer> customers = new ArrayList<Customer>(to - from);
+		for (int index = from; index < to; index++) {
+			customers.add(getCustomer(index));
+		}
+		return customers;
+	}
+
+	/**
+	 * Returns a list of the pizzas of a range of orders, created when the list is returned so that it does not change
+	 * as orders are added to or cleared from the store.
+	 * @param from - The index of the first order
+	 * @param to - The index after the last order
+	 * @return The pizzas of the orders from index from up to but not including index to
+	 */
+	public List<Pizza> getPizzas(int from, int to) {
+		checkRange(from, to);
+		List<Pizza> pizzas = new ArrayList<Pizza>(to - from);
+		for (int index = from; index < to; index++) {
+			pizzas.add(getPizza(index));
+		}
+		return pizzas;
+	}
+
+	/**
+	 * Returns the customer code of an order, one of CUSTOMER_CODES or a code registered with CustomerFactory.
+	 * @param index - The index of the order
+	 * @return The customer code of the order
+	 */
+	public String getCustomerCode(int index) {
+		return customerCode(customerTypes[index]);
+	}
+
+	/**
+	 * Returns the pizza code of an order, one of the codes of the menu of the store.
+	 * @param index - The index of the order
+	 * @return The pizza code of the order
+	 */
+	public String getPizzaCode(int index) {
+		return menu.getCode(pizzaIds[index]);
+	}
+
+	/**
+	 * Returns the human understandable description of the type of customer of an order.
+	 * @param index - The index of the order
+	 * @return The customer type of the order, equal to that of its Customer
+	 */
+	public String getCustomerTypeName(int index) {
+		return customerTypeName(customerTypes[index]);
+	}
+
+	/**
+	 * Returns the human understandable description of the type of pizza of an order.
+	 * @param index - The index of the order
+	 * @return The pizza type of the order, equal to that of its Pizza
+	 */
+	public String getPizzaType(int index) {
+		return menu.getRecipe(pizzaIds[index]).getPizzaType();
+	}
+
+	/**
+	 * Returns the name of the customer of an order.
+	 * @param index - The index of the order
+	 * @return The name of the customer
+	 */
+	public String getName(int index) {
+		return dictionary.get(names[index]);
+	}
+
+	/**
+	 * Returns the mobile number of the customer of an order.
+	 * @param index - The index of the order
+	 * @return The mobile number of the customer
+	 */
+	public String getMobileNumber(int index) {
+		return dictionary.get(mobileNumbers[index]);
+	}
+
+	/**
+	 * Returns the x location of the customer of an order.
+	 * @param index - The index of the order
+	 * @return The x location of the customer
+	 */
+	public int getLocationX(int index) {
+		return locationsX[index];
+	}
+
+	/**
+	 * Returns the y location of the customer of an order.
+	 * @param index - The index of the order
+	 * @return The y location of the customer
+	 */
+	public int getLocationY(int index) {
+		return locationsY[index];
+	}
+
+	/**
+	 * Returns the number of pizzas of an order.
+	 * @param index - The index of the order
+	 * @return The quantity of the order
+	 */
+	public int getQuantity(int index) {
+		return quantities[index];
+	}
+
+	/**
+	 * Returns the time of an order.
+	 * @param index - The index of the order
+	 * @return The order time in seconds after midnight
+	 */
+	public int getOrderTime(int index) {
+		return orderTimes[index];
+	}
+
+	/**
+	 * Returns the delivery time of an order.
+	 * @param index - The index of the order
+	 * @return The delivery time in seconds after midnight
+	 */
+	public int getDeliveryTime(int index) {
+		return deliveryTimes[index];
+	}
+
+	/**
+	 * Returns the price of an order, equal to the order price of its Pizza.
+	 * @param index - The index of the order
+	 * @return The price of the order
+	 */
+	public double getOrderPrice(int index) {
+		return menu.getOrderPrice(pizzaIds[index], quantities[index]);
+	}
+
+	/**
+	 * Returns the cost of an order, equal to the order cost of its Pizza.
+	 * @param index - The index of the order
+	 * @return The cost of the order
+	 */
+	public double getOrderCost(int index) {
+		return menu.getOrderCost(pizzaIds[index], quantities[index]);
+	}
+
+	/**
+	 * Returns the profit of an order, equal to the order profit of its Pizza.
+	 * @param index - The index of the order
+	 * @return The profit of the order
+	 */
+	public double getOrderProfit(int index) {
+		return menu.getOrderProfit(pizzaIds[index], quantities[index]);
+	}
+
+	/**
+	 * Returns the delivery distance of an order, equal to the delivery distance of its Customer.
+	 * @param index - The index of the order
+	 * @return The delivery distance of the order in blocks
+	 */
+	public double getDeliveryDistance(int index) {
+		return distances[customerTypes[index]][locationsX[index] + MAX_BLOCKS][locationsY[index] + MAX_BLOCKS];
+	}
+
+	/**
+	 * Adds an order from its stored form, as when the orders are read from a snapshot. The codes and ids are not checked,
+	 * and the pizza id is the id of the pizza on the menu of the store.
+	 */
+	void addEncoded(int customerType, int pizzaId, int locationX, int locationY, int quantity,
+			int orderTime, int deliveryTime, int name, int mobileNumber) {
+		ensureCapacity(size + 1);
+		customerTypes[size] = (byte) customerType;
+		pizzaIds[size] = (byte) pizzaId;
+		locationsX[size] = (byte) locationX;
+		locationsY[size] = (byte) locationY;
+		quantities[size] = (byte) quantity;
+		orderTimes[size] = orderTime;
+		deliveryTimes[size] = deliveryTime;
+		names[size] = name;
+		mobileNumbers[size] = mobileNumber;
+		size++;
+	}
+
+	/**
+	 * Adds the orders of another store for the same menu to the end of the store, as when the chunks of a log file
+	 * are read into stores of their own. The names and mobile numbers are added to the dictionary of this store.
+	 * @param other - The store whose orders are added
+	 * @throws IllegalArgumentException If the other store is for a different menu
+	 */
+	void addAll(OrderStore other) {
+		if (other.menu != menu) {
+			throw new IllegalArgumentException("The orders are for a different menu");
+		}
+		int[] ids = new int[other.dictionary.size()];
+		for (int id = 0; id < ids.length; id++) {
+			ids[id] = dictionary.add(other.dictionary.get(id));
+		}
+		ensureCapacity(size + other.size);
+		System.arraycopy(other.customerTypes, 0, customerTypes, size, other.size);
+		System.arraycopy(other.pizzaIds, 0, pizzaIds, size, other.size);
+		System.arraycopy(other.locationsX, 0, locationsX, size, other.size);
+		System.arraycopy(other.locationsY, 0, locationsY, size, other.size);
+		System.arraycopy(other.quantities, 0, quantities, size, other.size);
+		System.arraycopy(other.orderTimes, 0, orderTimes, size, other.size);
+		System.arraycopy(other.deliveryTimes, 0, deliveryTimes, size, other.size);
+		for (int i = 0; i < other.size; i++) {
+			names[size + i] = ids[other.names[i]];
+			mobileNumbers[size + i] = ids[other.mobileNumbers[i]];
+		}
+		size += other.size;
+	}
+
+	/**
+	 * Adds an order to totals with the same price, cost, profit and delivery distance as its Pizza and Customer, so
+	 * that the totals are those that adding the OrderRecord of the order would give.
+	 * @param index - The index of the order
+	 * @param totals - The totals to add the order to
+	 */
+	void addTo(int index, OrderTotals totals) {
+		int pizzaId = pizzaIds[index];
+		int quantity = quantities[index];
+		totals.add(quantity, menu.getOrderPrice(pizzaId, quantity), menu.getOrderCost(pizzaId, quantity),
+				menu.getOrderProfit(pizzaId, quantity), getDeliveryDistance(index));
+	}
+
+	//The stored form of an order, for writing snapshots
+	int getCustomerType(int index) {
+		return customerTypes[index];
+	}
+
+	int getPizzaId(int index) {
+		return pizzaIds[index];
+	}
+
+	int getNameId(int index) {
+		return names[index];
+	}
+
+	int getMobileNumberId(int index) {
+		return mobileNumbers[index];
+	}
+
+	StringDictionary getDictionary() {
+		return dictionary;
+	}
+
+	/**
+	 * Returns the type code stored for a customer code, adding a code registered with CustomerFactory the first time
+	 * it is looked up. The codes that are not registered are not added, so looking them up takes no lock.
+	 * @param code - The customer code, which can be read in place from a log file rather than from a String
+	 * @return The type code, or -1 if the code is not registered or cannot be stored
+	 */
+	static int customerType(CharSequence code) {
+		String[] codes = storedCodes;
+		for (int i = 0; i < codes.length; i++) {
+			if (codes[i].contentEquals(code)) {
+				return i;
+			}
+		}
+		String string = code.toString();
+		return CustomerFactory.isRegistered(string) ? addCustomerCode(string) : -1;
+	}
+
+	/**
+	 * Adds a customer code to the codes that can be stored, taking its description and delivery distances from a
+	 * customer created with the code at each location.
+	 * @param code - A customer code registered with CustomerFactory
+	 * @return The type code of the customer code, or -1 if no customer can be created with it or there is no room
+	 */
+	private static synchronized int addCustomerCode(String code) {
+		//Another thread may have added the code since it was looked up
+		for (int i = 0; i < storedCodes.length; i++) {
+			if (storedCodes[i].equals(code)) {
+				return i;
+			}
+		}
+		double[][] codeDistances = new double[2 * MAX_BLOCKS + 1][2 * MAX_BLOCKS + 1];
+		String type = null;
+		for (int x = -MAX_BLOCKS; x <= MAX_BLOCKS; x++) {
+			for (int y = -MAX_BLOCKS; y <= MAX_BLOCKS; y++) {
+				try {
+					Customer customer = CustomerFactory.getCustomer(code, "Distance", "0123456789", x, y);
+					codeDistances[x + MAX_BLOCKS][y + MAX_BLOCKS] = customer.getDeliveryDistance();
+					type = customer.getCustomerType();
+				} catch (CustomerException e) {
+					//No order of this type is at this location
+				}
+			}
+		}
+		int customerType = storedCodes.length;
+		if (type == null || customerType == MAX_CUSTOMER_CODES) {
+			return -1;
+		}
+		double[][][] newDistances = Arrays.copyOf(distances, customerType + 1);
+		newDistances[customerType] = codeDistances;
+		String[] newTypes = Arrays.copyOf(storedTypes, customerType + 1);
+		newTypes[customerType] = type;
+		String[] newCodes = Arrays.copyOf(storedCodes, customerType + 1);
+		newCodes[customerType] = code;
+		distances = newDistances;
+		storedTypes = newTypes;
+		storedCodes = newCodes;
+		return customerType;
+	}
+
+	/**
+	 * Returns the customer code of a type code.
+	 * @param customerType - A type code returned by customerType
+	 * @return The customer code
+	 */
+	static String customerCode(int customerType) {
+		return storedCodes[customerType];
+	}
+
+	/**
+	 * Returns the human understandable description of the customers of a type code, one of CUSTOMER_TYPES.
+	 * @param customerType - A type code returned by customerType
+	 * @return The description of the type of customer
+	 */
+	static String customerTypeName(int customerType) {
+		return storedTypes[customerType];
+	}
+
+	/**
+	 * Indicates if the customers of a type code pick up their pizzas, and so must be at the restaurant.
+	 * @param customerType - A type code returned by customerType
+	 * @return true if the customers pick up their pizzas and false otherwise
+	 */
+	static boolean isPickUp(int customerType) {
+		return storedTypes[customerType].equals(CUSTOMER_TYPES[0]);
+	}
+
+	/**
+	 * Returns the number of customer codes that can be stored without adding any more registered codes.
+	 * @return The number of type codes
+	 */
+	static int numCustomerTypes() {
+		return storedCodes.length;
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	private void checkRange(int from, int to) {
+		if (from < 0 || to > size || from > to) {
+			throw new IndexOutOfBoundsException("Invalid range: " + from + " to " + to);
+		}
+	}
+
+}//end OrderStore
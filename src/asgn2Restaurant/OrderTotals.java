@@ -0,0 +1,143 @@
+package asgn2Restaurant;
+
+/**
+ * A class that keeps running totals over a number of orders. Orders are added one at a time, so the
+ * totals of a log file can be calculated without keeping its orders, and the totals of the orders
+ * loaded in a restaurant can be read without going through each order again.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+public class OrderTotals {
+	//Counted as longs, as the totals of many log files can add up to more orders or pizzas than an int can hold
+	private long numOrders;
+	private long numPizzas;
+	private double totalPrice;
+	private double totalCost;
+	private double totalProfit;
+	private double totalDeliveryDistance;
+
+	/**
+	 * Creates totals for no orders.
+	 *
+	 * <P> PRE: TRUE
+	 * <P> POST: All totals are zero
+	 */
+	public OrderTotals() {
+	}
+
+	/**
+	 * Adds an order to the totals.
+	 * @param order - The order to add
+	 */
+	public void add(OrderRecord order) {
+		numOrders++;
+		numPizzas += order.getPizza().getQuantity();
+		totalPrice += order.getPizza().getOrderPrice();
+		totalCost += order.getPizza().getOrderCost();
+		totalProfit += order.getPizza().getOrderProfit();
+		totalDeliveryDistance += order.getCustomer().getDeliveryDistance();
+	}//end Add
+
+	/**
+	 * Adds an order to the totals from its quantity, price, cost, profit and delivery distance, as when the orders
+	 * are stored in columns rather than as OrderRecord objects.
+	 */
+	void add(int quantity, double orderPrice, double orderCost, double orderProfit, double deliveryDistance) {
+		numOrders++;
+		numPizzas += quantity;
+		totalPrice += orderPrice;
+		totalCost += orderCost;
+		totalProfit += orderProfit;
+		totalDeliveryDistance += deliveryDistance;
+	}//end Add(int, double, double, double, double)
+
+	/**
+	 * Adds the orders counted by other totals to these totals.
+	 * @param other - The totals to add
+	 */
+	public void add(OrderTotals other) {
+		numOrders += other.numOrders;
+		numPizzas += other.numPizzas;
+		totalPrice += other.totalPrice;
+		totalCost += other.totalCost;
+		totalProfit += other.totalProfit;
+		totalDeliveryDistance += other.totalDeliveryDistance;
+	}//end Add(OrderTotals)
+
+	/**
+	 * Sets all totals to the specified values, as when the totals are read from a snapshot.
+	 */
+	void set(long numOrders, long numPizzas, double totalPrice, double totalCost, double totalProfit, double totalDeliveryDistance) {
+		this.numOrders = numOrders;
+		this.numPizzas = numPizzas;
+		this.totalPrice = totalPrice;
+		this.totalCost = totalCost;
+		this.totalProfit = totalProfit;
+		this.totalDeliveryDistance = totalDeliveryDistance;
+	}//end Set
+
+	/**
+	 * Sets all totals back to zero.
+	 *
+	 * <P> PRE: TRUE
+	 * <P> POST: All totals are zero
+	 */
+	public void clear() {
+		numOrders = 0;
+		numPizzas = 0;
+		totalPrice = 0;
+		totalCost = 0;
+		totalProfit = 0;
+		totalDeliveryDistance = 0;
+	}//end Clear
+
+	/**
+	 * Returns the number of orders added to the totals.
+	 * @return The number of orders added to the totals.
+	 */
+	public long getNumOrders() {
+		return numOrders;
+	}
+
+	/**
+	 * Returns the number of pizzas ordered, taking into account the quantity of each order.
+	 * @return The number of pizzas ordered.
+	 */
+	public long getNumPizzas() {
+		return numPizzas;
+	}
+
+	/**
+	 * Returns the total amount that the orders are sold to the customers.
+	 * @return The total price of the orders.
+	 */
+	public double getTotalPrice() {
+		return totalPrice;
+	}
+
+	/**
+	 * Returns the total amount that the orders cost to make.
+	 * @return The total cost of the orders.
+	 */
+	public double getTotalCost() {
+		return totalCost;
+	}
+
+	/**
+	 * Returns the total profit of the orders.
+	 * @return The total profit of the orders.
+	 */
+	public double getTotalProfit() {
+		return totalProfit;
+	}
+
+	/**
+	 * Returns the total delivery distance of the orders.
+	 * @return The total delivery distance of the orders.
+	 */
+	public double getTotalDeliveryDistance() {
+		return totalDeliveryDistance;
+	}
+
+}//end OrderTotals
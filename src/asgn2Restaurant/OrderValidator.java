@@ -0,0 +1,114 @@
+package asgn2Restaurant;
+
+import asgn2Customers.CustomerValidator;
+import asgn2Exceptions.LogError;
+
+/**
+ * A class that finds the reason that the parameters of an order are invalid, applying the rules of the Customer and
+ * Pizza constructors and their factories in the same order, without creating a Customer or Pizza. A null reason means
+ * that creating the Customer or Pizza from the same parameters succeeds.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+final class OrderValidator {
+	static final int MIN_QUANTITY = 1;
+	static final int MAX_QUANTITY = OrderStore.MAX_QUANTITY;
+	//The first and last order times and the shortest and longest times to delivery, in seconds
+	static final int MIN_ORDER_TIME = 19 * 3600;
+	static final int MAX_ORDER_TIME = 22 * 3600 + 59 * 60;
+	static final int MIN_DELIVERY_SECONDS = 10 * 60;
+	static final int MAX_DELIVERY_SECONDS = 59 * 60;
+
+	private OrderValidator() {
+	}
+
+	/**
+	 * Returns the reason that the details of a customer are invalid, checked in the same order as the Customer constructor.
+	 * @param customerType - The type code of the customer code from OrderStore.customerType, or -1 if the code is not valid
+	 * @param name - The customer's name
+	 * @param mobileNumber - The customer's mobile number
+	 * @param locationX - The customer x location relative to the restaurant
+	 * @param locationY - The customer y location relative to the restaurant
+	 * @return The reason that the customer is invalid, or null if it is valid
+	 */
+	static LogError customerError(int customerType, CharSequence name, CharSequence mobileNumber, int locationX, int locationY) {
+		if (customerType < 0) {
+			return LogError.INVALID_CUSTOMER_CODE;
+		} else if (!CustomerValidator.isValidNameLength(name)) {
+			return LogError.INVALID_NAME_LENGTH;
+		} else if (!CustomerValidator.isValidNameCharacters(name)) {
+			return LogError.INVALID_NAME_CHARACTERS;
+		} else if (!CustomerValidator.isValidMobileNumber(mobileNumber)) {
+			return LogError.INVALID_MOBILE_NUMBER;
+		} else if (OrderStore.isPickUp(customerType)) {
+			//A pick up customer at the restaurant is always within range
+			return CustomerValidator.isValidPickUpLocation(locationX, locationY) ? null : LogError.INVALID_PICK_UP_LOCATION;
+		} else if (!CustomerValidator.isValidDeliveryLocation(locationX, locationY)) {
+			return LogError.INVALID_DELIVERY_LOCATION;
+		} else if (!CustomerValidator.isWithinRange(locationX, locationY)) {
+			return LogError.LOCATION_OUT_OF_RANGE;
+		}//end if-else
+		return null;
+	}//end CustomerError
+
+	/**
+	 * Returns the reason that the details of a pizza are invalid, applying the same rules as the Pizza constructor.
+	 * A delivery time of midnight is before any valid order time.
+	 * @param pizzaId - The id of the pizza on the menu, or -1 if the code is not on the menu
+	 * @param quantity - The number of pizzas ordered
+	 * @param orderTime - The order time in seconds after midnight
+	 * @param deliveryTime - The delivery time in seconds after midnight
+	 * @return The reason that the pizza is invalid, or null if it is valid
+	 */
+	static LogError pizzaError(int pizzaId, long quantity, int orderTime, int deliveryTime) {
+		if (pizzaId < 0) {
+			return LogError.INVALID_PIZZA_CODE;
+		} else if (quantity < MIN_QUANTITY || quantity > MAX_QUANTITY) {
+			return LogError.INVALID_QUANTITY;
+		} else if (orderTime < MIN_ORDER_TIME || orderTime > MAX_ORDER_TIME) {
+			return LogError.ORDER_TIME_OUT_OF_HOURS;
+		} else if (deliveryTime < orderTime + MIN_DELIVERY_SECONDS) {
+			return LogError.DELIVERY_TOO_SOON;
+		} else if (deliveryTime > orderTime + MAX_DELIVERY_SECONDS) {
+			return LogError.DELIVERY_TOO_LATE;
+		}//end if-else
+		return null;
+	}//end PizzaError
+
+	/**
+	 * Returns the index of the parameter that a reason refers to.
+	 * @param error - The reason that a line is invalid
+	 * @param locationX - The x location of the line, used to tell which location parameter is invalid
+	 * @return The index of the parameter, or -1 if the reason refers to the whole line
+	 */
+	static int fieldIndex(LogError error, int locationX) {
+		switch (error) {
+		case INVALID_NAME_LENGTH:
+		case INVALID_NAME_CHARACTERS:
+			return MappedLogReader.NAME;
+		case INVALID_MOBILE_NUMBER:
+			return MappedLogReader.MOBILE;
+		case INVALID_CUSTOMER_CODE:
+			return MappedLogReader.CUSTOMER_CODE;
+		case INVALID_PICK_UP_LOCATION:
+			return locationX != 0 ? MappedLogReader.LOCATION_X : MappedLogReader.LOCATION_Y;
+		case INVALID_DELIVERY_LOCATION:
+			return MappedLogReader.LOCATION_X;
+		case LOCATION_OUT_OF_RANGE:
+			return CustomerValidator.isWithinRange(locationX, 0) ? MappedLogReader.LOCATION_Y : MappedLogReader.LOCATION_X;
+		case INVALID_PIZZA_CODE:
+			return MappedLogReader.PIZZA_CODE;
+		case INVALID_QUANTITY:
+			return MappedLogReader.QUANTITY;
+		case ORDER_TIME_OUT_OF_HOURS:
+			return MappedLogReader.ORDER_TIME;
+		case DELIVERY_TOO_SOON:
+		case DELIVERY_TOO_LATE:
+			return MappedLogReader.DELIVERY_TIME;
+		default:
+			return -1;
+		}
+	}//end FieldIndex
+
+}//end OrderValidator
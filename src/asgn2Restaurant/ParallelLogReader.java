@@ -0,0 +1,513 @@
+package asgn2Restaurant;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import asgn2Exceptions.CustomerException;
+import asgn2Exceptions.LogHandlerException;
+import asgn2Exceptions.PizzaException;
+import asgn2Pizzas.PizzaMenu;
+
+/**
+ * A class that reads a log file on several cores. The file is divided into chunks that start and end on line
+ * boundaries, each chunk is memory mapped and read by a MappedLogReader on a fork-join pool, and the orders of the
+ * chunks are joined in the order they appear in the log file. If the log file contains errors, the exception thrown
+ * is the one for the first invalid line of the log file, as it would be when reading the file one line at a time.
+ * Every chunk accepts the pizzas of the menu that was installed when reading started.
+ *
+ * The orders can also be read straight into an OrderStore, with each chunk read into a store of its own that is
+ * appended to it in file order, so that no Customer, Pizza or OrderRecord is created for them.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+public class ParallelLogReader {
+
+	//Files smaller than this are read in a single chunk as the work is not worth dividing
+	static final long MIN_CHUNK_SIZE = 1 << 20;
+	//Size of the reads used to find the line boundary nearest to a chunk boundary
+	static final int BOUNDARY_READ_SIZE = 4096;
+	//Most chunks to divide a file into when the chunks are passed to a listener as they are read
+	static final int MAX_LISTENER_CHUNKS = 1024;
+
+	/**
+	 * A listener that is passed the orders of each chunk of a log file, in the order they appear in the log file,
+	 * so that the orders can be used before the whole log file has been read.
+	 */
+	public interface ChunkListener {
+		/**
+		 * Called with the orders of the next chunk of the log file.
+		 * @param orders - The orders of the chunk ordered as they appear in the log file
+		 * @param bytesRead - The number of bytes of the log file read up to the end of the chunk
+		 * @param fileSize - The size of the log file in bytes
+		 * @return true to carry on reading, or false to stop reading the log file
+		 */
+		boolean chunkRead(List<OrderRecord> orders, long bytesRead, long fileSize);
+	}
+
+	/**
+	 * Returns an ArrayList of OrderRecord objects from the information contained in the log file ordered as they appear in the log file.
+	 * The log file is divided into about four chunks per available core, with small files read in a single chunk.
+	 * @param filename The file name of the log file
+	 * @return an ArrayList of OrderRecord objects from the information contained in the log file ordered as they appear in the log file.
+	 * @throws CustomerException If the first invalid line of the log file contains an invalid customer code or invalid customer detail.
+	 * @throws PizzaException If the first invalid line of the log file violates the pizza constraints or contains an invalid pizza code.
+	 * @throws LogHandlerException If the first invalid line of the log file cannot be parsed or the file cannot be read.
+	 */
+	public static ArrayList<OrderRecord> readOrders(String filename) throws CustomerException, PizzaException, LogHandlerException {
+		return readOrders(filename, ForkJoinPool.commonPool().getParallelism() * 4, MIN_CHUNK_SIZE);
+	}//end ReadOrders
+
+	/**
+	 * Returns an ArrayList of OrderRecord objects from the information contained in the log file ordered as they appear in the log file,
+	 * dividing the log file into the specified number of chunks.
+	 * @param filename The file name of the log file
+	 * @param chunks The number of chunks to divide the log file into
+	 * @return an ArrayList of OrderRecord objects from the information contained in the log file ordered as they appear in the log file.
+	 * @throws CustomerException If the first invalid line of the log file contains an invalid customer code or invalid customer detail.
+	 * @throws PizzaException If the first invalid line of the log file violates the pizza constraints or contains an invalid pizza code.
+	 * @throws LogHandlerException If the first invalid line of the log file cannot be parsed or the file cannot be read.
+	 */
+	public static ArrayList<OrderRecord> readOrders(String filename, int chunks) throws CustomerException, PizzaException, LogHandlerException {
+		return readOrders(filename, chunks, 1);
+	}//end ReadOrders(String, int)
+
+	/**
+	 * Reads the orders of the log file into the end of an order store, in the order they appear in the log file. The log
+	 * file is divided into chunks as for readOrders(String), and the lines accepted are the pizzas of the menu of the store.
+	 * If the log file contains errors, the exception of the first invalid line is thrown and the store may contain some
+	 * of the orders before it.
+	 * @param filename The file name of the log file
+	 * @param orders The store to add the orders to
+	 * @throws CustomerException If the first invalid line of the log file contains an invalid customer code or invalid customer detail.
+	 * @throws PizzaException If the first invalid line of the log file violates the pizza constraints or contains an invalid pizza code.
+	 * @throws LogHandlerException If the first invalid line of the log file cannot be parsed or the file cannot be read.
+	 */
+	static void readOrders(String filename, OrderStore orders) throws CustomerException, PizzaException, LogHandlerException {
+		long linesBefore = 0;
+		for (ChunkTask task : readChunks(filename, ForkJoinPool.commonPool().getParallelism() * 4, MIN_CHUNK_SIZE, orders)) {
+			if (task.error != null) {
+				rethrow(task.error, linesBefore);
+			}
+			if (task.store != orders) {
+				orders.addAll(task.store);
+			}
+			linesBefore += task.store.size();
+		}//end for loop
+	}//end ReadOrders(String, OrderStore)
+
+	/**
+	 * Reads the log file in chunks on several cores and passes the orders of each chunk to the listener, in the order
+	 * they appear in the log file, as soon as the chunk and all the chunks before it have been read. The listener is
+	 * called on the calling thread. If the log file contains errors, the orders of the chunks before the first invalid
+	 * line are passed to the listener before the exception of the first invalid line is thrown.
+	 * @param filename The file name of the log file
+	 * @param listener The listener to pass the orders of each chunk to
+	 * @return true if the whole log file was read, or false if the listener stopped the reading
+	 * @throws CustomerException If the first invalid line of the log file contains an invalid customer code or invalid customer detail.
+	 * @throws PizzaException If the first invalid line of the log file violates the pizza constraints or contains an invalid pizza code.
+	 * @throws LogHandlerException If the first invalid line of the log file cannot be parsed or the file cannot be read.
+	 */
+	public static boolean readOrders(String filename, ChunkListener listener) throws CustomerException, PizzaException, LogHandlerException {
+		try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+			long size = channel.size();
+			//Use more chunks than for readOrders so that the listener is called often for large files
+			int chunks = (int) Math.max(ForkJoinPool.commonPool().getParallelism() * 4, Math.min(size / MIN_CHUNK_SIZE, MAX_LISTENER_CHUNKS));
+			long[] boundaries = chunkBoundaries(channel, chunks, MIN_CHUNK_SIZE);
+			AtomicInteger firstInvalidChunk = new AtomicInteger(Integer.MAX_VALUE);
+			PizzaMenu menu = PizzaMenu.getCurrent();
+			ArrayList<ChunkTask> tasks = new ArrayList<ChunkTask>();
+			for (int i = 0; i + 1 < boundaries.length; i++) {
+				ChunkTask task = new ChunkTask(channel, i, boundaries[i], boundaries[i + 1], firstInvalidChunk, menu);
+				tasks.add(task);
+				ForkJoinPool.commonPool().execute(task);
+			}//end for loop
+			try {
+				long linesBefore = 0;
+				for (ChunkTask task : tasks) {
+					task.join();
+					if (!task.orders.isEmpty() && !listener.chunkRead(task.orders, task.end, size)) {
+						return false;
+					}
+					if (task.error != null) {
+						rethrow(task.error, linesBefore);
+					}
+					linesBefore += task.orders.size();
+					task.orders = null;
+				}//end for loop
+				return true;
+			} finally {
+				//Stop the chunks that have not been passed to the listener and wait for them before the file is closed
+				firstInvalidChunk.set(-1);
+				for (ChunkTask task : tasks) {
+					task.join();
+				}//end for loop
+			}//end try-finally block
+		} catch (IOException e) {
+			throw new LogHandlerException(e.getMessage());
+		}//end try-catch block
+	}//end ReadOrders(String, ChunkListener)
+
+	/**
+	 * Returns the orders of the valid lines of the log file ordered as they appear in the log file, skipping the invalid
+	 * lines instead of throwing an exception for the first of them. Each invalid line is added to the report.
+	 * @param filename The file name of the log file
+	 * @param report The report to add the invalid lines to
+	 * @return an ArrayList of OrderRecord objects from the valid lines of the log file ordered as they appear in the log file.
+	 * @throws LogHandlerException If the file cannot be read.
+	 */
+	public static ArrayList<OrderRecord> readValidOrders(String filename, ErrorReport report) throws LogHandlerException {
+		ArrayList<ChunkTask> tasks = readLeniently(filename, report, false, null);
+		int total = 0;
+		for (ChunkTask task : tasks) {
+			total += task.orders.size();
+		}//end for loop
+		ArrayList<OrderRecord> orders = new ArrayList<OrderRecord>(total);
+		for (ChunkTask task : tasks) {
+			orders.addAll(task.orders);
+		}//end for loop
+		return orders;
+	}//end ReadValidOrders
+
+	/**
+	 * Reads the orders of the valid lines of the log file into the end of an order store, in the order they appear in
+	 * the log file, skipping the invalid lines. Each invalid line is added to the report.
+	 * @param filename The file name of the log file
+	 * @param report The report to add the invalid lines to
+	 * @param orders The store to add the orders to, whose menu gives the pizzas accepted
+	 * @throws LogHandlerException If the file cannot be read.
+	 */
+	static void readValidOrders(String filename, ErrorReport report, OrderStore orders) throws LogHandlerException {
+		for (ChunkTask task : readLeniently(filename, report, false, orders)) {
+			if (task.store != orders) {
+				orders.addAll(task.store);
+			}
+		}//end for loop
+	}//end ReadValidOrders(String, ErrorReport, OrderStore)
+
+	/**
+	 * Checks every line of the log file against the rules used to create its orders, without creating any Customer or
+	 * Pizza objects. A line is valid exactly when reading it would create an order, and each invalid line is added to the
+	 * report with the same reason that reading it would report.
+	 * @param filename The file name of the log file
+	 * @param report The report to add the invalid lines to
+	 * @return true if every line of the log file is valid and false otherwise.
+	 * @throws LogHandlerException If the file cannot be read.
+	 */
+	public static boolean validate(String filename, ErrorReport report) throws LogHandlerException {
+		long invalidBefore = report.getNumInvalidLines();
+		readLeniently(filename, report, true, null);
+		return report.getNumInvalidLines() == invalidBefore;
+	}//end Validate
+
+	/**
+	 * Reads every chunk of the log file to its end, adding the invalid lines of each chunk to the report in the order
+	 * they appear in the log file.
+	 * @param filename The file name of the log file
+	 * @param report The report to add the invalid lines to
+	 * @param validateOnly true to only check the lines, or false to also create the orders of the valid lines
+	 * @param orders The store that the orders are read for, or null to create their OrderRecord objects
+	 * @return The tasks that read the chunks, in the order of the chunks
+	 * @throws LogHandlerException If the file cannot be read.
+	 */
+	private static ArrayList<ChunkTask> readLeniently(String filename, ErrorReport report, boolean validateOnly,
+			OrderStore orders) throws LogHandlerException {
+		try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+			long[] boundaries = chunkBoundaries(channel, ForkJoinPool.commonPool().getParallelism() * 4, MIN_CHUNK_SIZE);
+			//No chunk is invalid as a whole, so every chunk is read to its end
+			AtomicInteger noInvalidChunk = new AtomicInteger(Integer.MAX_VALUE);
+			ArrayList<ChunkTask> tasks = createTasks(channel, boundaries, noInvalidChunk, orders);
+			for (ChunkTask task : tasks) {
+				task.report = new ErrorReport(report.getSamplesPerError());
+				task.validateOnly = validateOnly;
+			}//end for loop
+			ForkJoinPool.commonPool().invoke(new RecursiveTask<Void>() {
+				@Override
+				protected Void compute() {
+					invokeAll(tasks);
+					return null;
+				}
+			});
+			for (ChunkTask task : tasks) {
+				if (task.error != null) {
+					throw new LogHandlerException(task.error.getMessage());
+				}
+			}//end for loop
+			long linesBefore = 0;
+			for (ChunkTask task : tasks) {
+				report.addAll(task.report, linesBefore);
+				linesBefore += task.numLines;
+			}//end for loop
+			return tasks;
+		} catch (IOException e) {
+			throw new LogHandlerException(e.getMessage());
+		}//end try-catch block
+	}//end ReadLeniently
+
+	private static ArrayList<OrderRecord> readOrders(String filename, int chunks, long minChunkSize)
+			throws CustomerException, PizzaException, LogHandlerException {
+		ArrayList<ChunkTask> tasks = readChunks(filename, chunks, minChunkSize, null);
+		//Join the chunks in file order, throwing the error of the first chunk that has one
+		int total = 0;
+		for (ChunkTask task : tasks) {
+			total += task.orders.size();
+		}//end for loop
+		ArrayList<OrderRecord> orders = new ArrayList<OrderRecord>(total);
+		for (ChunkTask task : tasks) {
+			if (task.error != null) {
+				orders.addAll(task.orders);
+				rethrow(task.error, orders.size() - task.orders.size());
+			}
+			orders.addAll(task.orders);
+		}//end for loop
+		return orders;
+	}//end ReadOrders(String, int, long)
+
+	/**
+	 * Reads every chunk of the log file until the first invalid line, with later chunks stopping early once an
+	 * earlier chunk is known to contain an invalid line.
+	 * @param filename The file name of the log file
+	 * @param chunks The number of chunks to aim for
+	 * @param minChunkSize The smallest chunk to create
+	 * @param orders The store that the orders are read for, or null to create their OrderRecord objects
+	 * @return The tasks that read the chunks, in the order of the chunks
+	 * @throws LogHandlerException If the file cannot be read.
+	 */
+	private static ArrayList<ChunkTask> readChunks(String filename, int chunks, long minChunkSize, OrderStore orders)
+			throws LogHandlerException {
+		try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+			long[] boundaries = chunkBoundaries(channel, chunks, minChunkSize);
+			//Index of the first chunk known to contain an invalid line, so that later chunks can stop early
+			AtomicInteger firstInvalidChunk = new AtomicInteger(Integer.MAX_VALUE);
+			ArrayList<ChunkTask> tasks = createTasks(channel, boundaries, firstInvalidChunk, orders);
+			if (tasks.size() == 1) {
+				tasks.get(0).invoke();
+			} else {
+				ForkJoinPool.commonPool().invoke(new RecursiveTask<Void>() {
+					@Override
+					protected Void compute() {
+						invokeAll(tasks);
+						return null;
+					}
+				});
+			}//end if-else
+			return tasks;
+		} catch (IOException e) {
+			throw new LogHandlerException(e.getMessage());
+		}//end try-catch block
+	}//end ReadChunks
+
+	/**
+	 * Creates the tasks that read each chunk of the log file. When the orders are read for a store, each chunk is read
+	 * into a store of its own for the same menu, except that a single chunk is read straight into the store.
+	 * @param channel - The channel of the log file
+	 * @param boundaries - The position of the start of each chunk followed by the size of the file
+	 * @param firstInvalidChunk - The index of the first chunk known to contain an invalid line
+	 * @param orders - The store that the orders are read for, or null to create their OrderRecord objects
+	 * @return The tasks, in the order of the chunks
+	 */
+	private static ArrayList<ChunkTask> createTasks(FileChannel channel, long[] boundaries, AtomicInteger firstInvalidChunk,
+			OrderStore orders) {
+		PizzaMenu menu = (orders == null) ? PizzaMenu.getCurrent() : orders.getMenu();
+		ArrayList<ChunkTask> tasks = new ArrayList<ChunkTask>();
+		for (int i = 0; i + 1 < boundaries.length; i++) {
+			ChunkTask task = new ChunkTask(channel, i, boundaries[i], boundaries[i + 1], firstInvalidChunk, menu);
+			if (orders != null) {
+				task.store = (boundaries.length == 2) ? orders : new OrderStore(menu);
+			}
+			tasks.add(task);
+		}//end for loop
+		return tasks;
+	}//end CreateTasks
+
+	/**
+	 * Divides the file into chunks that each begin at the start of a line. A chunk is never larger than
+	 * the largest region that MappedLogReader maps at a time.
+	 * @param channel - The channel of the log file
+	 * @param chunks - The number of chunks to aim for
+	 * @param minChunkSize - The smallest chunk to create
+	 * @return The position of the start of each chunk followed by the size of the file
+	 * @throws IOException If the file cannot be read
+	 */
+	static long[] chunkBoundaries(FileChannel channel, int chunks, long minChunkSize) throws IOException {
+		long size = channel.size();
+		long chunkSize = Math.max(Math.max(minChunkSize, 1), (size + chunks - 1) / Math.max(chunks, 1));
+		chunkSize = Math.min(chunkSize, MappedLogReader.MAX_WINDOW_SIZE / 2);
+		ArrayList<Long> starts = new ArrayList<Long>();
+		long start = 0;
+		while (start < size) {
+			starts.add(start);
+			start = (start + chunkSize >= size) ? size : nextLineStart(channel, start + chunkSize, size);
+		}//end while loop
+		long[] boundaries = new long[starts.size() + 1];
+		for (int i = 0; i < starts.size(); i++) {
+			boundaries[i] = starts.get(i);
+		}//end for loop
+		boundaries[starts.size()] = size;
+		return boundaries;
+	}//end ChunkBoundaries
+
+	/**
+	 * Returns the start of the first line that begins at or after the position. Lines are terminated the same way as
+	 * BufferedReader.readLine, so a carriage return followed by a new line is treated as one terminator.
+	 * @param channel - The channel of the log file
+	 * @param position - The position to search from
+	 * @param size - The size of the file
+	 * @return The start of the next line, or the size of the file if there are no more lines
+	 * @throws IOException If the file cannot be read
+	 */
+	private static long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+		ByteBuffer block = ByteBuffer.allocate(BOUNDARY_READ_SIZE + 1);
+		//Start one byte early so that a line ending just before the position is found
+		long blockStart = position - 1;
+		while (blockStart < size) {
+			block.clear();
+			channel.read(block, blockStart);
+			block.flip();
+			//The last byte of the block is only read to check whether a carriage return is followed by a new line
+			int usable = Math.min(block.limit(), BOUNDARY_READ_SIZE);
+			for (int i = 0; i < usable; i++) {
+				byte b = block.get(i);
+				boolean crlf = b == '\r' && i + 1 < block.limit() && block.get(i + 1) == '\n';
+				if (b == '\n' || (b == '\r' && !crlf)) {
+					return blockStart + i + 1;
+				}
+			}//end for loop
+			blockStart += BOUNDARY_READ_SIZE;
+		}//end while loop
+		return size;
+	}//end NextLineStart
+
+	/**
+	 * Rethrows an exception caught while reading a chunk with its original type. The line number of an invalid line
+	 * is counted from the start of its chunk, so it is moved on by the number of lines in the chunks before it.
+	 * @param e - The exception caught while reading the chunk
+	 * @param linesBefore - The number of lines of the log file before the chunk
+	 */
+	private static void rethrow(Exception e, long linesBefore) throws CustomerException, PizzaException, LogHandlerException {
+		if (e instanceof CustomerException) {
+			CustomerException ce = (CustomerException) e;
+			if (ce.getError() != null) {
+				ce.getError().throwException(ce.getLineNumber() + linesBefore, ce.getFieldIndex());
+			}
+			throw ce;
+		} else if (e instanceof PizzaException) {
+			PizzaException pe = (PizzaException) e;
+			if (pe.getError() != null) {
+				pe.getError().throwException(pe.getLineNumber() + linesBefore, pe.getFieldIndex());
+			}
+			throw pe;
+		} else if (e instanceof LogHandlerException) {
+			LogHandlerException lhe = (LogHandlerException) e;
+			if (lhe.getError() != null) {
+				lhe.getError().throwException(lhe.getLineNumber() + linesBefore, lhe.getFieldIndex());
+			}
+			throw lhe;
+		}//end if-else
+		throw new LogHandlerException(e.getMessage());
+	}//end Rethrow
+
+	/**
+	 * A task that reads the orders of a single chunk. Reading stops at the first invalid line of the chunk,
+	 * or as soon as an earlier chunk is known to contain an invalid line. If the task has a report, the invalid
+	 * lines are added to it and skipped instead, and reading stops only at the end of the chunk. A task that only
+	 * validates its chunk creates no orders, and a task with a store adds its orders to the store instead of creating
+	 * them.
+	 */
+	private static class ChunkTask extends RecursiveTask<Void> {
+		private static final long serialVersionUID = 1L;
+		private final FileChannel channel;
+		private final int index;
+		private final long start;
+		private final long end;
+		private final AtomicInteger firstInvalidChunk;
+		private final PizzaMenu menu;
+		ArrayList<OrderRecord> orders = new ArrayList<OrderRecord>();
+		OrderStore store;
+		Exception error;
+		//The invalid lines of the chunk when reading leniently, numbered from the start of the chunk
+		ErrorReport report;
+		boolean validateOnly;
+		long numLines;
+
+		ChunkTask(FileChannel channel, int index, long start, long end, AtomicInteger firstInvalidChunk, PizzaMenu menu) {
+			this.channel = channel;
+			this.index = index;
+			this.start = start;
+			this.end = end;
+			this.firstInvalidChunk = firstInvalidChunk;
+			this.menu = menu;
+		}
+
+		@Override
+		protected Void compute() {
+			try {
+				MappedLogReader reader = new MappedLogReader(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start), menu);
+				if (report != null && validateOnly) {
+					validateLines(reader);
+					return null;
+				} else if (report != null) {
+					readValidOrders(reader);
+					return null;
+				}
+				boolean read = readNext(reader);
+				while (read && firstInvalidChunk.get() > index) {
+					read = readNext(reader);
+				}//end while loop
+			} catch (Exception e) {
+				error = e;
+				firstInvalidChunk.accumulateAndGet(index, Math::min);
+			}//end try-catch block
+			return null;
+		}//end Compute
+
+		//Reads every line of the chunk, adding the invalid lines to the report
+		private void readValidOrders(MappedLogReader reader) throws Exception {
+			while (true) {
+				try {
+					if (!readNext(reader)) {
+						break;
+					}
+				} catch (CustomerException | PizzaException | LogHandlerException e) {
+					if (reader.getLastError() == null) {
+						throw e;
+					}
+					report.add(reader.getLastError(), reader.getLineNumber(), start + reader.getLineStart(), reader.getLastFieldIndex());
+				}//end try-catch block
+			}//end while loop
+			numLines = reader.getLineNumber();
+		}//end ReadValidOrders
+
+		//Reads the order of the next line into the store, or into the list of orders if the task has no store
+		private boolean readNext(MappedLogReader reader) throws CustomerException, PizzaException, LogHandlerException {
+			if (store != null) {
+				return reader.readOrder(store);
+			}
+			OrderRecord order = reader.readOrder();
+			if (order == null) {
+				return false;
+			}
+			orders.add(order);
+			return true;
+		}//end ReadNext
+
+		//Checks every line of the chunk, adding the invalid lines to the report
+		private void validateLines(MappedLogReader reader) {
+			while (reader.validateLine()) {
+				if (reader.getLastError() != null) {
+					report.add(reader.getLastError(), reader.getLineNumber(), start + reader.getLineStart(), reader.getLastFieldIndex());
+				}
+			}//end while loop
+			numLines = reader.getLineNumber();
+		}//end ValidateLines
+	}//end ChunkTask
+
+}//end ParallelLogReader
@@ -1,12 +1,17 @@
 package asgn2Restaurant;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import asgn2Customers.Customer;
 import asgn2Exceptions.CustomerException;
 import asgn2Exceptions.LogHandlerException;
 import asgn2Exceptions.PizzaException;
 import asgn2Pizzas.Pizza;
+import asgn2Pizzas.PizzaMenu;
 
 /**
  * This class acts as a 몀odel� of a pizza restaurant. It contains an ArrayList of Pizza objects and an ArrayList of  Customer objects.
@@ -16,15 +21,23 @@ import asgn2Pizzas.Pizza;
  *  
  *  Any exceptions raised by one of the methods called by this class should be passed to asgn2GUIs.PizzaGUI so that it can be shown to
  *  the user.
+ *  
+ *  The methods of the restaurant are synchronized, so that its orders and totals can be read by one thread, such as that of
+ *  asgn2GUIs.PizzaGUI, while a LogFollower adds orders to them on another thread.
  * 
  * @author Matthew Holdsworth and Gyeongmin Jee
  *
  */
 public class PizzaRestaurant {
 
-	private ArrayList<Customer> customers;
-	private ArrayList<Pizza> pizzas;
-	static final int NUM_ORDERS = 100;
+	//The customers and pizzas of the orders, stored in columns and created when they are asked for
+	private OrderStore orders;
+	//Running totals of all orders and of the orders of each pizza type and customer type
+	private OrderTotals totals;
+	private LinkedHashMap<String, OrderTotals> pizzaTypeTotals;
+	private LinkedHashMap<String, OrderTotals> customerTypeTotals;
+	//The orders bucketed by the location of their customer, brought up to date when it is queried
+	private SpatialIndex locations;
 	
 	/**
 	 * Creates an instance of the PizzaRestaurant and sets the customers and pizzas fields to
@@ -35,8 +48,11 @@ public class PizzaRestaurant {
 	 * 
 	 */
 	public PizzaRestaurant() {
-		customers = new ArrayList<Customer>();
-		pizzas = new ArrayList<Pizza>();
+		orders = new OrderStore();
+		totals = new OrderTotals();
+		pizzaTypeTotals = new LinkedHashMap<String, OrderTotals>();
+		customerTypeTotals = new LinkedHashMap<String, OrderTotals>();
+		locations = new SpatialIndex();
 	}
 
 	/**
@@ -54,31 +70,156 @@ public class PizzaRestaurant {
 	 * @throws LogHandlerException If there was a problem with the log file not related to the semantic errors above such as a parsing error, empty string input, or other unspecified exceptions such as accessing invalid index.
      *
 	 */
-	public boolean processLog(String filename) throws CustomerException, PizzaException, LogHandlerException{
+	public synchronized boolean processLog(String filename) throws CustomerException, PizzaException, LogHandlerException{
 		try{
-			customers = LogHandler.populateCustomerDataset(filename);
-			pizzas = LogHandler.populatePizzaDataset(filename);
+			//Read the memory mapped log file once, in parallel chunks for large files, straight into the columns of the orders
+			resetDetails();
+			ParallelLogReader.readOrders(filename, orders);
+			addTotals();
 			return true;
-		} catch (CustomerException e){
-			throw new CustomerException(e.getMessage());
-		} catch (PizzaException e){
-			throw new PizzaException(e.getMessage());
+		} catch (CustomerException | PizzaException | LogHandlerException e){
+			//Passed on as they are so that the reason and line number of an invalid line are kept
+			resetDetails();
+			throw e;
 		} catch (Exception e){
+			resetDetails();
 			throw new LogHandlerException(e.getMessage());
 		}	
 	}
 
+	/**
+	 * This method processes the valid lines of the log file and populates the customers and pizzas fields with their
+	 * orders, skipping the invalid lines rather than throwing an exception for the first of them. Each invalid line
+	 * is added to the report with the reason it is invalid, so that all the invalid lines of a log file can be found
+	 * in a single pass.
+	 * 
+	 * <P> PRE: TRUE
+	 * <P> POST: If no exception is thrown then the customers and pizzas fields are populated with the valid orders of the log file
+	 * <P>       ordered as they appear in the log file. If an exception is thrown then the customers and pizzas fields are empty.
+	 * 
+	 * @param filename The log's filename
+	 * @param report The report to add the invalid lines of the log file to
+	 * @return true if the file was processed
+	 * @throws LogHandlerException If the log file cannot be read.
+	 */
+	public synchronized boolean processLog(String filename, ErrorReport report) throws LogHandlerException{
+		resetDetails();
+		try{
+			ParallelLogReader.readValidOrders(filename, report, orders);
+			addTotals();
+			return true;
+		} catch (LogHandlerException e){
+			resetDetails();
+			throw e;
+		}
+	}//end ProcessLog(String, ErrorReport)
+
+	/**
+	 * Saves the orders and totals of the restaurant to a binary snapshot file, so that they can be loaded again with
+	 * loadSnapshot without processing the log file.
+	 * 
+	 * @param filename The snapshot's filename
+	 * @throws LogHandlerException If the snapshot cannot be written.
+	 */
+	public synchronized void saveSnapshot(String filename) throws LogHandlerException{
+		OrderSnapshot.write(filename, orders, totals, pizzaTypeTotals, customerTypeTotals);
+	}//end SaveSnapshot
+	
+	/**
+	 * Replaces the orders and totals of the restaurant with those of a snapshot file written by saveSnapshot.
+	 * The orders are not validated again as they were validated when the log file was processed.
+	 * 
+	 * <P> PRE: TRUE
+	 * <P> POST: If no exception is thrown then the customers and pizzas fields are populated with the orders of the snapshot.
+	 * <P>       If an exception is thrown then the customers and pizzas fields are empty.
+	 * 
+	 * @param filename The snapshot's filename
+	 * @return true if the snapshot was loaded
+	 * @throws LogHandlerException If the snapshot cannot be read, is of an unsupported version or its checksum does not match.
+	 */
+	public synchronized boolean loadSnapshot(String filename) throws LogHandlerException{
+		resetDetails();
+		try{
+			OrderSnapshot.read(filename, orders, totals, pizzaTypeTotals, customerTypeTotals);
+			return true;
+		} catch (LogHandlerException e){
+			resetDetails();
+			throw e;
+		}
+	}//end LoadSnapshot
+	
+	/**
+	 * Adds an order to the end of the customers and pizzas fields and adds it to the running totals.
+	 * 
+	 * <P> PRE: TRUE
+	 * <P> POST: The customer and pizza of the order are the last objects of the customers and pizzas fields
+	 * 
+	 * @param order - The order to add
+	 */
+	public synchronized void addOrder(OrderRecord order){
+		orders.add(order.getCustomer(), order.getPizza());
+		totals.add(order);
+		typeTotals(pizzaTypeTotals, order.getPizza().getPizzaType()).add(order);
+		typeTotals(customerTypeTotals, order.getCustomer().getCustomerType()).add(order);
+	}
+
+	//Adds every order of the store to the running totals, giving the same totals as adding each order with addOrder
+	private void addTotals(){
+		PizzaMenu menu = orders.getMenu();
+		//The totals of each type by its id, so that the totals of a type are only looked up by name once
+		OrderTotals[] pizzaTotals = new OrderTotals[menu.size()];
+		OrderTotals[] customerTotals = new OrderTotals[OrderStore.MAX_CUSTOMER_CODES];
+		for (int i = 0; i < orders.size(); i++){
+			int pizzaId = orders.getPizzaId(i);
+			int customerType = orders.getCustomerType(i);
+			if (pizzaTotals[pizzaId] == null){
+				pizzaTotals[pizzaId] = typeTotals(pizzaTypeTotals, menu.getRecipe(pizzaId).getPizzaType());
+			}
+			if (customerTotals[customerType] == null){
+				customerTotals[customerType] = typeTotals(customerTypeTotals, OrderStore.customerTypeName(customerType));
+			}
+			orders.addTo(i, totals);
+			orders.addTo(i, pizzaTotals[pizzaId]);
+			orders.addTo(i, customerTotals[customerType]);
+		}
+	}
+
+	//Returns the totals for the type, creating them the first time the type is seen
+	private static OrderTotals typeTotals(LinkedHashMap<String, OrderTotals> totalsByType, String type){
+		OrderTotals typeTotals = totalsByType.get(type);
+		if (typeTotals == null){
+			typeTotals = new OrderTotals();
+			totalsByType.put(type, typeTotals);
+		}
+		return typeTotals;
+	}
+
 	/**
 	 * Returns the Customer object contained at the specified index of the customers field. The index should be the same as the index in the log file.
 	 * @param index - The index within the customers field to retrieve.
 	 * @return The Customer object located at the specified index.
 	 * @throws CustomerException if index is invalid.
 	 */
-	public Customer getCustomerByIndex(int index) throws CustomerException{
-		if (index < 0 || index > NUM_ORDERS - 1){
-			throw new CustomerException();
+	public synchronized Customer getCustomerByIndex(int index) throws CustomerException{
+		if (index < 0 || index >= orders.size()){
+			throw new CustomerException("Invalid customer index: " + index);
 		}
-		return customers.get(index);
+		return orders.getCustomer(index);
+	}
+	
+	/**
+	 * Returns the Customer objects between the specified indexes of the customers field, so that a large number of
+	 * orders can be retrieved without a call for each index. The list is created while the restaurant is locked, so it is not changed by orders added later.
+	 * @param from - The index of the first Customer to retrieve
+	 * @param to - The index after the last Customer to retrieve
+	 * @return The Customer objects from index from up to but not including index to.
+	 * @throws CustomerException if from is negative, to is greater than the number of customers or from is greater than to.
+	 */
+	public synchronized List<Customer> getCustomers(int from, int to) throws CustomerException{
+		if (from < 0 || to > orders.size() || from > to){
+			throw new CustomerException("Invalid customer index range: " + from + " to " + to);
+		}
+		return orders.getCustomers(from, to);
 	}
 	
 	/**
@@ -87,22 +228,65 @@ public class PizzaRestaurant {
 	 * @return The Pizza object located at the specified index.
 	 * @throws PizzaException if index is invalid.
 	 */	
-	public Pizza getPizzaByIndex(int index) throws PizzaException{
-		//Throw exception if index passed is less than zero or greater than number of orders
-		if (index < 0 || index > NUM_ORDERS - 1){
-			throw new PizzaException();
+	public synchronized Pizza getPizzaByIndex(int index) throws PizzaException{
+		//Throw exception if index passed is less than zero or not less than the number of orders
+		if (index < 0 || index >= orders.size()){
+			throw new PizzaException("Invalid pizza index: " + index);
 		}//end if
-		return pizzas.get(index);
+		return orders.getPizza(index);
 	}//end GetPizzaByIndex
 	
+	/**
+	 * Returns the Pizza objects between the specified indexes of the pizzas field, so that a large number of
+	 * orders can be retrieved without a call for each index. The list is created while the restaurant is locked, so it is not changed by orders added later.
+	 * @param from - The index of the first Pizza to retrieve
+	 * @param to - The index after the last Pizza to retrieve
+	 * @return The Pizza objects from index from up to but not including index to.
+	 * @throws PizzaException if from is negative, to is greater than the number of pizzas or from is greater than to.
+	 */
+	public synchronized List<Pizza> getPizzas(int from, int to) throws PizzaException{
+		//Throw exception if the range is not within the pizzas field
+		if (from < 0 || to > orders.size() || from > to){
+			throw new PizzaException("Invalid pizza index range: " + from + " to " + to);
+		}//end if
+		return orders.getPizzas(from, to);
+	}//end GetPizzas
+	
+	/**
+	 * Returns a single value of the order at the specified index, read from the stored orders without creating its
+	 * Customer or Pizza, so that a table of the orders can read each cell as it is shown.
+	 * @param index - The index of the order, the same as the index in the log file.
+	 * @param column - The value of the order to return
+	 * @return The value, a String, Integer or Double equal to that returned by the Customer or Pizza of the order, or
+	 * null if there is no order at the index, such as after the orders are reset.
+	 */
+	public synchronized Object getOrderValue(int index, OrderColumn column){
+		if (index < 0 || index >= orders.size()){
+			return null;
+		}
+		switch (column){
+		case CUSTOMER_NAME: return orders.getName(index);
+		case MOBILE_NUMBER: return orders.getMobileNumber(index);
+		case CUSTOMER_TYPE: return orders.getCustomerTypeName(index);
+		case LOCATION_X: return orders.getLocationX(index);
+		case LOCATION_Y: return orders.getLocationY(index);
+		case DELIVERY_DISTANCE: return orders.getDeliveryDistance(index);
+		case PIZZA_TYPE: return orders.getPizzaType(index);
+		case QUANTITY: return orders.getQuantity(index);
+		case ORDER_PRICE: return orders.getOrderPrice(index);
+		case ORDER_COST: return orders.getOrderCost(index);
+		default: return orders.getOrderProfit(index);
+		}
+	}//end GetOrderValue
+	
 	/**
 	 * Returns the number of objects contained in the pizzas field. This value SHOULD be the same as 
 	 * the value returned by getNumCustomerOrders.
 	 * 
 	 * @return the number of objects contained in the pizzas field.
 	 */
-	public int getNumPizzaOrders(){
-		return pizzas.size();
+	public synchronized int getNumPizzaOrders(){
+		return orders.size();
 	}//end
 
 	/**
@@ -111,8 +295,8 @@ public class PizzaRestaurant {
 	 * 
 	 * @return the number of objects contained in the customers field.
 	 */
-	public int getNumCustomerOrders(){
-		return customers.size();
+	public synchronized int getNumCustomerOrders(){
+		return orders.size();
 	}
 
 	/**
@@ -120,12 +304,8 @@ public class PizzaRestaurant {
 	 * 
 	 * @return the total delivery distance for all Customers objects in the customers field.
 	 */
-	public double getTotalDeliveryDistance(){
-		double total = 0;
-		for(int i = 0; i < customers.size(); i++){
-			total += customers.get(i).getDeliveryDistance();
-		}
-		return total;
+	public synchronized double getTotalDeliveryDistance(){
+		return totals.getTotalDeliveryDistance();
 	}
 
 	/**
@@ -133,25 +313,176 @@ public class PizzaRestaurant {
 	 * 
 	 * @return the total profit for all of the Pizza objects in the pizzas field.
 	 */	
-	public double getTotalProfit(){
-		//Safeguard against previous calculations
-		double profit = 0;
-		//Add together profit from each order
-		for (Pizza pizza : pizzas) {
-			profit += pizza.getOrderProfit();
-		}//end for loop
-		return profit;
+	public synchronized double getTotalProfit(){
+		//The total is kept up to date as orders are added
+		return totals.getTotalProfit();
 	}//end GetTotalProfit
 	
+	/**
+	 * Returns the running totals of all of the orders, including the total price, cost, profit and delivery distance.
+	 * The totals are kept up to date as orders are added, so they are not recalculated on each call.
+	 * 
+	 * @return a copy of the totals of all of the orders in the customers and pizzas fields, which does not change as
+	 * more orders are added.
+	 */
+	public synchronized OrderTotals getTotals(){
+		OrderTotals copy = new OrderTotals();
+		copy.add(totals);
+		return copy;
+	}//end GetTotals
+	
+	/**
+	 * Returns the running totals of the orders of each pizza type, keyed by the human understandable description
+	 * of the pizza type, in the order that each type was first ordered.
+	 * 
+	 * @return a copy of the totals of the orders of each pizza type, which cannot be modified.
+	 */
+	public synchronized Map<String, OrderTotals> getTotalsByPizzaType(){
+		return copyOf(pizzaTypeTotals);
+	}//end GetTotalsByPizzaType
+	
+	/**
+	 * Returns the running totals of the orders of each customer type, keyed by the human understandable description
+	 * of the customer type, in the order that each type first ordered.
+	 * 
+	 * @return a copy of the totals of the orders of each customer type, which cannot be modified.
+	 */
+	public synchronized Map<String, OrderTotals> getTotalsByCustomerType(){
+		return copyOf(customerTypeTotals);
+	}//end GetTotalsByCustomerType
+	
+	//Copies the totals of each type so that the running totals cannot be changed through the result
+	private static Map<String, OrderTotals> copyOf(Map<String, OrderTotals> typeTotals){
+		LinkedHashMap<String, OrderTotals> copy = new LinkedHashMap<String, OrderTotals>();
+		for (Map.Entry<String, OrderTotals> entry : typeTotals.entrySet()) {
+			OrderTotals totals = new OrderTotals();
+			totals.add(entry.getValue());
+			copy.put(entry.getKey(), totals);
+		}//end for loop
+		return Collections.unmodifiableMap(copy);
+	}//end CopyOf
+	
+	/**
+	 * Returns the totals of the orders made in each window of the service hours, such as every 5 minutes or every hour.
+	 * The totals are calculated in a single pass over the orders on each call, so the result does not change as more
+	 * orders are added.
+	 * 
+	 * @param windowMinutes - The length of each window in minutes, from 1 to 240
+	 * @return the number of orders, profit, delivery distance and time to delivery of the orders in each window.
+	 * @throws IllegalArgumentException If the length of the windows is less than a minute or longer than the service hours
+	 */
+	public synchronized TimeWindowAnalytics getTotalsByWindow(int windowMinutes){
+		return new TimeWindowAnalytics(orders, windowMinutes);
+	}//end GetTotalsByWindow
+	
+	/**
+	 * Returns the indices of the orders whose customer is within a straight line distance of a location. Only the
+	 * customers in the grid cells near the location are looked at.
+	 * 
+	 * @param x - The x location in blocks from the restaurant, from -10 to 10
+	 * @param y - The y location in blocks from the restaurant, from -10 to 10
+	 * @param radius - The greatest distance of a customer from the location in blocks, inclusive
+	 * @return the indices of the orders within the radius, in ascending order.
+	 * @throws IllegalArgumentException If the location is more than 10 blocks from the restaurant or the radius is negative
+	 */
+	public synchronized int[] getOrdersWithin(int x, int y, double radius){
+		locations.update(orders);
+		return locations.within(x, y, radius);
+	}//end GetOrdersWithin
+	
+	/**
+	 * Returns the number of orders whose customer is at each location of the grid around the restaurant.
+	 * 
+	 * @return the number of orders at each location, indexed by the x location plus 10 and then by the y location plus 10.
+	 */
+	public synchronized int[][] getOrdersPerCell(){
+		locations.update(orders);
+		return locations.countsPerCell();
+	}//end GetOrdersPerCell
+	
+	/**
+	 * Returns the number of orders whose customer is at a location.
+	 * 
+	 * @param x - The x location in blocks from the restaurant, from -10 to 10
+	 * @param y - The y location in blocks from the restaurant, from -10 to 10
+	 * @return the number of orders at the location.
+	 * @throws IllegalArgumentException If the location is more than 10 blocks from the restaurant
+	 */
+	public synchronized int getNumOrdersAt(int x, int y){
+		locations.update(orders);
+		return locations.count(x, y);
+	}//end GetNumOrdersAt
+	
+	/**
+	 * Returns the indices of the orders whose customers are the nearest to a location by straight line distance.
+	 * Orders at the same distance are taken in the order that they appear in the log file.
+	 * 
+	 * @param x - The x location in blocks from the restaurant, from -10 to 10
+	 * @param y - The y location in blocks from the restaurant, from -10 to 10
+	 * @param n - The number of orders to return
+	 * @return the indices of the n nearest orders, or of all orders if there are fewer, nearest first.
+	 * @throws IllegalArgumentException If the location is more than 10 blocks from the restaurant or n is negative
+	 */
+	public synchronized int[] getNearestCustomers(int x, int y, int n){
+		locations.update(orders);
+		return locations.nearest(x, y, n);
+	}//end GetNearestCustomers
+	
+	/**
+	 * Starts following a log file that is still being written. The restaurant is reset, and the orders of the log file
+	 * are added to the customers and pizzas fields and the running totals each time the returned follower is polled,
+	 * so that the totals stay up to date as orders are appended to the log file.
+	 * 
+	 * <P> PRE: TRUE
+	 * <P> POST: The customers and pizzas fields are empty until the follower is polled
+	 * 
+	 * @param filename The log's filename
+	 * @return The follower that adds the orders of the log file to the restaurant
+	 * @throws LogHandlerException If the log file cannot be opened.
+	 */
+	public synchronized LogFollower followLog(String filename) throws LogHandlerException{
+		LogFollower follower = new LogFollower(filename, this);
+		resetDetails();
+		return follower;
+	}//end FollowLog
+	
+	/**
+	 * Returns the totals of the orders in a log file without loading them into the restaurant. The orders are read
+	 * one at a time and discarded once they are added to the totals, so the memory used does not grow with the size 
+	 * of the log file. The customers and pizzas fields are not changed.
+	 * 
+	 * @param filename The log's filename
+	 * @return The number of orders, total profit and total delivery distance of the log file
+	 * @throws CustomerException If the log file contains an invalid customer code or invalid customer detail.
+	 * @throws PizzaException If the log file violates the pizza constraints or contains an invalid pizza code.
+	 * @throws LogHandlerException If there was a problem with the log file not related to the semantic errors above.
+	 */
+	public static OrderTotals summarizeLog(String filename) throws CustomerException, PizzaException, LogHandlerException{
+		OrderTotals totals = new OrderTotals();
+		try (OrderReader reader = new OrderReader(filename)){
+			OrderRecord order = reader.readOrder();
+			while (order != null){
+				totals.add(order);
+				order = reader.readOrder();
+			}
+			return totals;
+		} catch (IOException e){
+			throw new LogHandlerException(e.getMessage());
+		}
+	}//end SummarizeLog
+	
 	/**
 	 * Resets the pizzas and customers fields to their initial empty states.
 	 * 
 	 * <P> PRE: True
 	 * <P> POST:  The pizzas and customers fields are set to their initial empty states
 	 */
-	public void resetDetails(){
-		customers.clear();
-		pizzas.clear();
+	public synchronized void resetDetails(){
+		orders.clear();
+		totals.clear();
+		pizzaTypeTotals.clear();
+		customerTypeTotals.clear();
+		locations.clear();
 	}//end ResetDetails
 
 }//end PizzaRestaurant
@@ -0,0 +1,181 @@
+package asgn2Restaurant;
+
+import java.util.Arrays;
+
+/**
+ * A class that buckets the orders of an OrderStore by the location of their customer, with one cell for each block
+ * of the grid from -10 to 10 blocks along each axis around the restaurant. Each cell keeps the indices of its orders
+ * in ascending order, so orders near a location are found by looking only at the cells near it rather than at
+ * every order. Distances are straight line distances in blocks.
+ *
+ * The index is brought up to date with the orders added to the store since it was last used, so orders can be
+ * added to the store in any way without the index being told about each of them.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+class SpatialIndex {
+	static final int MAX_BLOCKS = OrderStore.MAX_BLOCKS;
+	//The number of cells along each axis
+	static final int GRID_SIZE = 2 * MAX_BLOCKS + 1;
+	static final int INITIAL_CELL_CAPACITY = 8;
+
+	private final int[][] cellOrders = new int[GRID_SIZE * GRID_SIZE][];
+	private final int[] cellSizes = new int[GRID_SIZE * GRID_SIZE];
+	//The number of orders of the store that have been added to the cells
+	private int indexed;
+
+	/**
+	 * Adds the orders of the store that are not in the index yet.
+	 * @param store - The store whose orders are indexed. It must be the same store each time until the index is cleared
+	 */
+	void update(OrderStore store) {
+		for (; indexed < store.size(); indexed++) {
+			int cell = cell(store.getLocationX(indexed), store.getLocationY(indexed));
+			int[] orders = cellOrders[cell];
+			if (orders == null) {
+				orders = cellOrders[cell] = new int[INITIAL_CELL_CAPACITY];
+			} else if (cellSizes[cell] == orders.length) {
+				orders = cellOrders[cell] = Arrays.copyOf(orders, orders.length * 2);
+			}
+			orders[cellSizes[cell]++] = indexed;
+		}//end for loop
+	}//end Update
+
+	/**
+	 * Removes every order from the index. The cells keep their capacity.
+	 */
+	void clear() {
+		Arrays.fill(cellSizes, 0);
+		indexed = 0;
+	}
+
+	/**
+	 * Returns the indices of the orders whose customer is within the radius of a location.
+	 * @param x - The x location in blocks, from -10 to 10
+	 * @param y - The y location in blocks, from -10 to 10
+	 * @param radius - The greatest distance from the location in blocks, inclusive
+	 * @return The indices of the orders in ascending order
+	 */
+	int[] within(int x, int y, double radius) {
+		checkLocation(x, y);
+		if (radius < 0 || Double.isNaN(radius)) {
+			throw new IllegalArgumentException("The radius must not be negative");
+		}
+		int blocks = (int) Math.min(Math.floor(radius), 2 * MAX_BLOCKS);
+		double radiusSquared = radius * radius;
+		int numOrders = 0;
+		int[] cells = new int[GRID_SIZE * GRID_SIZE];
+		int numCells = 0;
+		for (int cellX = Math.max(x - blocks, -MAX_BLOCKS); cellX <= Math.min(x + blocks, MAX_BLOCKS); cellX++) {
+			for (int cellY = Math.max(y - blocks, -MAX_BLOCKS); cellY <= Math.min(y + blocks, MAX_BLOCKS); cellY++) {
+				int cell = cell(cellX, cellY);
+				if (cellSizes[cell] > 0 && distanceSquared(x, y, cellX, cellY) <= radiusSquared) {
+					cells[numCells++] = cell;
+					numOrders += cellSizes[cell];
+				}
+			}//end for loop
+		}//end for loop
+		return merge(cells, 0, numCells, numOrders);
+	}//end Within
+
+	/**
+	 * Returns the number of orders in each cell.
+	 * @return The number of orders at each location, indexed by the x location plus 10 and then the y location plus 10
+	 */
+	int[][] countsPerCell() {
+		int[][] counts = new int[GRID_SIZE][GRID_SIZE];
+		for (int cell = 0; cell < cellSizes.length; cell++) {
+			counts[cell / GRID_SIZE][cell % GRID_SIZE] = cellSizes[cell];
+		}//end for loop
+		return counts;
+	}//end CountsPerCell
+
+	/**
+	 * Returns the number of orders whose customer is at a location.
+	 * @param x - The x location in blocks, from -10 to 10
+	 * @param y - The y location in blocks, from -10 to 10
+	 * @return The number of orders at the location
+	 */
+	int count(int x, int y) {
+		checkLocation(x, y);
+		return cellSizes[cell(x, y)];
+	}
+
+	/**
+	 * Returns the indices of the orders whose customers are nearest to a location. Orders at the same distance
+	 * are taken in the order that they were added.
+	 * @param x - The x location in blocks, from -10 to 10
+	 * @param y - The y location in blocks, from -10 to 10
+	 * @param n - The number of orders to return
+	 * @return The indices of the n nearest orders, or of every order if there are fewer, nearest first
+	 */
+	int[] nearest(int x, int y, int n) {
+		checkLocation(x, y);
+		if (n < 0) {
+			throw new IllegalArgumentException("The number of orders must not be negative");
+		}
+		//Sort the cells that have orders by their distance, with the cell number in the low bits to break ties
+		long[] keys = new long[GRID_SIZE * GRID_SIZE];
+		int numCells = 0;
+		for (int cell = 0; cell < cellSizes.length; cell++) {
+			if (cellSizes[cell] > 0) {
+				int cellX = cell / GRID_SIZE - MAX_BLOCKS;
+				int cellY = cell % GRID_SIZE - MAX_BLOCKS;
+				keys[numCells++] = ((long) distanceSquared(x, y, cellX, cellY) << 32) | cell;
+			}
+		}//end for loop
+		Arrays.sort(keys, 0, numCells);
+		int[] cells = new int[numCells];
+		for (int i = 0; i < numCells; i++) {
+			cells[i] = (int) keys[i];
+		}//end for loop
+		//Take whole groups of cells at the same distance, merging the orders of each group by index
+		int[] result = new int[Math.min(n, indexed)];
+		int found = 0;
+		int first = 0;
+		while (found < result.length) {
+			int last = first;
+			int numOrders = 0;
+			while (last < numCells && keys[last] >>> 32 == keys[first] >>> 32) {
+				numOrders += cellSizes[cells[last++]];
+			}//end while loop
+			int[] group = merge(cells, first, last, numOrders);
+			int taken = Math.min(group.length, result.length - found);
+			System.arraycopy(group, 0, result, found, taken);
+			found += taken;
+			first = last;
+		}//end while loop
+		return result;
+	}//end Nearest
+
+	//Returns the orders of the cells in ascending order of index
+	private int[] merge(int[] cells, int from, int to, int numOrders) {
+		int[] result = new int[numOrders];
+		int length = 0;
+		for (int i = from; i < to; i++) {
+			System.arraycopy(cellOrders[cells[i]], 0, result, length, cellSizes[cells[i]]);
+			length += cellSizes[cells[i]];
+		}//end for loop
+		if (to - from > 1) {
+			Arrays.sort(result);
+		}
+		return result;
+	}//end Merge
+
+	private static int cell(int x, int y) {
+		return (x + MAX_BLOCKS) * GRID_SIZE + y + MAX_BLOCKS;
+	}
+
+	private static int distanceSquared(int x, int y, int cellX, int cellY) {
+		return (cellX - x) * (cellX - x) + (cellY - y) * (cellY - y);
+	}
+
+	private static void checkLocation(int x, int y) {
+		if (x < -MAX_BLOCKS || x > MAX_BLOCKS || y < -MAX_BLOCKS || y > MAX_BLOCKS) {
+			throw new IllegalArgumentException("The location (" + x + ", " + y + ") is not within "
+					+ MAX_BLOCKS + " blocks of the restaurant");
+		}
+	}
+
+}//end SpatialIndex
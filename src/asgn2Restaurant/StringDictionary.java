@@ -0,0 +1,120 @@
+package asgn2Restaurant;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * A dictionary that gives each distinct string a small integer id, so that a string that is repeated across many
+ * orders, such as the name and mobile number of a regular customer, is only kept once. Ids are given out in the
+ * order the strings are first added, starting from zero.
+ *
+ * The ids are found in an open addressing table of ints rather than a HashMap, so looking up a string creates no
+ * Integer or map entry. Strings are looked up by their characters, so a parameter read in place from a log file
+ * only becomes a String the first time it is added.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+class StringDictionary {
+	static final int INITIAL_TABLE_SIZE = 16;
+
+	//The id plus one of the string in each slot, or 0 for an empty slot. The size is a power of two and the table is
+	//kept at most half full, so that a string is found after a few slots
+	private int[] table = new int[INITIAL_TABLE_SIZE];
+	//The hash of each string by id, so that other strings are mostly ruled out without comparing their characters
+	private int[] hashes = new int[INITIAL_TABLE_SIZE];
+	private final ArrayList<String> strings = new ArrayList<String>();
+
+	/**
+	 * Returns the id of the string, adding the string if it is not in the dictionary yet.
+	 * @param chars - The characters of the string to look up
+	 * @return The id of the string
+	 */
+	int add(CharSequence chars) {
+		int hash = hash(chars);
+		int mask = table.length - 1;
+		int slot = spread(hash) & mask;
+		while (table[slot] != 0) {
+			int id = table[slot] - 1;
+			if (hashes[id] == hash && strings.get(id).contentEquals(chars)) {
+				return id;
+			}
+			slot = (slot + 1) & mask;
+		}//end while loop
+		int id = strings.size();
+		strings.add(chars.toString());
+		if (id == hashes.length) {
+			hashes = Arrays.copyOf(hashes, id * 2);
+		}
+		hashes[id] = hash;
+		table[slot] = id + 1;
+		if (strings.size() * 2 > table.length) {
+			rehash(table.length * 2);
+		}
+		return id;
+	}//end Add
+
+	/**
+	 * Returns the string with the specified id.
+	 * @param id - The id of the string
+	 * @return The string with the id
+	 */
+	String get(int id) {
+		return strings.get(id);
+	}
+
+	/**
+	 * Returns the number of distinct strings in the dictionary.
+	 * @return The number of strings in the dictionary
+	 */
+	int size() {
+		return strings.size();
+	}
+
+	/**
+	 * Removes every string from the dictionary. The table keeps its size.
+	 */
+	void clear() {
+		Arrays.fill(table, 0);
+		strings.clear();
+	}
+
+	/**
+	 * Moves every id into a new table of the specified size.
+	 * @param size - The size of the new table, a power of two
+	 */
+	private void rehash(int size) {
+		int[] rehashed = new int[size];
+		int mask = size - 1;
+		for (int id = 0; id < strings.size(); id++) {
+			int slot = spread(hashes[id]) & mask;
+			while (rehashed[slot] != 0) {
+				slot = (slot + 1) & mask;
+			}
+			rehashed[slot] = id + 1;
+		}//end for loop
+		table = rehashed;
+	}//end Rehash
+
+	/**
+	 * Returns the same hash of the characters as String.hashCode, so that the hash of a String is not calculated again.
+	 * @param chars - The characters to hash
+	 * @return The hash of the characters
+	 */
+	private static int hash(CharSequence chars) {
+		if (chars instanceof String) {
+			return chars.hashCode();
+		}
+		int hash = 0;
+		for (int i = 0; i < chars.length(); i++) {
+			hash = 31 * hash + chars.charAt(i);
+		}
+		return hash;
+	}//end Hash
+
+	//Mixes the high bits of the hash into the low bits that choose the slot
+	private static int spread(int hash) {
+		return hash ^ (hash >>> 16);
+	}
+
+}//end StringDictionary
@@ -0,0 +1,193 @@
+package asgn2Restaurant;
+
+import java.time.LocalTime;
+
+/**
+ * A class that breaks the orders of a restaurant down into windows of equal length over the service hours from
+ * 19:00 to 23:00, such as every 5 minutes or every hour. Each order falls in the window of its order time, and
+ * for each window the number of orders, number of pizzas, profit, delivery distance and time from order to
+ * delivery are added up. The totals are calculated in a single pass over the columns of an OrderStore, so no
+ * Customer or Pizza objects are created. If the length of a window does not divide the service hours, the last
+ * window is shorter than the others.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+public class TimeWindowAnalytics {
+	//The service hours in seconds after midnight. Orders can only be made from 19:00 up to 22:59
+	public static final int SERVICE_START = LocalTime.of(19, 0).toSecondOfDay();
+	public static final int SERVICE_END = LocalTime.of(23, 0).toSecondOfDay();
+	static final int SECONDS_PER_MINUTE = 60;
+
+	private final int windowSeconds;
+	private final int[] numOrders;
+	private final int[] numPizzas;
+	private final double[] totalProfit;
+	private final double[] totalDeliveryDistance;
+	private final long[] totalLatency;
+
+	/**
+	 * Adds up the orders of the store in windows of the specified length.
+	 *
+	 * <P> PRE: TRUE
+	 * <P> POST: Each order of the store is counted in the window of its order time
+	 *
+	 * @param store - The orders to add up
+	 * @param windowMinutes - The length of each window in minutes, from 1 to 240
+	 * @throws IllegalArgumentException If the length of the windows is less than a minute or longer than the service hours
+	 */
+	public TimeWindowAnalytics(OrderStore store, int windowMinutes) {
+		if (windowMinutes < 1 || windowMinutes * SECONDS_PER_MINUTE > SERVICE_END - SERVICE_START) {
+			throw new IllegalArgumentException("The window must be from 1 to " + (SERVICE_END - SERVICE_START) / SECONDS_PER_MINUTE
+					+ " minutes long");
+		}
+		windowSeconds = windowMinutes * SECONDS_PER_MINUTE;
+		int numWindows = (SERVICE_END - SERVICE_START + windowSeconds - 1) / windowSeconds;
+		numOrders = new int[numWindows];
+		numPizzas = new int[numWindows];
+		totalProfit = new double[numWindows];
+		totalDeliveryDistance = new double[numWindows];
+		totalLatency = new long[numWindows];
+		for (int i = 0; i < store.size(); i++) {
+			int orderTime = store.getOrderTime(i);
+			int window = (orderTime - SERVICE_START) / windowSeconds;
+			numOrders[window]++;
+			numPizzas[window] += store.getQuantity(i);
+			totalProfit[window] += store.getOrderProfit(i);
+			totalDeliveryDistance[window] += store.getDeliveryDistance(i);
+			totalLatency[window] += store.getDeliveryTime(i) - orderTime;
+		}//end for loop
+	}//end constructor
+
+	/**
+	 * Returns the number of windows over the service hours.
+	 * @return The number of windows
+	 */
+	public int getNumWindows() {
+		return numOrders.length;
+	}
+
+	/**
+	 * Returns the length of each window.
+	 * @return The length of each window in minutes
+	 */
+	public int getWindowMinutes() {
+		return windowSeconds / SECONDS_PER_MINUTE;
+	}
+
+	/**
+	 * Returns the time at which a window starts.
+	 * @param window - The index of the window, from 0 to getNumWindows() - 1
+	 * @return The earliest order time in the window
+	 */
+	public LocalTime getWindowStart(int window) {
+		checkWindow(window);
+		return LocalTime.ofSecondOfDay(SERVICE_START + window * windowSeconds);
+	}
+
+	/**
+	 * Returns the time at which a window ends.
+	 * @param window - The index of the window, from 0 to getNumWindows() - 1
+	 * @return The start of the next window, or the end of the service hours for the last window
+	 */
+	public LocalTime getWindowEnd(int window) {
+		checkWindow(window);
+		return LocalTime.ofSecondOfDay(Math.min(SERVICE_START + (window + 1) * windowSeconds, SERVICE_END));
+	}
+
+	/**
+	 * Returns the index of the window that an order time falls in.
+	 * @param orderTime - A time within the service hours
+	 * @return The index of the window
+	 * @throws IllegalArgumentException If the time is outside the service hours
+	 */
+	public int getWindow(LocalTime orderTime) {
+		int second = orderTime.toSecondOfDay();
+		if (second < SERVICE_START || second >= SERVICE_END) {
+			throw new IllegalArgumentException(orderTime + " is outside the service hours");
+		}
+		return (second - SERVICE_START) / windowSeconds;
+	}
+
+	/**
+	 * Returns the number of orders made in a window.
+	 * @param window - The index of the window, from 0 to getNumWindows() - 1
+	 * @return The number of orders in the window
+	 */
+	public int getNumOrders(int window) {
+		checkWindow(window);
+		return numOrders[window];
+	}
+
+	/**
+	 * Returns the number of pizzas ordered in a window.
+	 * @param window - The index of the window, from 0 to getNumWindows() - 1
+	 * @return The sum of the quantities of the orders in the window
+	 */
+	public int getNumPizzas(int window) {
+		checkWindow(window);
+		return numPizzas[window];
+	}
+
+	/**
+	 * Returns the profit of the orders made in a window.
+	 * @param window - The index of the window, from 0 to getNumWindows() - 1
+	 * @return The total profit of the orders in the window
+	 */
+	public double getTotalProfit(int window) {
+		checkWindow(window);
+		return totalProfit[window];
+	}
+
+	/**
+	 * Returns the delivery distance of the orders made in a window.
+	 * @param window - The index of the window, from 0 to getNumWindows() - 1
+	 * @return The total delivery distance of the orders in the window in blocks
+	 */
+	public double getTotalDeliveryDistance(int window) {
+		checkWindow(window);
+		return totalDeliveryDistance[window];
+	}
+
+	/**
+	 * Returns the average delivery distance of the orders made in a window, counting pick up orders as zero.
+	 * @param window - The index of the window, from 0 to getNumWindows() - 1
+	 * @return The average delivery distance in blocks, or zero if the window has no orders
+	 */
+	public double getAverageDeliveryDistance(int window) {
+		checkWindow(window);
+		return numOrders[window] == 0 ? 0 : totalDeliveryDistance[window] / numOrders[window];
+	}
+
+	/**
+	 * Returns the average time from order to delivery of the orders made in a window. This includes the
+	 * time taken to cook the pizzas, which is the same for every order.
+	 * @param window - The index of the window, from 0 to getNumWindows() - 1
+	 * @return The average time from order to delivery in minutes, or zero if the window has no orders
+	 */
+	public double getAverageDeliveryMinutes(int window) {
+		checkWindow(window);
+		return numOrders[window] == 0 ? 0 : (double) totalLatency[window] / numOrders[window] / SECONDS_PER_MINUTE;
+	}
+
+	/**
+	 * Returns the window with the most orders, which is the earliest of them if several windows have the most orders.
+	 * @return The index of the busiest window
+	 */
+	public int getBusiestWindow() {
+		int busiest = 0;
+		for (int window = 1; window < numOrders.length; window++) {
+			if (numOrders[window] > numOrders[busiest]) {
+				busiest = window;
+			}
+		}//end for loop
+		return busiest;
+	}//end GetBusiestWindow
+
+	private void checkWindow(int window) {
+		if (window < 0 || window >= numOrders.length) {
+			throw new IndexOutOfBoundsException("Window: " + window + ", Windows: " + numOrders.length);
+		}
+	}
+
+}//end TimeWindowAnalytics
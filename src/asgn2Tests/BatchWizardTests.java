@@ -0,0 +1,114 @@
+package asgn2Tests;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.Test;
+
+import asgn2Exceptions.PizzaException;
+import asgn2Pizzas.PizzaMenu;
+import asgn2Wizards.BatchWizard;
+
+/**
+ * A class that tests the output and exit codes of the asgn2Wizards.BatchWizard class.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ */
+public class BatchWizardTests {
+	ByteArrayOutputStream out = new ByteArrayOutputStream();
+	ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+	private int run(String... args) {
+		return BatchWizard.run(args, new PrintStream(out, true), new PrintStream(err, true));
+	}
+
+	@Test
+	public void validLogs() {
+		assertEquals(BatchWizard.EXIT_OK, run("logs/20170101.txt", "logs/20170103.txt"));
+		assertEquals(true, out.toString().contains("All 2 processed log files"));
+		assertEquals(true, out.toString().contains("Pizza: Margherita"));
+		assertEquals(true, out.toString().contains("Customer: Pick Up"));
+		assertEquals("", err.toString());
+	}
+
+	@Test
+	public void json() {
+		assertEquals(BatchWizard.EXIT_OK, run("--json", "logs/20170101.txt"));
+		String text = out.toString().trim();
+		assertEquals(true, text.startsWith("{\"files\":[{\"file\":\"logs/20170101.txt\",\"totals\":{\"orders\":3,"));
+		assertEquals(true, text.endsWith("\"processed\":1,\"totals\":{\"orders\":3,\"pizzas\":6,\"price\":64.0,\"cost\":27.5,\"profit\":36.5,\"distance\":15.0}}"));
+	}
+
+	@Test
+	public void customerException() {
+		assertEquals(BatchWizard.EXIT_CUSTOMER_EXCEPTION, run("logs/logWithInvalidLocationX", "logs/20170101.txt"));
+		assertEquals(true, out.toString().contains("All 1 processed log files"));
+		assertEquals(true, err.toString().startsWith("logs/logWithInvalidLocationX: CustomerException"));
+		assertEquals(true, err.toString().contains("(line 1, parameter 6)"));
+	}
+
+	//The invalid parameter is numbered from 1 in the JSON output as in the text
+	@Test
+	public void customerExceptionJson() {
+		assertEquals(BatchWizard.EXIT_CUSTOMER_EXCEPTION, run("--json", "logs/logWithInvalidLocationX"));
+		assertEquals(true, out.toString().contains("\"line\":1,\"parameter\":6}"));
+		assertEquals(true, err.toString().contains("(line 1, parameter 6)"));
+	}
+
+	@Test
+	public void pizzaException() {
+		assertEquals(BatchWizard.EXIT_PIZZA_EXCEPTION, run("--json", "logs/logWithOrderTimeAfter11"));
+		assertEquals(true, out.toString().contains("\"error\":{\"type\":\"PizzaException\""));
+		assertEquals(true, out.toString().contains("\"line\":1,\"parameter\":1}"));
+		assertEquals(true, err.toString().contains("(line 1, parameter 1)"));
+	}
+
+	//The exit code is that of the first log file that could not be processed
+	@Test
+	public void logHandlerException() {
+		assertEquals(BatchWizard.EXIT_LOG_HANDLER_EXCEPTION, run("logs/NonExistentFileName", "logs/logWithInvalidLocationX"));
+	}
+
+	@Test
+	public void lenient() {
+		assertEquals(BatchWizard.EXIT_OK, run("--lenient", "logs/logWithInvalidLocationX", "logs/20170101.txt"));
+		assertEquals(true, out.toString().contains("All 2 processed log files"));
+		assertEquals(true, out.toString().contains("LOCATION_OUT_OF_RANGE"));
+		assertEquals(true, out.toString().contains("line 1 at byte 0, parameter 6"));
+		assertEquals("", err.toString());
+	}
+
+	@Test
+	public void lenientSampleJson() {
+		assertEquals(BatchWizard.EXIT_OK, run("--json", "--lenient", "logs/logWithInvalidLocationX"));
+		assertEquals(true, out.toString().contains("{\"reason\":\"LOCATION_OUT_OF_RANGE\",\"line\":1,\"offset\":0,\"parameter\":6}"));
+	}
+
+	@Test
+	public void lenientJson() {
+		assertEquals(BatchWizard.EXIT_OK, run("--json", "--lenient", "logs/logWithEmptyString"));
+		assertEquals(true, out.toString().contains("\"invalid\":{\"lines\":1,\"reasons\":{\"EMPTY_LINE\":1},\"samples\":[{\"reason\":\"EMPTY_LINE\",\"line\":12,"));
+	}
+
+	@Test
+	public void menu() throws PizzaException {
+		try {
+			assertEquals(BatchWizard.EXIT_OK, run("--menu", "menu.txt", "logs/20170101.txt"));
+			assertEquals(true, out.toString().contains("All 1 processed log files"));
+		} finally {
+			PizzaMenu.DEFAULT.install();
+		}
+		assertEquals(BatchWizard.EXIT_PIZZA_EXCEPTION, run("--menu", "NonExistentMenu.txt", "logs/20170101.txt"));
+		assertEquals(true, err.toString().startsWith("NonExistentMenu.txt: "));
+	}
+
+	@Test
+	public void usage() {
+		assertEquals(BatchWizard.EXIT_USAGE, run());
+		assertEquals(BatchWizard.EXIT_USAGE, run("--json"));
+		assertEquals(BatchWizard.EXIT_USAGE, run("--xml", "logs/20170101.txt"));
+	}
+
+}//end BatchWizardTests
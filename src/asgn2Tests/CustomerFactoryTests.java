@@ -128,4 +128,33 @@ public class CustomerFactoryTests {
 	public void invalidLocationY() throws CustomerException{
 		CustomerFactory.getCustomer(DRONE, name, mobileNumber, locationX, 20);
 	}
+	
+	//Test that a registered code creates customers with its constructor
+	@Test
+	public void registerCode() throws CustomerException {
+		assertEquals(false, CustomerFactory.isRegistered("ZZD"));
+		CustomerFactory.register("ZZD", DroneDeliveryCustomer::new);
+		assertEquals(true, CustomerFactory.isRegistered("ZZD"));
+		Customer customer = CustomerFactory.getCustomer("ZZD", name, mobileNumber, locationX, locationY);
+		assertEquals(true, droneDeliveryCustomer.equals(customer));
+	}
+	
+	@Test
+	public void builtInCodesRegistered() {
+		assertEquals(true, CustomerFactory.isRegistered(PICKUP));
+		assertEquals(true, CustomerFactory.isRegistered(DRONE));
+		assertEquals(true, CustomerFactory.isRegistered(DRIVER));
+		assertEquals(false, CustomerFactory.isRegistered("dvc"));
+		assertEquals(false, CustomerFactory.isRegistered(null));
+	}
+	
+	@Test (expected = IllegalArgumentException.class)
+	public void registerInvalidCode() {
+		CustomerFactory.register("DV[", DriverDeliveryCustomer::new);
+	}
+	
+	@Test (expected = CustomerException.class)
+	public void nullCode() throws CustomerException {
+		CustomerFactory.getCustomer(null, name, mobileNumber, locationX, locationY);
+	}
 }//end CustomerFactoryTests
@@ -5,6 +5,7 @@ import static org.junit.Assert.*;
 import org.junit.Before;
 import org.junit.Test;
 
+import asgn2Customers.CustomerValidator;
 import asgn2Customers.DriverDeliveryCustomer;
 import asgn2Customers.DroneDeliveryCustomer;
 import asgn2Customers.PickUpCustomer;
@@ -398,4 +399,18 @@ public class CustomerTests {
 		assertEquals(mobileNumber, droneDeliveryCustomer.getMobileNumber());
 	}
 	
+	//Tests if the name and mobile number rules accept the same values as the original patterns
+	@Test
+	public void validatorMatchesPatterns() {
+		String[] names = {"Apple", "April O'Neal", "O'", "'A", "A'", " ", "  a  ", "a b'c d", "a'b'", "Apple1", "\u00e9", "-", "' '"};
+		for (String testName : names) {
+			assertEquals(testName, testName.matches("[a-zA-Z' ]*[a-zA-Z]+[a-zA-Z ]*"), CustomerValidator.isValidNameCharacters(testName));
+		}
+		String[] mobiles = {"0123456789", "1123456789", "012345678", "01234567890", "012345678a", "0-23456789"};
+		for (String testMobile : mobiles) {
+			boolean expected = testMobile.length() == MOBILE_NUM_LENGTH && testMobile.charAt(0) == '0' && testMobile.matches("[0-9]+");
+			assertEquals(testMobile, expected, CustomerValidator.isValidMobileNumber(testMobile));
+		}
+	}
+	
 }//end CustomerTests
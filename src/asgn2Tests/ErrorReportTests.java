@@ -0,0 +1,167 @@
+package asgn2Tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import asgn2Exceptions.LogError;
+import asgn2Exceptions.LogHandlerException;
+import asgn2Restaurant.ErrorReport;
+import asgn2Restaurant.LogHandler;
+import asgn2Restaurant.OrderRecord;
+import asgn2Restaurant.ParallelLogReader;
+import asgn2Restaurant.PizzaRestaurant;
+
+/**
+ * A class that tests that reading a log file leniently with asgn2Restaurant.ErrorReport keeps the valid lines and
+ * reports every invalid line by its reason, line number, position and parameter.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ */
+public class ErrorReportTests {
+
+	@Test
+	public void validLogHasNoInvalidLines() throws LogHandlerException {
+		ErrorReport report = new ErrorReport();
+		ArrayList<OrderRecord> orders = ParallelLogReader.readValidOrders("logs/20170103.txt", report);
+		assertEquals(100, orders.size());
+		assertEquals(0, report.getNumInvalidLines());
+		assertEquals(0, report.getNumSamples());
+	}
+
+	@Test
+	public void invalidLocation() throws LogHandlerException {
+		ErrorReport report = new ErrorReport();
+		PizzaRestaurant restaurant = new PizzaRestaurant();
+		assertEquals(true, restaurant.processLog("logs/logWithInvalidLocationX", report));
+		assertEquals(9, restaurant.getNumPizzaOrders());
+		assertEquals(1, report.getNumInvalidLines());
+		assertEquals(1, report.getCount(LogError.LOCATION_OUT_OF_RANGE));
+		assertEquals(LogError.LOCATION_OUT_OF_RANGE, report.getSampleError(0));
+		assertEquals(1, report.getSampleLineNumber(0));
+		assertEquals(0, report.getSampleOffset(0));
+		assertEquals(5, report.getSampleFieldIndex(0));
+	}
+
+	@Test
+	public void emptyLine() throws LogHandlerException {
+		ErrorReport report = new ErrorReport();
+		ParallelLogReader.readValidOrders("logs/logWithEmptyString", report);
+		assertEquals(1, report.getCount(LogError.EMPTY_LINE));
+		assertEquals(12, report.getSampleLineNumber(0));
+		assertEquals(-1, report.getSampleFieldIndex(0));
+	}
+
+	@Test
+	public void processLogClearsPreviousOrders() throws LogHandlerException {
+		ErrorReport report = new ErrorReport();
+		PizzaRestaurant restaurant = new PizzaRestaurant();
+		restaurant.processLog("logs/20170103.txt", report);
+		restaurant.processLog("logs/logWithOrderTimeAfter11", report);
+		assertEquals(98, restaurant.getNumPizzaOrders());
+		assertEquals(1, report.getCount(LogError.ORDER_TIME_OUT_OF_HOURS));
+		assertEquals(0, report.getSampleFieldIndex(0));
+	}
+
+	@Test
+	public void samplesPerError() {
+		ErrorReport report = new ErrorReport(2);
+		for (int i = 1; i <= 5; i++) {
+			report.add(LogError.INVALID_QUANTITY, i, i * 10, 8);
+			report.add(LogError.EMPTY_LINE, i + 100, i * 100, -1);
+		}
+		assertEquals(10, report.getNumInvalidLines());
+		assertEquals(5, report.getCount(LogError.INVALID_QUANTITY));
+		assertEquals(5, report.getCount(LogError.EMPTY_LINE));
+		assertEquals(0, report.getCount(LogError.INVALID_PIZZA_CODE));
+		assertEquals(4, report.getNumSamples());
+		assertEquals(LogError.INVALID_QUANTITY, report.getSampleError(2));
+		assertEquals(2, report.getSampleLineNumber(2));
+		assertEquals(20, report.getSampleOffset(2));
+		assertEquals(8, report.getSampleFieldIndex(2));
+		report.clear();
+		assertEquals(0, report.getNumInvalidLines());
+		assertEquals(0, report.getCount(LogError.INVALID_QUANTITY));
+		assertEquals(0, report.getNumSamples());
+	}
+
+	@Test (expected = IllegalArgumentException.class)
+	public void negativeSamplesPerError() {
+		new ErrorReport(-1);
+	}
+
+	@Test (expected = IndexOutOfBoundsException.class)
+	public void sampleOutOfRange() {
+		new ErrorReport().getSampleError(0);
+	}
+
+	//A log file large enough to be read in several chunks is reported the same as reading it line by line
+	@Test
+	public void sameAsLineByLineForGeneratedLog() throws IOException, LogHandlerException {
+		File file = File.createTempFile("log", ".txt");
+		file.deleteOnExit();
+		LogGenerator generator = new LogGenerator(22);
+		generator.setMalformedRate(0.01);
+		generator.write(file.getPath(), 100000);
+		ErrorReport report = new ErrorReport(3);
+		ArrayList<OrderRecord> orders = ParallelLogReader.readValidOrders(file.getPath(), report);
+
+		byte[] bytes = Files.readAllBytes(file.toPath());
+		List<String> lines = Files.readAllLines(Paths.get(file.getPath()), StandardCharsets.ISO_8859_1);
+		List<Long> invalidLines = new ArrayList<Long>();
+		int numValid = 0;
+		for (int i = 0; i < lines.size(); i++) {
+			try {
+				OrderRecord order = LogHandler.createOrder(lines.get(i));
+				assertEquals(true, order.getCustomer().equals(orders.get(numValid).getCustomer()));
+				numValid++;
+			} catch (Exception e) {
+				invalidLines.add((long) i + 1);
+			}
+		}
+		assertEquals(numValid, orders.size());
+		assertEquals(invalidLines.size(), report.getNumInvalidLines());
+		assertEquals(true, report.getNumInvalidLines() > 100);
+		long counted = 0;
+		for (LogError error : LogError.values()) {
+			assertEquals(true, report.getCount(error) <= 3 || countSamples(report, error) == 3);
+			counted += report.getCount(error);
+		}
+		assertEquals(report.getNumInvalidLines(), counted);
+		long previous = 0;
+		for (int i = 0; i < report.getNumSamples(); i++) {
+			long lineNumber = report.getSampleLineNumber(i);
+			long offset = report.getSampleOffset(i);
+			assertEquals(true, lineNumber > previous);
+			assertEquals(true, invalidLines.contains(lineNumber));
+			assertEquals(true, offset == 0 || bytes[(int) offset - 1] == '\n');
+			String line = lines.get((int) lineNumber - 1);
+			assertEquals(line, new String(bytes, (int) offset, line.length(), StandardCharsets.ISO_8859_1));
+			previous = lineNumber;
+		}
+	}
+
+	@Test (expected = LogHandlerException.class)
+	public void fileNotFound() throws LogHandlerException {
+		ParallelLogReader.readValidOrders("logs/NonExistentFileName", new ErrorReport());
+	}
+
+	private static int countSamples(ErrorReport report, LogError error) {
+		int count = 0;
+		for (int i = 0; i < report.getNumSamples(); i++) {
+			if (report.getSampleError(i) == error) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+}//end ErrorReportTests
@@ -0,0 +1,192 @@
+package asgn2Tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import asgn2Exceptions.CustomerException;
+import asgn2Exceptions.LogHandlerException;
+import asgn2Exceptions.PizzaException;
+import asgn2Pizzas.PizzaMenu;
+import asgn2Restaurant.LogFollower;
+import asgn2Restaurant.OrderTotals;
+import asgn2Restaurant.PizzaRestaurant;
+
+/**
+ * A class that tests that the asgn2Restaurant.LogFollower class adds the orders appended to a log file
+ * to a restaurant, reading each line once.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ */
+public class LogFollowerTests {
+	String valid = "19:00:00,19:20:00,Casey Jones,0123456789,DVC,5,5,PZV,2";
+	String invalidPizza = "19:00:00,19:20:00,Casey Jones,0123456789,DVC,5,5,PZK,2";
+	PizzaRestaurant restaurant = new PizzaRestaurant();
+
+	private File tempLog() throws IOException {
+		File file = File.createTempFile("log", ".txt");
+		file.deleteOnExit();
+		return file;
+	}
+
+	//Appends the text to the log file
+	private void append(File file, String text) throws IOException {
+		try (FileOutputStream stream = new FileOutputStream(file, true)) {
+			stream.write(text.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	@Test
+	public void readsAppendedLines() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		File file = tempLog();
+		append(file, valid + "\n");
+		try (LogFollower follower = restaurant.followLog(file.getPath())) {
+			assertEquals(1, follower.poll());
+			assertEquals(0, follower.poll());
+			append(file, valid + "\n" + valid + "\n");
+			assertEquals(2, follower.poll());
+			assertEquals(3, restaurant.getNumPizzaOrders());
+			assertEquals(3 * restaurant.getCustomerByIndex(0).getDeliveryDistance(), restaurant.getTotalDeliveryDistance(), 1e-9);
+			assertEquals(3 * restaurant.getPizzaByIndex(0).getOrderProfit(), restaurant.getTotalProfit(), 1e-9);
+		}
+	}
+
+	//A line is only read once its terminator has been written
+	@Test
+	public void partialLine() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		File file = tempLog();
+		try (LogFollower follower = restaurant.followLog(file.getPath())) {
+			append(file, valid.substring(0, 20));
+			assertEquals(0, follower.poll());
+			append(file, valid.substring(20));
+			assertEquals(0, follower.poll());
+			append(file, "\r");
+			assertEquals(1, follower.poll());
+			//The new line after the carriage return ends the same line
+			append(file, "\n" + valid + "\r\n");
+			assertEquals(1, follower.poll());
+			assertEquals(2, restaurant.getNumCustomerOrders());
+			assertEquals(file.length(), follower.getPosition());
+		}
+	}
+
+	//A line whose order the restaurant cannot store is skipped without adding the orders before it again
+	@Test
+	public void carriesOnAfterUnstorableLine() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		File file = tempLog();
+		append(file, valid + "\n" + valid + "\n" + valid.replace("PZV", "PZH") + "\n" + valid + "\n");
+		File menu = tempLog();
+		append(menu, "PZL,Meat Lovers,12,TOMATO CHEESE BACON PEPPERONI SALAMI\nPZM,Margherita,8,CHEESE TOMATO\n"
+				+ "PZV,Vegetarian,10,TOMATO CHEESE EGGPLANT MUSHROOM CAPSICUM\nPZH,Hawaiian,11.5,CHEESE TOMATO BACON\n");
+		try (LogFollower follower = restaurant.followLog(file.getPath())) {
+			//The hawaiian pizza can be created but is not on the menu of the orders of the restaurant
+			PizzaMenu.load(menu.getPath()).install();
+			try {
+				follower.poll();
+				fail();
+			} catch (LogHandlerException e) {
+				assertEquals(2, restaurant.getNumPizzaOrders());
+			}
+			assertEquals(1, follower.poll());
+			assertEquals(0, follower.poll());
+			assertEquals(3, restaurant.getNumPizzaOrders());
+			assertEquals(3, restaurant.getTotals().getNumOrders());
+			assertEquals(file.length(), follower.getPosition());
+		} finally {
+			PizzaMenu.DEFAULT.install();
+		}
+	}
+
+	@Test
+	public void carriesOnAfterInvalidLine() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		File file = tempLog();
+		append(file, valid + "\n" + invalidPizza + "\n" + valid + "\n");
+		try (LogFollower follower = restaurant.followLog(file.getPath())) {
+			try {
+				follower.poll();
+				fail();
+			} catch (PizzaException e) {
+				assertEquals(1, restaurant.getNumPizzaOrders());
+			}
+			assertEquals(1, follower.poll());
+			assertEquals(2, restaurant.getNumPizzaOrders());
+		}
+	}
+
+	@Test (expected = LogHandlerException.class)
+	public void truncatedLog() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		File file = tempLog();
+		append(file, valid + "\n");
+		try (LogFollower follower = restaurant.followLog(file.getPath())) {
+			follower.poll();
+			try (RandomAccessFile log = new RandomAccessFile(file, "rw")) {
+				log.setLength(0);
+			}
+			follower.poll();
+		}
+	}
+
+	//Orders written while following are added without polling, and closing stops the follower
+	@Test
+	public void follow() throws Exception {
+		File file = tempLog();
+		LogFollower follower = restaurant.followLog(file.getPath());
+		Thread thread = new Thread(() -> {
+			try {
+				follower.follow(50);
+			} catch (Exception e) {
+				fail(e.getMessage());
+			}
+		});
+		thread.start();
+		append(file, valid + "\n");
+		long deadline = System.currentTimeMillis() + 5000;
+		while (restaurant.getNumPizzaOrders() == 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+		assertEquals(1, restaurant.getNumPizzaOrders());
+		follower.close();
+		thread.join(5000);
+		assertEquals(false, thread.isAlive());
+	}
+
+	//The totals read while another thread adds orders always count whole orders
+	@Test
+	public void readWhileFollowing() throws Exception {
+		File file = tempLog();
+		StringBuilder lines = new StringBuilder();
+		for (int i = 0; i < 5000; i++) {
+			lines.append(valid).append('\n');
+		}
+		append(file, lines.toString());
+		LogFollower follower = restaurant.followLog(file.getPath());
+		Thread thread = new Thread(() -> {
+			try {
+				follower.poll();
+			} catch (Exception e) {
+				fail(e.getMessage());
+			}
+		});
+		thread.start();
+		OrderTotals totals = restaurant.getTotals();
+		while (totals.getNumOrders() < 5000) {
+			assertEquals(totals.getNumOrders() * 2, totals.getNumPizzas());
+			totals = restaurant.getTotals();
+		}
+		thread.join(5000);
+		assertEquals(5000, restaurant.getNumPizzaOrders());
+		follower.close();
+	}
+
+	@Test (expected = LogHandlerException.class)
+	public void fileNotFound() throws LogHandlerException {
+		restaurant.followLog("logs/NonExistentFileName");
+	}
+
+}//end LogFollowerTests
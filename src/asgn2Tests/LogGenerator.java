@@ -0,0 +1,208 @@
+package asgn2Tests;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.SplittableRandom;
+
+import asgn2Restaurant.OrderStore;
+
+/**
+ * A class that generates synthetic log files in the format outlined in Section 5.3 of the Assignment Specification,
+ * for load and scale testing by the tests and benchmarks. The lines are generated from a seeded random number
+ * generator, so the same seed and settings always produce the same log file. The mix of customer and pizza types,
+ * how far customers are spread from the restaurant and the rate of deliberately malformed lines can all be set.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+public class LogGenerator {
+	//Valid codes in the order that their weights are given
+	static final String[] CUSTOMER_CODES = OrderStore.CUSTOMER_CODES;
+	//The pizzas of the default menu
+	static final String[] PIZZA_CODES = {"PZL", "PZM", "PZV"};
+	//The order window in seconds after midnight and the delivery window in seconds after the order
+	static final int FIRST_ORDER = 19 * 3600;
+	static final int LAST_ORDER = 22 * 3600 + 59 * 60;
+	static final int MIN_DELIVERY = 10 * 60;
+	static final int MAX_DELIVERY = 59 * 60;
+	static final int MAX_QUANTITY = 10;
+	static final int MAX_BLOCKS = 10;
+	//Each of these names is short enough that any first and last name together are a valid name
+	static final String[] FIRST_NAMES = {"Aiden", "Aria", "Eli", "Olivia", "Emma", "Lucas", "Sophia", "Jackson",
+			"Caden", "Mia", "Liam", "Ava", "Noah", "Chloe", "Ethan", "Zoe", "April", "Casey", "Oroku", "Harper"};
+	static final String[] LAST_NAMES = {"Zhang", "Thompson", "Walker", "Williams", "Brown", "Anderson", "Singh",
+			"Jones", "Smith", "Nguyen", "Taylor", "Wilson", "Martin", "Lee", "White", "O'Neal", "Saki", "Chen"};
+	//Ways in which a malformed line is made invalid
+	private static final int MALFORMED_KINDS = 10;
+
+	private final SplittableRandom random;
+	private double[] customerWeights = {1, 1, 1};
+	private double[] pizzaWeights = {1, 1, 1};
+	private int locationSpread = MAX_BLOCKS;
+	private double malformedRate = 0;
+	//Reused to build each line
+	private final StringBuilder line = new StringBuilder(64);
+
+	/**
+	 * Creates a generator with an even mix of customer and pizza types, customers spread over the whole grid
+	 * and no malformed lines.
+	 *
+	 * <P> PRE: TRUE
+	 * <P> POST: The generator produces the same lines for the same seed and settings
+	 *
+	 * @param seed - The seed of the random number generator
+	 */
+	public LogGenerator(long seed) {
+		this.random = new SplittableRandom(seed);
+	}
+
+	/**
+	 * Sets the relative number of each type of customer. The weights do not need to add up to 1.
+	 * @param pickUp - The weight of pick up customers (PUC)
+	 * @param drone - The weight of drone delivery customers (DNC)
+	 * @param driver - The weight of driver delivery customers (DVC)
+	 * @throws IllegalArgumentException if a weight is negative or all of the weights are zero
+	 */
+	public void setCustomerMix(double pickUp, double drone, double driver) {
+		customerWeights = checkWeights(pickUp, drone, driver);
+	}
+
+	/**
+	 * Sets the relative number of each type of pizza. The weights do not need to add up to 1.
+	 * @param meatLovers - The weight of meat lovers pizzas (PZL)
+	 * @param margherita - The weight of margherita pizzas (PZM)
+	 * @param vegetarian - The weight of vegetarian pizzas (PZV)
+	 * @throws IllegalArgumentException if a weight is negative or all of the weights are zero
+	 */
+	public void setPizzaMix(double meatLovers, double margherita, double vegetarian) {
+		pizzaWeights = checkWeights(meatLovers, margherita, vegetarian);
+	}
+
+	/**
+	 * Sets how far delivery customers are spread from the restaurant. The x and y locations of delivery customers
+	 * are spread evenly between -blocks and blocks. Pick up customers are always at the restaurant.
+	 * @param blocks - The largest number of blocks north, south, east or west of the restaurant, between 1 and 10
+	 * @throws IllegalArgumentException if blocks is not between 1 and 10
+	 */
+	public void setLocationSpread(int blocks) {
+		if (blocks < 1 || blocks > MAX_BLOCKS) {
+			throw new IllegalArgumentException("The location spread must be between 1 and " + MAX_BLOCKS + " blocks");
+		}
+		locationSpread = blocks;
+	}
+
+	/**
+	 * Sets the fraction of lines that are deliberately malformed. A malformed line either has a semantic error
+	 * in its customer or pizza, or cannot be parsed.
+	 * @param rate - The fraction of malformed lines, between 0 and 1
+	 * @throws IllegalArgumentException if the rate is not between 0 and 1
+	 */
+	public void setMalformedRate(double rate) {
+		if (!(rate >= 0 && rate <= 1)) {
+			throw new IllegalArgumentException("The malformed rate must be between 0 and 1");
+		}
+		malformedRate = rate;
+	}
+
+	/**
+	 * Writes a log file of the specified number of lines, each terminated by a new line.
+	 * @param filename - The file name of the log file
+	 * @param numLines - The number of lines to write
+	 * @throws IOException If the log file cannot be written
+	 */
+	public void write(String filename, long numLines) throws IOException {
+		try (Writer writer = new BufferedWriter(new FileWriter(filename), 1 << 16)) {
+			write(writer, numLines);
+		}
+	}
+
+	/**
+	 * Writes the specified number of lines to a writer, each terminated by a new line.
+	 * @param writer - The writer to write the lines to
+	 * @param numLines - The number of lines to write
+	 * @throws IOException If the lines cannot be written
+	 */
+	public void write(Writer writer, long numLines) throws IOException {
+		for (long i = 0; i < numLines; i++) {
+			writer.append(nextLine()).append('\n');
+		}
+	}
+
+	/**
+	 * Generates the next line of the log file, without a line terminator.
+	 * @return The next line of the log file
+	 */
+	public String nextLine() {
+		int customer = choose(customerWeights);
+		int pizza = choose(pizzaWeights);
+		int orderTime = FIRST_ORDER + random.nextInt(LAST_ORDER - FIRST_ORDER + 1);
+		int deliveryTime = orderTime + MIN_DELIVERY + random.nextInt(MAX_DELIVERY - MIN_DELIVERY + 1);
+		int locationX = 0;
+		int locationY = 0;
+		if (!CUSTOMER_CODES[customer].equals("PUC")) {
+			//Delivery customers are never at the restaurant
+			do {
+				locationX = random.nextInt(2 * locationSpread + 1) - locationSpread;
+				locationY = random.nextInt(2 * locationSpread + 1) - locationSpread;
+			} while (locationX == 0 && locationY == 0);
+		}
+		String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+		String mobile = "0" + (100000000 + random.nextInt(900000000));
+		String customerCode = CUSTOMER_CODES[customer];
+		String pizzaCode = PIZZA_CODES[pizza];
+		String quantity = String.valueOf(1 + random.nextInt(MAX_QUANTITY));
+		String orderText = time(orderTime);
+		String deliveryText = time(deliveryTime);
+		String xText = String.valueOf(locationX);
+		String yText = String.valueOf(locationY);
+		if (malformedRate > 0 && random.nextDouble() < malformedRate) {
+			switch (random.nextInt(MALFORMED_KINDS)) {
+			case 0: name = name + " Zzzzzzzzzzzzzzzzzzzz"; break;
+			case 1: mobile = "9" + mobile.substring(1); break;
+			case 2: xText = String.valueOf(MAX_BLOCKS + 1 + random.nextInt(5)); break;
+			case 3: customerCode = "XYZ"; break;
+			case 4: orderText = time(FIRST_ORDER - 1 - random.nextInt(3600)); break;
+			case 5: deliveryText = time(orderTime + MIN_DELIVERY - 1); break;
+			case 6: pizzaCode = "PZK"; break;
+			case 7: quantity = "a"; break;
+			case 8: return orderText + "," + deliveryText + "," + name + "," + mobile;
+			default: return "";
+			}
+		}
+		line.setLength(0);
+		line.append(orderText).append(',').append(deliveryText).append(',').append(name).append(',')
+			.append(mobile).append(',').append(customerCode).append(',').append(xText).append(',')
+			.append(yText).append(',').append(pizzaCode).append(',').append(quantity);
+		return line.toString();
+	}
+
+	//Returns the index of a weight chosen at random in proportion to the weights
+	private int choose(double[] weights) {
+		double total = weights[0] + weights[1] + weights[2];
+		double value = random.nextDouble() * total;
+		if (value < weights[0]) {
+			return 0;
+		}
+		return (value < weights[0] + weights[1] || weights[2] == 0) ? 1 : 2;
+	}
+
+	//Formats a number of seconds after midnight as HH:mm:ss
+	private static String time(int secondOfDay) {
+		int hour = secondOfDay / 3600;
+		int minute = secondOfDay / 60 % 60;
+		int second = secondOfDay % 60;
+		char[] text = {(char) ('0' + hour / 10), (char) ('0' + hour % 10), ':', (char) ('0' + minute / 10),
+				(char) ('0' + minute % 10), ':', (char) ('0' + second / 10), (char) ('0' + second % 10)};
+		return new String(text);
+	}
+
+	private static double[] checkWeights(double first, double second, double third) {
+		if (!(first >= 0 && second >= 0 && third >= 0) || first + second + third <= 0) {
+			throw new IllegalArgumentException("Weights must not be negative and must not all be zero");
+		}
+		return new double[] {first, second, third};
+	}
+
+}
@@ -0,0 +1,124 @@
+package asgn2Tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+import asgn2Customers.Customer;
+import asgn2Exceptions.CustomerException;
+import asgn2Exceptions.LogHandlerException;
+import asgn2Exceptions.PizzaException;
+import asgn2Restaurant.LogHandler;
+import asgn2Restaurant.OrderRecord;
+import asgn2Restaurant.ParallelLogReader;
+
+/**
+ * A class that tests that the asgn2Restaurant.LogGenerator class writes the same log for the same seed,
+ * that its lines are read by asgn2Restaurant.LogHandler and that its settings are followed.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ */
+public class LogGeneratorTests {
+
+	private String generate(LogGenerator generator, int numLines) throws IOException {
+		StringWriter writer = new StringWriter();
+		generator.write(writer, numLines);
+		return writer.toString();
+	}
+
+	@Test
+	public void sameSeedSameLog() throws IOException {
+		assertEquals(generate(new LogGenerator(7), 1000), generate(new LogGenerator(7), 1000));
+		assertEquals(false, generate(new LogGenerator(7), 1000).equals(generate(new LogGenerator(8), 1000)));
+	}
+
+	@Test
+	public void linesAreValid() throws CustomerException, PizzaException, LogHandlerException {
+		LogGenerator generator = new LogGenerator(1);
+		for (int i = 0; i < 10000; i++) {
+			LogHandler.createOrder(generator.nextLine());
+		}
+	}
+
+	@Test
+	public void readsWrittenFile() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		File file = File.createTempFile("log", ".txt");
+		file.deleteOnExit();
+		new LogGenerator(2).write(file.getPath(), 5000);
+		assertEquals(5000, ParallelLogReader.readOrders(file.getPath(), 8).size());
+	}
+
+	@Test
+	public void customerAndPizzaMix() throws CustomerException, PizzaException, LogHandlerException {
+		LogGenerator generator = new LogGenerator(3);
+		generator.setCustomerMix(0, 1, 0);
+		generator.setPizzaMix(0, 0, 1);
+		for (int i = 0; i < 1000; i++) {
+			OrderRecord order = LogHandler.createOrder(generator.nextLine());
+			assertEquals("Drone Delivery", order.getCustomer().getCustomerType());
+			assertEquals("Vegetarian", order.getPizza().getPizzaType());
+		}
+	}
+
+	@Test
+	public void locationSpread() throws CustomerException, PizzaException, LogHandlerException {
+		LogGenerator generator = new LogGenerator(4);
+		generator.setCustomerMix(0, 0, 1);
+		generator.setLocationSpread(2);
+		for (int i = 0; i < 1000; i++) {
+			Customer customer = LogHandler.createOrder(generator.nextLine()).getCustomer();
+			assertEquals(true, Math.abs(customer.getLocationX()) <= 2 && Math.abs(customer.getLocationY()) <= 2);
+			assertEquals(false, customer.getLocationX() == 0 && customer.getLocationY() == 0);
+		}
+	}
+
+	@Test
+	public void malformedRate() {
+		LogGenerator generator = new LogGenerator(5);
+		generator.setMalformedRate(1);
+		for (int i = 0; i < 1000; i++) {
+			String line = generator.nextLine();
+			try {
+				LogHandler.createOrder(line);
+				fail(line);
+			} catch (CustomerException | PizzaException | LogHandlerException e) {
+				//Every line is expected to be invalid
+			}
+		}
+	}
+
+	@Test
+	public void someLinesMalformed() {
+		LogGenerator generator = new LogGenerator(6);
+		generator.setMalformedRate(0.1);
+		int invalid = 0;
+		for (int i = 0; i < 10000; i++) {
+			try {
+				LogHandler.createOrder(generator.nextLine());
+			} catch (CustomerException | PizzaException | LogHandlerException e) {
+				invalid++;
+			}
+		}
+		assertEquals(true, invalid > 800 && invalid < 1200);
+	}
+
+	@Test (expected = IllegalArgumentException.class)
+	public void negativeWeight() {
+		new LogGenerator(0).setCustomerMix(1, -1, 1);
+	}
+
+	@Test (expected = IllegalArgumentException.class)
+	public void spreadOutsideGrid() {
+		new LogGenerator(0).setLocationSpread(11);
+	}
+
+	@Test (expected = IllegalArgumentException.class)
+	public void rateAboveOne() {
+		new LogGenerator(0).setMalformedRate(1.5);
+	}
+
+}//end LogGeneratorTests
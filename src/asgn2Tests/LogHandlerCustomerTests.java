@@ -228,46 +228,46 @@ public class LogHandlerCustomerTests {
 	//Throw an error if the file does not exist.
 	@Test (expected = LogHandlerException.class)
 	public void fileNotFound() throws LogHandlerException, CustomerException{
-		LogHandler.populateCustomerDataset(".\\logs\\NonExistentFileName");
+		LogHandler.populateCustomerDataset("logs/NonExistentFileName");
 	}
 		
 	//Throw an error if there's an empty string in the log file.
 	@Test (expected = LogHandlerException.class)
 	public void logFileWithEmptyString() throws LogHandlerException, CustomerException{
-		LogHandler.populateCustomerDataset(".\\logs\\logWithEmptyString");
+		LogHandler.populateCustomerDataset("logs/logWithEmptyString");
 	}
 		
 	//Throw an error if there's a parameter missing in a string
 	@Test (expected = LogHandlerException.class)
 	public void logFileWithaMissingParameter() throws LogHandlerException, CustomerException{
-		LogHandler.populateCustomerDataset(".\\logs\\logWithMissingParam");
+		LogHandler.populateCustomerDataset("logs/logWithMissingParam");
 	}
 		
 	//Throw an error if there's string without commas
 	@Test (expected = LogHandlerException.class)
 	public void logFileWithoutCommas() throws LogHandlerException, CustomerException{
-		LogHandler.populateCustomerDataset(".\\logs\\logWithoutCommas");
+		LogHandler.populateCustomerDataset("logs/logWithoutCommas");
 	}
 	
 	//Throw an error if there's a semantic error in the file
 	@Test(expected = CustomerException.class)
 	public void logFileWithInvalidCustomerName() throws LogHandlerException, CustomerException{
-		LogHandler.populateCustomerDataset(".\\logs\\logWithInvalidCustomerName");
+		LogHandler.populateCustomerDataset("logs/logWithInvalidCustomerName");
 	}
 	
 	@Test(expected = CustomerException.class)
 	public void logFileWithInvalidMobileNumber() throws LogHandlerException, CustomerException{
-		LogHandler.populateCustomerDataset(".\\logs\\logWithInvalidMobileNumber");
+		LogHandler.populateCustomerDataset("logs/logWithInvalidMobileNumber");
 	}
 	
 	@Test(expected = CustomerException.class)
 	public void logFileWithInvalidLocationX() throws LogHandlerException, CustomerException{
-		LogHandler.populateCustomerDataset(".\\logs\\logWithInvalidLocationX");
+		LogHandler.populateCustomerDataset("logs/logWithInvalidLocationX");
 	}
 	
 	@Test(expected = CustomerException.class)
 	public void logFileWithInvalidLocationY() throws LogHandlerException, CustomerException{
-		LogHandler.populateCustomerDataset(".\\logs\\logWithInvalidLocationY");
+		LogHandler.populateCustomerDataset("logs/logWithInvalidLocationY");
 	}
 	
 }//end LogHandlerCustomerTests
@@ -0,0 +1,88 @@
+package asgn2Tests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+
+import org.junit.Test;
+
+import asgn2Customers.Customer;
+import asgn2Exceptions.CustomerException;
+import asgn2Exceptions.LogHandlerException;
+import asgn2Exceptions.PizzaException;
+import asgn2Pizzas.Pizza;
+import asgn2Restaurant.LogHandler;
+import asgn2Restaurant.OrderRecord;
+
+/**
+ * A class that tests the methods relating to the creation of OrderRecord objects in the asgn2Restaurant.LogHandler class,
+ * where the Customer and Pizza for a line are created from a single read of the log file.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ */
+public class LogHandlerOrderTests {
+	String log = "19:00:00,19:20:00,Casey Jones,0123456789,DVC,5,5,PZV,2";
+
+	//Tests if the customer and pizza of an order match those created separately
+	@Test
+	public void createOrderFromString() throws CustomerException, PizzaException, LogHandlerException {
+		OrderRecord order = LogHandler.createOrder(log);
+		assertEquals(true, LogHandler.createCustomer(log).equals(order.getCustomer()));
+		assertEquals(true, LogHandler.createPizza(log).equals(order.getPizza()));
+	}
+
+	@Test (expected = LogHandlerException.class)
+	public void emptyLine() throws CustomerException, PizzaException, LogHandlerException {
+		LogHandler.createOrder("");
+	}
+
+	@Test (expected = LogHandlerException.class)
+	public void missingParameter() throws CustomerException, PizzaException, LogHandlerException {
+		LogHandler.createOrder("19:00:00,19:20:00,Casey Jones,0123456789,DVC,5,5,PZV");
+	}
+
+	@Test (expected = CustomerException.class)
+	public void invalidCustomer() throws CustomerException, PizzaException, LogHandlerException {
+		LogHandler.createOrder("19:00:00,19:20:00,Casey Jones,9123456789,DVC,5,5,PZV,2");
+	}
+
+	@Test (expected = PizzaException.class)
+	public void invalidPizza() throws CustomerException, PizzaException, LogHandlerException {
+		LogHandler.createOrder("19:00:00,19:20:00,Casey Jones,0123456789,DVC,5,5,PZK,2");
+	}
+
+	//Tests if the orders are read in the same order as the separate customer and pizza datasets
+	@Test
+	public void populateOrderList() throws CustomerException, PizzaException, LogHandlerException {
+		ArrayList<OrderRecord> orders = LogHandler.populateOrderDataset("logs/20170103.txt");
+		ArrayList<Customer> customers = LogHandler.populateCustomerDataset("logs/20170103.txt");
+		ArrayList<Pizza> pizzas = LogHandler.populatePizzaDataset("logs/20170103.txt");
+		assertEquals(customers.size(), orders.size());
+		assertEquals(pizzas.size(), orders.size());
+		for (int i = 0; i < orders.size(); i++) {
+			assertEquals(true, customers.get(i).equals(orders.get(i).getCustomer()));
+			assertEquals(true, pizzas.get(i).equals(orders.get(i).getPizza()));
+		}
+	}
+
+	@Test (expected = LogHandlerException.class)
+	public void fileNotFound() throws CustomerException, PizzaException, LogHandlerException {
+		LogHandler.populateOrderDataset("logs/NonExistentFileName");
+	}
+
+	@Test (expected = LogHandlerException.class)
+	public void logFileWithoutCommas() throws CustomerException, PizzaException, LogHandlerException {
+		LogHandler.populateOrderDataset("logs/logWithoutCommas");
+	}
+
+	@Test (expected = CustomerException.class)
+	public void logFileWithInvalidLocationX() throws CustomerException, PizzaException, LogHandlerException {
+		LogHandler.populateOrderDataset("logs/logWithInvalidLocationX");
+	}
+
+	@Test (expected = PizzaException.class)
+	public void logFileWithOrderTimeAfter11() throws CustomerException, PizzaException, LogHandlerException {
+		LogHandler.populateOrderDataset("logs/logWithOrderTimeAfter11");
+	}
+
+}//end LogHandlerOrderTests
@@ -321,59 +321,82 @@ public class LogHandlerPizzaTests {
 	//Throw an error if the file does not exist.
 	@Test (expected = LogHandlerException.class)
 	public void fileNotFound() throws LogHandlerException, PizzaException{
-		LogHandler.populatePizzaDataset(".\\logs\\NonExistentFileName");
+		LogHandler.populatePizzaDataset("logs/NonExistentFileName");
 	}
 	
 	//Throw an error if there's an empty string in the log file.
 	@Test (expected = LogHandlerException.class)
 	public void logFileWithEmptyString() throws LogHandlerException, PizzaException{
-		LogHandler.populatePizzaDataset(".\\logs\\logWithEmptyString");
+		LogHandler.populatePizzaDataset("logs/logWithEmptyString");
 	}
 	
 	//Throw an error if there's a parameter missing in a string
 	@Test (expected = LogHandlerException.class)
 	public void logFileWithaMissingParameter() throws LogHandlerException, PizzaException{
-		LogHandler.populatePizzaDataset(".\\logs\\logWithMissingParam");
+		LogHandler.populatePizzaDataset("logs/logWithMissingParam");
 	}
 	
 	//Throw an error if there's string without commas
 	@Test (expected = LogHandlerException.class)
 	public void logFileWithoutCommas() throws LogHandlerException, PizzaException{
-		LogHandler.populatePizzaDataset(".\\logs\\logWithoutCommas");
+		LogHandler.populatePizzaDataset("logs/logWithoutCommas");
 	}
 	
 	//Throw an error if there's an empty order time
 	@Test (expected = LogHandlerException.class)
 	public void logFileWithEmptyOrderTime() throws LogHandlerException, PizzaException{
-		LogHandler.populatePizzaDataset(".\\logs\\logWithEmptyOrderTime");
+		LogHandler.populatePizzaDataset("logs/logWithEmptyOrderTime");
 	}
 	
 	//Throw an error if there's an empty delivery time
 	@Test (expected = LogHandlerException.class)
 	public void logFileWithEmptyDeliveryTime() throws LogHandlerException, PizzaException{
-		LogHandler.populatePizzaDataset(".\\logs\\logWithEmptyDeliveryTime");
+		LogHandler.populatePizzaDataset("logs/logWithEmptyDeliveryTime");
 	}
 	
 	//Throw an error if there's a non numeric quantity
 	@Test (expected = LogHandlerException.class)
 	public void logFileWithNonNumericQuantity() throws LogHandlerException, PizzaException{
-		LogHandler.populatePizzaDataset(".\\logs\\logWithNonNumericQuantity");
+		LogHandler.populatePizzaDataset("logs/logWithNonNumericQuantity");
 	}
 	
 	//Throw an error if there's a semantic error
 	@Test (expected = PizzaException.class)
 	public void logFileWithOrderTimeBefore7() throws LogHandlerException, PizzaException{
-		LogHandler.populatePizzaDataset(".\\logs\\logWithOrderTimeBefore7");
+		LogHandler.populatePizzaDataset("logs/logWithOrderTimeBefore7");
 	}
 
 	@Test (expected = PizzaException.class)
 	public void logFileWithOrderTimeAfter11() throws LogHandlerException, PizzaException{
-		LogHandler.populatePizzaDataset(".\\logs\\logWithOrderTimeAfter11");
+		LogHandler.populatePizzaDataset("logs/logWithOrderTimeAfter11");
 	}
 	
 	@Test (expected = PizzaException.class)
 	public void logFileWithInvalidPizzaCode() throws LogHandlerException, PizzaException{
-		LogHandler.populatePizzaDataset(".\\logs\\logWithInvalidPizzaCode");
+		LogHandler.populatePizzaDataset("logs/logWithInvalidPizzaCode");
+	}
+	
+	//Tests if the fast time parser accepts the same times as a HH:mm:ss formatter
+	@Test
+	public void parseTimeMatchesFormatter() {
+		java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern("HH:mm:ss");
+		String[] times = {"19:00:00", "22:59:59", "00:00:00", "23:59:59", "24:00:00", "24:00:01", "25:00:00", "19:60:00",
+				"19:00:60", "9:00:00", "19:00:0", "19-00-00", "+9:00:00", "19:00:00 ", "1a:00:00", ""};
+		for (String time : times) {
+			LocalTime expected;
+			try {
+				expected = LocalTime.parse(time, formatter);
+			} catch (Exception e) {
+				expected = null;
+			}
+			LocalTime actual;
+			try {
+				actual = LogHandler.parseTime(time);
+			} catch (LogHandlerException e) {
+				actual = null;
+			}
+			assertEquals(time, expected, actual);
+		}
 	}
 	
 	//Tests if populatePizzaDataset reads the order correctly
@@ -383,7 +406,7 @@ public class LogHandlerPizzaTests {
 		Pizza pizza2 = LogHandler.createPizza("20:00:00,20:25:00,April O'Neal,0987654321,DNC,3,4,PZM,1");
 		Pizza pizza3 = LogHandler.createPizza("21:00:00,21:35:00,Oroku Saki,0111222333,PUC,0,0,PZL,3");
 		ArrayList<Pizza> pizzaList;
-		pizzaList = LogHandler.populatePizzaDataset(".\\logs\\20170101.txt");
+		pizzaList = LogHandler.populatePizzaDataset("logs/20170101.txt");
 		
 		assertEquals(true, pizza1.equals(pizzaList.get(0)));
 		assertEquals(true, pizza2.equals(pizzaList.get(1)));
@@ -0,0 +1,194 @@
+package asgn2Tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import org.junit.Test;
+
+import asgn2Exceptions.CustomerException;
+import asgn2Exceptions.LogError;
+import asgn2Exceptions.LogHandlerException;
+import asgn2Exceptions.PizzaException;
+import asgn2Restaurant.LogHandler;
+import asgn2Restaurant.MappedLogReader;
+import asgn2Restaurant.OrderRecord;
+
+/**
+ * A class that tests that the asgn2Restaurant.MappedLogReader class reads the same orders and throws the same
+ * exceptions as the asgn2Restaurant.LogHandler class.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ */
+public class MappedLogReaderTests {
+
+	//Writes the contents to a temporary log file and returns its name
+	private String writeLog(String contents) throws IOException {
+		File file = File.createTempFile("log", ".txt");
+		file.deleteOnExit();
+		try (FileWriter writer = new FileWriter(file)) {
+			writer.write(contents);
+		}
+		return file.getPath();
+	}
+
+	//Asserts that both readers return equal orders for the file
+	private void assertSameOrders(String filename) throws CustomerException, PizzaException, LogHandlerException {
+		ArrayList<OrderRecord> expected = LogHandler.populateOrderDataset(filename);
+		ArrayList<OrderRecord> actual = MappedLogReader.readOrders(filename);
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(true, expected.get(i).getCustomer().equals(actual.get(i).getCustomer()));
+			assertEquals(true, expected.get(i).getPizza().equals(actual.get(i).getPizza()));
+		}
+	}
+
+	//Returns the class of the exception thrown by LogHandler for the line, or null if the line is valid
+	private Class<?> logHandlerResult(String line) {
+		try {
+			LogHandler.createOrder(line);
+			return null;
+		} catch (Exception e) {
+			return e.getClass();
+		}
+	}
+
+	//Returns the class of the exception thrown by MappedLogReader for the line, or null if the line is valid
+	private Class<?> mappedResult(String line) throws IOException {
+		try {
+			MappedLogReader.readOrders(writeLog(line + "\n"));
+			return null;
+		} catch (Exception e) {
+			return e.getClass();
+		}
+	}
+
+	@Test
+	public void sameOrdersAsLogHandler() throws CustomerException, PizzaException, LogHandlerException {
+		assertSameOrders("logs/20170101.txt");
+		assertSameOrders("logs/20170102.txt");
+		assertSameOrders("logs/20170103.txt");
+	}
+
+	@Test
+	public void lineTerminators() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		String line = "19:00:00,19:20:00,Casey Jones,0123456789,DVC,5,5,PZV,2";
+		assertEquals(3, MappedLogReader.readOrders(writeLog(line + "\r\n" + line + "\r" + line)).size());
+		assertEquals(1, MappedLogReader.readOrders(writeLog(line + "\n")).size());
+		assertEquals(0, MappedLogReader.readOrders(writeLog("")).size());
+	}
+
+	@Test
+	public void sameExceptionsAsLogHandler() throws IOException {
+		String[] lines = {
+			"19:00:00,19:20:00,Casey Jones,0123456789,DVC,5,5,PZV,2",
+			"19:00:00,19:20:00,April O'Neal,0123456789,PUC,0,0,PZL,10",
+			"19:00:00,19:20:00,Casey Jones,0123456789,DVC,5,5,PZV,2,,",
+			"19:00:00,19:20:00,Casey Jones,0123456789,DVC,5,5,PZV,2,x",
+			"19:00:00,19:20:00,Casey Jones,0123456789,DVC,5,5,PZV,",
+			"19:00:00,19:20:00,Casey Jones,0123456789,DVC,+5,-0,PZV,+2",
+			"19:00:00,19:20:00,Casey Jones,0123456789,DVC,5,5,PZV,2147483648",
+			"19:00:00,19:20:00,Casey Jones,0123456789,DVC,5,x,PZV,2",
+			"19:00:00,19:20:00,Casey Jones,0123456789,DVC,5,,PZV,2",
+			"19:00:00,19:20:00,Casey Jones,0123456789,DVC,-11,5,PZV,2",
+			"19:00:00,19:20:00,Casey Jones,0123456789,XXX,5,5,PZV,2",
+			"19:00:00,19:20:00,Casey Jones,0123456789,DVC,5,5,PZX,2",
+			"19:00:00,19:20:00,Casey Jones,0123456789,DVC,5,5,PZV,0",
+			"9:00:00,19:20:00,Casey Jones,0123456789,DVC,5,5,PZV,2",
+			"19:00:00,19:60:00,Casey Jones,0123456789,DVC,5,5,PZV,2",
+			"24:00:00,19:20:00,Casey Jones,0123456789,DVC,5,5,PZV,2",
+			"25:00:00,19:20:00,Casey Jones,0123456789,DVC,5,5,PZV,2",
+			"19:00:00,19:20:00,Casey Jon\u00e9s,0123456789,DVC,5,5,PZV,2",
+			"19:00:00,19:20:00,,0123456789,DVC,5,5,PZV,2",
+			",,,,,,,,",
+			"no commas here",
+		};
+		for (String line : lines) {
+			assertEquals(line, logHandlerResult(line), mappedResult(line));
+		}
+	}
+
+	@Test
+	public void sameExceptionsAsLogHandlerForGeneratedLines() throws IOException {
+		LogGenerator generator = new LogGenerator(21);
+		generator.setMalformedRate(0.8);
+		for (int i = 0; i < 500; i++) {
+			String line = generator.nextLine();
+			assertEquals(line, logHandlerResult(line), mappedResult(line));
+		}
+	}
+
+	//Asserts that reading the log file throws an exception without a stack trace for the reason, line and parameter
+	private void assertInvalidLine(String filename, Class<?> type, LogError error, long lineNumber, int fieldIndex) {
+		try {
+			MappedLogReader.readOrders(filename);
+			fail();
+		} catch (CustomerException e) {
+			assertInvalidLine(e, type, error, lineNumber, fieldIndex, e.getError(), e.getLineNumber(), e.getFieldIndex());
+		} catch (PizzaException e) {
+			assertInvalidLine(e, type, error, lineNumber, fieldIndex, e.getError(), e.getLineNumber(), e.getFieldIndex());
+		} catch (LogHandlerException e) {
+			assertInvalidLine(e, type, error, lineNumber, fieldIndex, e.getError(), e.getLineNumber(), e.getFieldIndex());
+		}
+	}
+
+	private void assertInvalidLine(Exception e, Class<?> type, LogError error, long lineNumber, int fieldIndex,
+			LogError actualError, long actualLineNumber, int actualFieldIndex) {
+		assertEquals(type, e.getClass());
+		assertEquals(error, actualError);
+		assertEquals(error.getMessage(), e.getMessage());
+		assertEquals(lineNumber, actualLineNumber);
+		assertEquals(fieldIndex, actualFieldIndex);
+		assertEquals(0, e.getStackTrace().length);
+	}
+
+	@Test
+	public void reasonsForInvalidLines() {
+		assertInvalidLine("logs/logWithInvalidLocationX", CustomerException.class, LogError.LOCATION_OUT_OF_RANGE, 1, 5);
+		assertInvalidLine("logs/logWithLocationYMoreThan10", CustomerException.class, LogError.LOCATION_OUT_OF_RANGE, 1, 6);
+		assertInvalidLine("logs/logWithInvalidCustomerName", CustomerException.class, LogError.INVALID_NAME_LENGTH, 1, 2);
+		assertInvalidLine("logs/logWithInvalidMobileNumber", CustomerException.class, LogError.INVALID_MOBILE_NUMBER, 1, 3);
+		assertInvalidLine("logs/logWithInvalidPizzaCode", PizzaException.class, LogError.INVALID_PIZZA_CODE, 1, 7);
+		assertInvalidLine("logs/logWithOrderTimeAfter11", PizzaException.class, LogError.ORDER_TIME_OUT_OF_HOURS, 1, 0);
+		assertInvalidLine("logs/logWithNonNumericQuantity", LogHandlerException.class, LogError.INVALID_TIME_OR_QUANTITY, 1, 8);
+		assertInvalidLine("logs/logWithEmptyDeliveryTime", LogHandlerException.class, LogError.INVALID_TIME_OR_QUANTITY, 1, 1);
+		assertInvalidLine("logs/logWithMissingParam", LogHandlerException.class, LogError.WRONG_NUMBER_OF_PARAMETERS, 1, -1);
+		assertInvalidLine("logs/logWithEmptyString", LogHandlerException.class, LogError.EMPTY_LINE, 12, -1);
+	}
+
+	@Test
+	public void reasonsForPizzaTimes() throws IOException {
+		String tooSoon = "19:00:00,19:09:59,Casey Jones,0123456789,DVC,5,5,PZV,2";
+		String tooLate = "19:00:00,19:59:01,Casey Jones,0123456789,DVC,5,5,PZV,2";
+		String midnight = "22:50:00,24:00:00,Casey Jones,0123456789,DVC,5,5,PZV,2";
+		String pickUpAway = "19:00:00,19:20:00,Casey Jones,0123456789,PUC,0,3,PZV,2";
+		assertInvalidLine(writeLog(tooSoon), PizzaException.class, LogError.DELIVERY_TOO_SOON, 1, 1);
+		assertInvalidLine(writeLog(tooLate), PizzaException.class, LogError.DELIVERY_TOO_LATE, 1, 1);
+		assertInvalidLine(writeLog(midnight), PizzaException.class, LogError.DELIVERY_TOO_SOON, 1, 1);
+		assertInvalidLine(writeLog(pickUpAway), CustomerException.class, LogError.INVALID_PICK_UP_LOCATION, 1, 6);
+	}
+
+	@Test (expected = LogHandlerException.class)
+	public void fileNotFound() throws CustomerException, PizzaException, LogHandlerException {
+		MappedLogReader.readOrders("logs/NonExistentFileName");
+	}
+
+	@Test (expected = LogHandlerException.class)
+	public void logFileWithEmptyString() throws CustomerException, PizzaException, LogHandlerException {
+		MappedLogReader.readOrders("logs/logWithEmptyString");
+	}
+
+	@Test (expected = CustomerException.class)
+	public void logFileWithInvalidMobileNumber() throws CustomerException, PizzaException, LogHandlerException {
+		MappedLogReader.readOrders("logs/logWithInvalidMobileNumber");
+	}
+
+	@Test (expected = PizzaException.class)
+	public void logFileWithInvalidPizzaCode() throws CustomerException, PizzaException, LogHandlerException {
+		MappedLogReader.readOrders("logs/logWithInvalidPizzaCode");
+	}
+
+}//end MappedLogReaderTests
@@ -0,0 +1,149 @@
+package asgn2Tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+
+import org.junit.Test;
+
+import asgn2Exceptions.CustomerException;
+import asgn2Exceptions.LogError;
+import asgn2Exceptions.LogHandlerException;
+import asgn2Exceptions.PizzaException;
+import asgn2Restaurant.LogHandler;
+import asgn2Restaurant.OrderBook;
+import asgn2Restaurant.OrderTotals;
+import asgn2Restaurant.PizzaRestaurant;
+
+/**
+ * A class that tests that the asgn2Restaurant.OrderBook class loads the log files of a directory by date
+ * and adds up the totals of a date or range of dates.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ */
+public class OrderBookTests {
+	String valid = "19:00:00,19:20:00,Casey Jones,0123456789,DVC,5,5,PZV,2";
+	String invalidCustomer = "19:00:00,19:20:00,Casey Jones,9123456789,DVC,5,5,PZV,2";
+	String invalidPizza = "19:00:00,19:20:00,Casey Jones,0123456789,DVC,5,5,PZK,2";
+	LocalDate first = LocalDate.of(2017, 1, 1);
+	LocalDate second = LocalDate.of(2017, 1, 2);
+	LocalDate third = LocalDate.of(2017, 1, 3);
+
+	//Writes a log file of the lines into the directory
+	private void writeLog(File directory, String name, String... lines) throws IOException {
+		File file = new File(directory, name);
+		file.deleteOnExit();
+		try (FileWriter writer = new FileWriter(file)) {
+			for (String line : lines) {
+				writer.write(line + "\n");
+			}
+		}
+	}
+
+	private File tempDirectory() throws IOException {
+		File directory = Files.createTempDirectory("logs").toFile();
+		directory.deleteOnExit();
+		return directory;
+	}
+
+	//Asserts that the totals are the same as those of the restaurant
+	private void assertSameTotals(OrderTotals expected, OrderTotals actual) {
+		assertEquals(expected.getNumOrders(), actual.getNumOrders());
+		assertEquals(expected.getNumPizzas(), actual.getNumPizzas());
+		assertEquals(expected.getTotalProfit(), actual.getTotalProfit(), 1e-9);
+		assertEquals(expected.getTotalDeliveryDistance(), actual.getTotalDeliveryDistance(), 1e-9);
+	}
+
+	//Only the log files named after a date are loaded, ignoring the files for testing invalid logs
+	@Test
+	public void loadDirectory() throws CustomerException, PizzaException, LogHandlerException {
+		OrderBook book = OrderBook.load("logs");
+		assertEquals(3, book.getDates().size());
+		assertEquals(first, book.getDates().first());
+		assertEquals(third, book.getDates().last());
+		assertEquals(LogHandler.populateOrderDataset("logs/20170102.txt").size(), book.getOrders(second).size());
+		assertSameTotals(PizzaRestaurant.summarizeLog("logs/20170103.txt"), book.getTotals(third));
+	}
+
+	@Test
+	public void sameOrdersAsLogFile() throws CustomerException, PizzaException, LogHandlerException {
+		OrderBook book = OrderBook.load("logs");
+		PizzaRestaurant restaurant = new PizzaRestaurant();
+		restaurant.processLog("logs/20170103.txt");
+		for (int i = 0; i < restaurant.getNumPizzaOrders(); i++) {
+			assertEquals(true, restaurant.getCustomerByIndex(i).equals(book.getOrders(third).get(i).getCustomer()));
+			assertEquals(true, restaurant.getPizzaByIndex(i).equals(book.getOrders(third).get(i).getPizza()));
+		}
+	}
+
+	@Test
+	public void dateRange() throws CustomerException, PizzaException, LogHandlerException {
+		OrderBook book = OrderBook.load("logs", second, LocalDate.of(2017, 12, 31));
+		assertEquals(2, book.getDates().size());
+		assertEquals(0, book.getOrders(first).size());
+		OrderTotals expected = PizzaRestaurant.summarizeLog("logs/20170102.txt");
+		expected.add(PizzaRestaurant.summarizeLog("logs/20170103.txt"));
+		assertSameTotals(expected, book.getTotals());
+	}
+
+	@Test
+	public void totalsOfRange() throws CustomerException, PizzaException, LogHandlerException {
+		OrderBook book = OrderBook.load("logs");
+		OrderTotals expected = PizzaRestaurant.summarizeLog("logs/20170101.txt");
+		expected.add(PizzaRestaurant.summarizeLog("logs/20170102.txt"));
+		assertSameTotals(expected, book.getTotals(first, second));
+		assertEquals(0, book.getTotals(third, first).getNumOrders());
+		assertEquals(0, book.getTotals(LocalDate.of(2016, 1, 1)).getNumOrders());
+	}
+
+	@Test
+	public void emptyDirectory() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		OrderBook book = OrderBook.load(tempDirectory().getPath());
+		assertEquals(0, book.getDates().size());
+		assertEquals(0, book.getNumOrders());
+	}
+
+	//The exception of the earliest invalid log file is thrown
+	@Test (expected = PizzaException.class)
+	public void earliestInvalidLogDecidesException() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		File directory = tempDirectory();
+		writeLog(directory, "20170101.txt", valid, valid);
+		writeLog(directory, "20170102.txt", valid, invalidPizza);
+		writeLog(directory, "20170103.txt", invalidCustomer);
+		OrderBook.load(directory.getPath());
+	}
+
+	//The reason, line and parameter of the invalid line are kept along with the name of the log file
+	@Test
+	public void invalidLineReported() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		File directory = tempDirectory();
+		writeLog(directory, "20170101.txt", valid, valid, invalidPizza);
+		try {
+			OrderBook.load(directory.getPath());
+			fail();
+		} catch (PizzaException e) {
+			assertEquals(LogError.INVALID_PIZZA_CODE, e.getError());
+			assertEquals(3, e.getLineNumber());
+			assertEquals(7, e.getFieldIndex());
+			assertEquals(true, e.getMessage().startsWith("20170101.txt: "));
+		}
+	}
+
+	@Test
+	public void invalidLogOutsideRange() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		File directory = tempDirectory();
+		writeLog(directory, "20170101.txt", valid, valid);
+		writeLog(directory, "20170102.txt", invalidCustomer);
+		assertEquals(2, OrderBook.load(directory.getPath(), first, first).getNumOrders());
+	}
+
+	@Test (expected = LogHandlerException.class)
+	public void directoryNotFound() throws CustomerException, PizzaException, LogHandlerException {
+		OrderBook.load("logs/NonExistentDirectory");
+	}
+
+}//end OrderBookTests
@@ -0,0 +1,130 @@
+package asgn2Tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Map;
+
+import org.junit.Test;
+
+import asgn2Exceptions.CustomerException;
+import asgn2Exceptions.LogHandlerException;
+import asgn2Exceptions.PizzaException;
+import asgn2Restaurant.OrderTotals;
+import asgn2Restaurant.PizzaRestaurant;
+
+/**
+ * A class that tests that a snapshot saved by asgn2Restaurant.PizzaRestaurant loads the same orders and totals,
+ * and that a damaged snapshot is rejected.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ */
+public class OrderSnapshotTests {
+	PizzaRestaurant restaurant = new PizzaRestaurant();
+	PizzaRestaurant loaded = new PizzaRestaurant();
+
+	private String tempSnapshot() throws IOException {
+		File file = File.createTempFile("snapshot", ".bin");
+		file.deleteOnExit();
+		return file.getPath();
+	}
+
+	private void assertSameTotals(OrderTotals expected, OrderTotals actual) {
+		assertEquals(expected.getNumOrders(), actual.getNumOrders());
+		assertEquals(expected.getNumPizzas(), actual.getNumPizzas());
+		assertEquals(expected.getTotalPrice(), actual.getTotalPrice(), 0);
+		assertEquals(expected.getTotalCost(), actual.getTotalCost(), 0);
+		assertEquals(expected.getTotalProfit(), actual.getTotalProfit(), 0);
+		assertEquals(expected.getTotalDeliveryDistance(), actual.getTotalDeliveryDistance(), 0);
+	}
+
+	private void assertSameTypeTotals(Map<String, OrderTotals> expected, Map<String, OrderTotals> actual) {
+		assertEquals(expected.keySet().toString(), actual.keySet().toString());
+		for (String type : expected.keySet()) {
+			assertSameTotals(expected.get(type), actual.get(type));
+		}
+	}
+
+	@Test
+	public void sameOrdersAndTotals() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		String snapshot = tempSnapshot();
+		restaurant.processLog("logs/20170103.txt");
+		restaurant.saveSnapshot(snapshot);
+		assertEquals(true, loaded.loadSnapshot(snapshot));
+		assertEquals(restaurant.getNumPizzaOrders(), loaded.getNumPizzaOrders());
+		for (int i = 0; i < restaurant.getNumPizzaOrders(); i++) {
+			assertEquals(true, restaurant.getCustomerByIndex(i).equals(loaded.getCustomerByIndex(i)));
+			assertEquals(true, restaurant.getPizzaByIndex(i).equals(loaded.getPizzaByIndex(i)));
+			assertEquals(restaurant.getPizzaByIndex(i).getDeliveryTime(), loaded.getPizzaByIndex(i).getDeliveryTime());
+		}
+		assertSameTotals(restaurant.getTotals(), loaded.getTotals());
+		assertSameTypeTotals(restaurant.getTotalsByPizzaType(), loaded.getTotalsByPizzaType());
+		assertSameTypeTotals(restaurant.getTotalsByCustomerType(), loaded.getTotalsByCustomerType());
+	}
+
+	@Test
+	public void emptyRestaurant() throws IOException, LogHandlerException {
+		String snapshot = tempSnapshot();
+		restaurant.saveSnapshot(snapshot);
+		loaded.loadSnapshot(snapshot);
+		assertEquals(0, loaded.getNumCustomerOrders());
+		assertEquals(0, loaded.getTotalsByPizzaType().size());
+	}
+
+	//Loading a snapshot replaces the orders already loaded
+	@Test
+	public void replacesOrders() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		String snapshot = tempSnapshot();
+		restaurant.processLog("logs/20170101.txt");
+		restaurant.saveSnapshot(snapshot);
+		loaded.processLog("logs/20170103.txt");
+		loaded.loadSnapshot(snapshot);
+		assertEquals(3, loaded.getNumPizzaOrders());
+		assertEquals(true, restaurant.getCustomerByIndex(2).equals(loaded.getCustomerByIndex(2)));
+		assertSameTotals(restaurant.getTotals(), loaded.getTotals());
+	}
+
+	@Test
+	public void corruptSnapshot() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		String snapshot = tempSnapshot();
+		restaurant.processLog("logs/20170103.txt");
+		restaurant.saveSnapshot(snapshot);
+		try (RandomAccessFile file = new RandomAccessFile(snapshot, "rw")) {
+			file.seek(600);
+			int b = file.read();
+			file.seek(600);
+			file.write(b ^ 1);
+		}
+		try {
+			loaded.loadSnapshot(snapshot);
+			fail();
+		} catch (LogHandlerException e) {
+			assertEquals(0, loaded.getNumPizzaOrders());
+			assertEquals(0, loaded.getTotals().getNumOrders());
+		}
+	}
+
+	@Test (expected = LogHandlerException.class)
+	public void notASnapshot() throws LogHandlerException {
+		loaded.loadSnapshot("logs/20170103.txt");
+	}
+
+	@Test (expected = LogHandlerException.class)
+	public void truncatedSnapshot() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		String snapshot = tempSnapshot();
+		restaurant.processLog("logs/20170103.txt");
+		restaurant.saveSnapshot(snapshot);
+		try (RandomAccessFile file = new RandomAccessFile(snapshot, "rw")) {
+			file.setLength(file.length() - 10);
+		}
+		loaded.loadSnapshot(snapshot);
+	}
+
+	@Test (expected = LogHandlerException.class)
+	public void fileNotFound() throws LogHandlerException {
+		loaded.loadSnapshot("logs/NonExistentFileName");
+	}
+
+}//end OrderSnapshotTests
@@ -0,0 +1,100 @@
+package asgn2Tests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+
+import org.junit.Test;
+
+import asgn2Exceptions.CustomerException;
+import asgn2Exceptions.LogHandlerException;
+import asgn2Exceptions.PizzaException;
+import asgn2Restaurant.LogHandler;
+import asgn2Restaurant.OrderRecord;
+import asgn2Restaurant.OrderStore;
+
+/**
+ * A class that tests that the asgn2Restaurant.OrderStore class creates customers and pizzas equal to
+ * those that were added to it.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ */
+public class OrderStoreTests {
+	OrderStore store = new OrderStore();
+
+	private ArrayList<OrderRecord> addLog(String filename) throws CustomerException, PizzaException, LogHandlerException {
+		ArrayList<OrderRecord> orders = LogHandler.populateOrderDataset(filename);
+		for (OrderRecord order : orders) {
+			store.add(order.getCustomer(), order.getPizza());
+		}
+		return orders;
+	}
+
+	@Test
+	public void sameOrdersAsAdded() throws CustomerException, PizzaException, LogHandlerException {
+		ArrayList<OrderRecord> orders = addLog("logs/20170103.txt");
+		assertEquals(orders.size(), store.size());
+		for (int i = 0; i < orders.size(); i++) {
+			assertEquals(true, orders.get(i).getCustomer().equals(store.getCustomer(i)));
+			assertEquals(true, orders.get(i).getPizza().equals(store.getPizza(i)));
+			assertEquals(orders.get(i).getPizza().getOrderTime(), store.getPizza(i).getOrderTime());
+			assertEquals(orders.get(i).getPizza().getDeliveryTime(), store.getPizza(i).getDeliveryTime());
+			assertEquals(orders.get(i).getCustomer().getDeliveryDistance(), store.getCustomer(i).getDeliveryDistance(), 0);
+		}
+	}
+
+	@Test
+	public void columns() throws CustomerException, PizzaException, LogHandlerException {
+		store.add(LogHandler.createCustomer("19:00:00,19:20:00,Casey Jones,0123456789,DVC,-5,5,PZV,2"),
+				LogHandler.createPizza("19:00:00,19:20:30,Casey Jones,0123456789,DVC,-5,5,PZV,2"));
+		assertEquals("DVC", store.getCustomerCode(0));
+		assertEquals("PZV", store.getPizzaCode(0));
+		assertEquals("Casey Jones", store.getName(0));
+		assertEquals("0123456789", store.getMobileNumber(0));
+		assertEquals(-5, store.getLocationX(0));
+		assertEquals(5, store.getLocationY(0));
+		assertEquals(2, store.getQuantity(0));
+		assertEquals(19 * 3600, store.getOrderTime(0));
+		assertEquals(19 * 3600 + 20 * 60 + 30, store.getDeliveryTime(0));
+	}
+
+	@Test
+	public void profitAndDistance() throws CustomerException, PizzaException, LogHandlerException {
+		ArrayList<OrderRecord> orders = addLog("logs/20170103.txt");
+		for (int i = 0; i < orders.size(); i++) {
+			assertEquals(orders.get(i).getPizza().getOrderProfit(), store.getOrderProfit(i), 0);
+			assertEquals(orders.get(i).getCustomer().getDeliveryDistance(), store.getDeliveryDistance(i), 0);
+		}
+	}
+
+	@Test
+	public void ranges() throws CustomerException, PizzaException, LogHandlerException {
+		ArrayList<OrderRecord> orders = addLog("logs/20170103.txt");
+		assertEquals(10, store.getCustomers(5, 15).size());
+		assertEquals(true, orders.get(14).getCustomer().equals(store.getCustomers(5, 15).get(9)));
+		assertEquals(true, orders.get(5).getPizza().equals(store.getPizzas(5, 15).get(0)));
+		assertEquals(0, store.getPizzas(store.size(), store.size()).size());
+	}
+
+	@Test
+	public void clear() throws CustomerException, PizzaException, LogHandlerException {
+		addLog("logs/20170103.txt");
+		store.clear();
+		assertEquals(0, store.size());
+		ArrayList<OrderRecord> orders = addLog("logs/20170101.txt");
+		assertEquals(true, orders.get(2).getCustomer().equals(store.getCustomer(2)));
+	}
+
+	@Test (expected = IndexOutOfBoundsException.class)
+	public void indexBeyondSize() throws CustomerException, PizzaException, LogHandlerException {
+		addLog("logs/20170101.txt");
+		store.getPizza(3);
+	}
+
+	@Test (expected = IndexOutOfBoundsException.class)
+	public void rangeBeyondSize() throws CustomerException, PizzaException, LogHandlerException {
+		addLog("logs/20170101.txt");
+		store.getCustomers(0, 4);
+	}
+
+}//end OrderStoreTests
@@ -0,0 +1,322 @@
+package asgn2Tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.junit.Test;
+
+import asgn2Exceptions.CustomerException;
+import asgn2Exceptions.LogError;
+import asgn2Exceptions.LogHandlerException;
+import asgn2Exceptions.PizzaException;
+import asgn2Restaurant.ErrorReport;
+import asgn2Restaurant.LogHandler;
+import asgn2Restaurant.OrderReader;
+import asgn2Restaurant.OrderRecord;
+import asgn2Restaurant.OrderTotals;
+import asgn2Restaurant.ParallelLogReader;
+import asgn2Restaurant.PizzaRestaurant;
+
+/**
+ * A class that tests that the asgn2Restaurant.ParallelLogReader class keeps the orders of the log file in order
+ * and throws the exception of the first invalid line no matter how the file is divided.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ */
+public class ParallelLogReaderTests {
+	String valid = "19:00:00,19:20:00,Casey Jones,0123456789,DVC,5,5,PZV,2";
+	String invalidCustomer = "19:00:00,19:20:00,Casey Jones,9123456789,DVC,5,5,PZV,2";
+	String invalidPizza = "19:00:00,19:20:00,Casey Jones,0123456789,DVC,5,5,PZK,2";
+
+	//Writes the lines to a temporary log file and returns its name
+	private String writeLog(String... lines) throws IOException {
+		File file = File.createTempFile("log", ".txt");
+		file.deleteOnExit();
+		try (FileWriter writer = new FileWriter(file)) {
+			for (String line : lines) {
+				writer.write(line + "\r\n");
+			}
+		}
+		return file.getPath();
+	}
+
+	@Test
+	public void sameOrdersForAnyNumberOfChunks() throws CustomerException, PizzaException, LogHandlerException {
+		for (int chunks = 1; chunks <= 64; chunks *= 2) {
+			ArrayList<OrderRecord> expected = LogHandler.populateOrderDataset("logs/20170103.txt");
+			ArrayList<OrderRecord> actual = ParallelLogReader.readOrders("logs/20170103.txt", chunks);
+			assertEquals(expected.size(), actual.size());
+			for (int i = 0; i < expected.size(); i++) {
+				assertEquals(true, expected.get(i).getCustomer().equals(actual.get(i).getCustomer()));
+				assertEquals(true, expected.get(i).getPizza().equals(actual.get(i).getPizza()));
+			}
+		}
+	}
+
+	@Test
+	public void moreChunksThanLines() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		assertEquals(2, ParallelLogReader.readOrders(writeLog(valid, valid), 1000).size());
+		assertEquals(0, ParallelLogReader.readOrders(writeLog(), 8).size());
+	}
+
+	//The pizza error comes first in the file so it is thrown even though the customer error is in another chunk
+	@Test (expected = PizzaException.class)
+	public void firstInvalidLineDecidesException() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		String[] lines = new String[200];
+		for (int i = 0; i < lines.length; i++) {
+			lines[i] = valid;
+		}
+		lines[20] = invalidPizza;
+		lines[150] = invalidCustomer;
+		ParallelLogReader.readOrders(writeLog(lines), 16);
+	}
+
+	@Test (expected = CustomerException.class)
+	public void invalidCustomerInLastChunk() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		String[] lines = new String[200];
+		for (int i = 0; i < lines.length; i++) {
+			lines[i] = valid;
+		}
+		lines[199] = invalidCustomer;
+		ParallelLogReader.readOrders(writeLog(lines), 16);
+	}
+
+	@Test (expected = LogHandlerException.class)
+	public void emptyLineInMiddleChunk() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		String[] lines = new String[200];
+		for (int i = 0; i < lines.length; i++) {
+			lines[i] = valid;
+		}
+		lines[100] = "";
+		lines[180] = invalidPizza;
+		ParallelLogReader.readOrders(writeLog(lines), 16);
+	}
+
+	//The line number of the invalid line is counted from the start of the file rather than the start of its chunk
+	@Test
+	public void lineNumberOfInvalidLine() throws IOException, CustomerException, LogHandlerException {
+		String[] lines = new String[200];
+		for (int i = 0; i < lines.length; i++) {
+			lines[i] = valid;
+		}
+		lines[150] = invalidPizza;
+		String filename = writeLog(lines);
+		for (int chunks = 1; chunks <= 64; chunks *= 2) {
+			try {
+				ParallelLogReader.readOrders(filename, chunks);
+				fail();
+			} catch (PizzaException e) {
+				assertEquals(LogError.INVALID_PIZZA_CODE, e.getError());
+				assertEquals(151, e.getLineNumber());
+				assertEquals(7, e.getFieldIndex());
+			}
+		}
+		try {
+			ParallelLogReader.readOrders(writeLargeLog(0.00002), (orders, bytesRead, fileSize) -> true);
+			fail();
+		} catch (Exception e) {
+			assertEquals(0, e.getStackTrace().length);
+		}
+	}
+
+	@Test
+	public void validateValidLog() throws LogHandlerException {
+		ErrorReport report = new ErrorReport();
+		assertEquals(true, ParallelLogReader.validate("logs/20170103.txt", report));
+		assertEquals(0, report.getNumInvalidLines());
+	}
+
+	//Validating reports the same reasons as reading the orders, including for names that are not ASCII text
+	@Test
+	public void validateSameAsReading() throws IOException, LogHandlerException {
+		String filename = writeLog(valid, invalidCustomer, invalidPizza,
+				"19:00:00,19:20:00,Casey Jon\u00e9s,0123456789,DVC,5,5,PZV,2",
+				"19:00:00,19:20:00,\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9,0123456789,DVC,5,5,PZV,2",
+				"19:00:00,19:20:00,Casey Jones,0123456789,XXX,5,5,PZV,x",
+				"19:00:00,19:20:00,Casey Jones,0123456789,DVC,5,5,PZV,2,x", "", valid);
+		ErrorReport expected = new ErrorReport();
+		ArrayList<OrderRecord> orders = ParallelLogReader.readValidOrders(filename, expected);
+		ErrorReport actual = new ErrorReport();
+		assertEquals(false, ParallelLogReader.validate(filename, actual));
+		assertEquals(2, orders.size());
+		assertEquals(7, actual.getNumInvalidLines());
+		assertSameReport(expected, actual);
+		assertEquals(LogError.INVALID_NAME_CHARACTERS, actual.getSampleError(2));
+		assertEquals(LogError.INVALID_CUSTOMER_CODE, actual.getSampleError(4));
+	}
+
+	@Test
+	public void validateLargeLog() throws IOException, LogHandlerException {
+		String filename = writeLargeLog(0.001);
+		ErrorReport expected = new ErrorReport();
+		ParallelLogReader.readValidOrders(filename, expected);
+		ErrorReport actual = new ErrorReport();
+		assertEquals(false, ParallelLogReader.validate(filename, actual));
+		assertEquals(true, actual.getNumInvalidLines() > 0);
+		assertSameReport(expected, actual);
+		assertEquals(true, ParallelLogReader.validate(writeLargeLog(0), new ErrorReport()));
+	}
+
+	private static void assertSameReport(ErrorReport expected, ErrorReport actual) {
+		assertEquals(expected.getNumInvalidLines(), actual.getNumInvalidLines());
+		for (LogError error : LogError.values()) {
+			assertEquals(expected.getCount(error), actual.getCount(error));
+		}
+		assertEquals(expected.getNumSamples(), actual.getNumSamples());
+		for (int i = 0; i < expected.getNumSamples(); i++) {
+			assertEquals(expected.getSampleError(i), actual.getSampleError(i));
+			assertEquals(expected.getSampleLineNumber(i), actual.getSampleLineNumber(i));
+			assertEquals(expected.getSampleOffset(i), actual.getSampleOffset(i));
+			assertEquals(expected.getSampleFieldIndex(i), actual.getSampleFieldIndex(i));
+		}
+	}
+
+	@Test (expected = LogHandlerException.class)
+	public void fileNotFound() throws CustomerException, PizzaException, LogHandlerException {
+		ParallelLogReader.readOrders("logs/NonExistentFileName");
+	}
+
+	//Writes a generated log file large enough to be passed to a listener in several chunks
+	private String writeLargeLog(double malformedRate) throws IOException {
+		File file = File.createTempFile("log", ".txt");
+		file.deleteOnExit();
+		LogGenerator generator = new LogGenerator(11);
+		generator.setMalformedRate(malformedRate);
+		generator.write(file.getPath(), 100000);
+		return file.getPath();
+	}
+
+	@Test
+	public void listenerGetsChunksInOrder() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		String filename = writeLargeLog(0);
+		ArrayList<OrderRecord> expected = LogHandler.populateOrderDataset(filename);
+		ArrayList<OrderRecord> actual = new ArrayList<OrderRecord>();
+		long[] lastBytesRead = {0};
+		int[] numChunks = {0};
+		assertEquals(true, ParallelLogReader.readOrders(filename, (List<OrderRecord> orders, long bytesRead, long fileSize) -> {
+			assertEquals(true, bytesRead > lastBytesRead[0] && bytesRead <= fileSize);
+			lastBytesRead[0] = bytesRead;
+			numChunks[0]++;
+			actual.addAll(orders);
+			return true;
+		}));
+		assertEquals(true, numChunks[0] > 1);
+		assertEquals(new File(filename).length(), lastBytesRead[0]);
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(true, expected.get(i).getCustomer().equals(actual.get(i).getCustomer()));
+			assertEquals(true, expected.get(i).getPizza().equals(actual.get(i).getPizza()));
+		}
+	}
+
+	//The totals of a restaurant are exactly those of adding each order of the log file
+	private void assertSameTotals(ArrayList<OrderRecord> expectedOrders, PizzaRestaurant restaurant) throws CustomerException, PizzaException {
+		OrderTotals expected = new OrderTotals();
+		LinkedHashMap<String, Long> pizzaTypeOrders = new LinkedHashMap<String, Long>();
+		for (OrderRecord order : expectedOrders) {
+			expected.add(order);
+			pizzaTypeOrders.merge(order.getPizza().getPizzaType(), 1L, Long::sum);
+		}
+		OrderTotals actual = restaurant.getTotals();
+		assertEquals(expected.getNumOrders(), actual.getNumOrders());
+		assertEquals(expected.getNumPizzas(), actual.getNumPizzas());
+		assertEquals(expected.getTotalPrice(), actual.getTotalPrice(), 0);
+		assertEquals(expected.getTotalCost(), actual.getTotalCost(), 0);
+		assertEquals(expected.getTotalProfit(), actual.getTotalProfit(), 0);
+		assertEquals(expected.getTotalDeliveryDistance(), actual.getTotalDeliveryDistance(), 0);
+		assertEquals(new ArrayList<String>(pizzaTypeOrders.keySet()), new ArrayList<String>(restaurant.getTotalsByPizzaType().keySet()));
+		for (String type : pizzaTypeOrders.keySet()) {
+			assertEquals((long) pizzaTypeOrders.get(type), restaurant.getTotalsByPizzaType().get(type).getNumOrders());
+		}
+		for (int i = 0; i < expectedOrders.size(); i += 997) {
+			assertEquals(true, expectedOrders.get(i).getCustomer().equals(restaurant.getCustomerByIndex(i)));
+			assertEquals(true, expectedOrders.get(i).getPizza().equals(restaurant.getPizzaByIndex(i)));
+		}
+	}
+
+	//A log file read in several chunks straight into the columns of a restaurant gives the same orders and totals
+	@Test
+	public void processLogInChunks() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		String filename = writeLargeLog(0);
+		PizzaRestaurant restaurant = new PizzaRestaurant();
+		restaurant.processLog(filename);
+		assertSameTotals(LogHandler.populateOrderDataset(filename), restaurant);
+	}
+
+	@Test
+	public void processLogLenientlyInChunks() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		String filename = writeLargeLog(0.001);
+		ErrorReport expectedReport = new ErrorReport();
+		ArrayList<OrderRecord> expected = ParallelLogReader.readValidOrders(filename, expectedReport);
+		ErrorReport report = new ErrorReport();
+		PizzaRestaurant restaurant = new PizzaRestaurant();
+		restaurant.processLog(filename, report);
+		assertEquals(true, report.getNumInvalidLines() > 0);
+		assertEquals(expectedReport.getNumInvalidLines(), report.getNumInvalidLines());
+		assertSameTotals(expected, restaurant);
+	}
+
+	//The exception of the first invalid line is the same whether the orders are created or read into a restaurant
+	@Test
+	public void processLogInvalidLineInChunks() throws IOException, CustomerException, PizzaException {
+		String filename = writeLargeLog(0.00002);
+		Exception expected = null;
+		try {
+			ParallelLogReader.readOrders(filename);
+		} catch (Exception e) {
+			expected = e;
+		}
+		assertEquals(true, expected != null);
+		PizzaRestaurant restaurant = new PizzaRestaurant();
+		try {
+			restaurant.processLog(filename);
+			fail();
+		} catch (Exception e) {
+			assertEquals(expected.getClass(), e.getClass());
+			assertEquals(expected.getMessage(), e.getMessage());
+		}
+		assertEquals(0, restaurant.getNumCustomerOrders());
+		assertEquals(0, restaurant.getTotals().getNumOrders());
+	}
+
+	@Test
+	public void listenerStopsReading() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		int[] numChunks = {0};
+		assertEquals(false, ParallelLogReader.readOrders(writeLargeLog(0), (orders, bytesRead, fileSize) -> ++numChunks[0] < 2));
+		assertEquals(2, numChunks[0]);
+	}
+
+	//The orders before the first invalid line are passed to the listener before its exception is thrown
+	@Test
+	public void listenerGetsOrdersBeforeInvalidLine() throws IOException {
+		String filename = writeLargeLog(0.00002);
+		int numValid = 0;
+		Class<?> expected = null;
+		try (OrderReader reader = new OrderReader(filename)) {
+			while (reader.readOrder() != null) {
+				numValid++;
+			}
+		} catch (Exception e) {
+			expected = e.getClass();
+		}
+		assertEquals(true, expected != null);
+		int[] numOrders = {0};
+		try {
+			ParallelLogReader.readOrders(filename, (orders, bytesRead, fileSize) -> {
+				numOrders[0] += orders.size();
+				return true;
+			});
+			fail();
+		} catch (Exception e) {
+			assertEquals(expected, e.getClass());
+		}
+		assertEquals(numValid, numOrders[0]);
+	}
+
+}//end ParallelLogReaderTests
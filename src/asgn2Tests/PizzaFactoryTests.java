@@ -151,6 +151,29 @@ public class PizzaFactoryTests {
 		deliveryTime = orderTime.plusMinutes(65);
 		Pizza meatLovers2 = PizzaFactory.getPizza(MEATLOVERS, quantity, orderTime, deliveryTime);
 	}
+	
+	//Test that a registered code creates pizzas with its constructor
+	@Test
+	public void registerCode() throws PizzaException {
+		assertEquals(false, PizzaFactory.isRegistered("ZZM"));
+		PizzaFactory.register("ZZM", MargheritaPizza::new);
+		assertEquals(true, PizzaFactory.isRegistered("ZZM"));
+		Pizza pizza = PizzaFactory.getPizza("ZZM", quantity, orderTime, deliveryTime);
+		assertEquals(true, margherita.equals(pizza));
+	}
+	
+	@Test
+	public void builtInCodesRegistered() {
+		assertEquals(true, PizzaFactory.isRegistered(MARGHERITA));
+		assertEquals(true, PizzaFactory.isRegistered(VEGETARIAN));
+		assertEquals(true, PizzaFactory.isRegistered(MEATLOVERS));
+		assertEquals(false, PizzaFactory.isRegistered("PZ@"));
+	}
+	
+	@Test (expected = IllegalArgumentException.class)
+	public void registerNullConstructor() {
+		PizzaFactory.register("PZM", null);
+	}
 }
 
 
@@ -0,0 +1,301 @@
+package asgn2Tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalTime;
+
+import org.junit.After;
+import org.junit.Test;
+
+import asgn2Exceptions.CustomerException;
+import asgn2Exceptions.LogHandlerException;
+import asgn2Exceptions.PizzaException;
+import asgn2Pizzas.MargheritaPizza;
+import asgn2Pizzas.MenuPizza;
+import asgn2Pizzas.Pizza;
+import asgn2Pizzas.PizzaFactory;
+import asgn2Pizzas.PizzaMenu;
+import asgn2Pizzas.PizzaTopping;
+import asgn2Restaurant.ErrorReport;
+import asgn2Restaurant.LogHandler;
+import asgn2Restaurant.ParallelLogReader;
+import asgn2Restaurant.PizzaRestaurant;
+import asgn2Restaurant.TimeWindowAnalytics;
+
+/**
+ * A class that tests the asgn2Pizzas.PizzaMenu class, loading menus from files and installing them so that
+ * the pizzas of the menu are created by asgn2Pizzas.PizzaFactory.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ */
+public class PizzaMenuTests {
+	LocalTime orderTime = LocalTime.of(20, 0);
+	LocalTime deliveryTime = LocalTime.of(20, 30);
+
+	//Writes the lines to a temporary menu file and returns its name
+	private String writeMenu(String... lines) throws IOException {
+		File file = File.createTempFile("menu", ".txt");
+		file.deleteOnExit();
+		try (FileWriter writer = new FileWriter(file)) {
+			for (String line : lines) {
+				writer.write(line + "\n");
+			}
+		}
+		return file.getPath();
+	}
+
+	//Each test that installs a menu puts the default menu back
+	@After
+	public void installDefault() throws PizzaException {
+		PizzaMenu.DEFAULT.install();
+	}
+
+	//The price, cost and profit of each pizza on the default menu are exactly those of its Pizza
+	@Test
+	public void defaultMenu() throws PizzaException {
+		PizzaMenu menu = PizzaMenu.DEFAULT;
+		assertEquals(3, menu.size());
+		assertEquals(true, PizzaMenu.getCurrent() == menu);
+		for (int id = 0; id < menu.size(); id++) {
+			assertEquals(id, menu.getId(menu.getCode(id)));
+			for (int quantity = 1; quantity <= 10; quantity++) {
+				Pizza pizza = PizzaFactory.getPizza(menu.getCode(id), quantity, orderTime, deliveryTime);
+				assertEquals(pizza.getPricePerPizza(), menu.getPricePerPizza(id), 0);
+				assertEquals(pizza.getCostPerPizza(), menu.getCostPerPizza(id), 0);
+				assertEquals(pizza.getOrderProfit(), menu.getOrderProfit(id, quantity), 0);
+				assertEquals(true, pizza.equals(menu.createPizza(id, quantity, orderTime, deliveryTime)));
+			}
+		}
+		assertEquals(6.5, menu.getProfitPerPizza(menu.getId("PZM")), 0);
+		assertEquals(-1, menu.getId("PZX"));
+		assertEquals(-1, menu.getId(null));
+	}
+
+	//The menu file in the project is the same as the default menu
+	@Test
+	public void loadMenuFile() throws PizzaException {
+		PizzaMenu menu = PizzaMenu.load("menu.txt");
+		assertEquals(PizzaMenu.DEFAULT.size(), menu.size());
+		for (int id = 0; id < menu.size(); id++) {
+			assertEquals(PizzaMenu.DEFAULT.getCode(id), menu.getCode(id));
+			assertEquals(PizzaMenu.DEFAULT.getRecipe(id).getPizzaType(), menu.getRecipe(id).getPizzaType());
+			assertEquals(PizzaMenu.DEFAULT.getPricePerPizza(id), menu.getPricePerPizza(id), 0);
+			assertEquals(PizzaMenu.DEFAULT.getCostPerPizza(id), menu.getCostPerPizza(id), 0);
+			assertEquals(PizzaMenu.DEFAULT.getRecipe(id).getToppings(), menu.getRecipe(id).getToppings());
+		}
+		menu.install();
+		Pizza pizza = PizzaFactory.getPizza("PZM", 2, orderTime, deliveryTime);
+		assertEquals(true, pizza instanceof MenuPizza);
+		assertEquals(true, pizza.equals(new MargheritaPizza(2, orderTime, deliveryTime)));
+	}
+
+	@Test
+	public void installAddedPizza() throws IOException, PizzaException, CustomerException, LogHandlerException {
+		PizzaMenu menu = PizzaMenu.load(writeMenu("# A menu with a hawaiian pizza", "",
+				"PZM,Margherita,8,CHEESE TOMATO", "PZL,Meat Lovers,12,TOMATO CHEESE BACON PEPPERONI SALAMI",
+				"PZV,Vegetarian,10,TOMATO CHEESE EGGPLANT MUSHROOM CAPSICUM", "PZH, Hawaiian ,11.5,CHEESE  TOMATO BACON"));
+		assertEquals(4, menu.size());
+		assertEquals(3, menu.getId("PZH"));
+		assertEquals(0, menu.getId("PZM"));
+		assertEquals(3.0, menu.getCostPerPizza(3), 1e-9);
+		assertEquals(8.5, menu.getProfitPerPizza(3), 1e-9);
+		assertEquals(false, PizzaFactory.isRegistered("PZH"));
+		menu.install();
+		assertEquals(true, PizzaMenu.getCurrent() == menu);
+		Pizza pizza = LogHandler.createOrder("19:00:00,19:20:00,Casey Jones,0123456789,DVC,5,5,PZH,2").getPizza();
+		assertEquals("Hawaiian", pizza.getPizzaType());
+		assertEquals(23.0, pizza.getOrderPrice(), 0);
+		assertEquals(true, pizza.containsTopping(PizzaTopping.BACON));
+		assertEquals(false, pizza.containsTopping(PizzaTopping.SALAMI));
+	}
+
+	//Installs a menu with a hawaiian pizza as well as the pizzas of the default menu
+	private PizzaMenu installHawaiian() throws IOException, PizzaException {
+		PizzaMenu menu = PizzaMenu.load(writeMenu("PZL,Meat Lovers,12,TOMATO CHEESE BACON PEPPERONI SALAMI",
+				"PZM,Margherita,8,CHEESE TOMATO", "PZV,Vegetarian,10,TOMATO CHEESE EGGPLANT MUSHROOM CAPSICUM",
+				"PZH,Hawaiian,11.5,CHEESE TOMATO BACON"));
+		menu.install();
+		return menu;
+	}
+
+	//Writes a log of the given number of orders that alternate between a hawaiian and a margherita pizza
+	private String writeHawaiianLog(int numOrders) throws IOException {
+		String[] lines = new String[numOrders];
+		for (int i = 0; i < numOrders; i++) {
+			lines[i] = "19:00:00,19:20:00,Casey Jones,0123456789,DVC," + (i % 5) + ",5," + (i % 2 == 0 ? "PZH" : "PZM")
+					+ "," + (i % 10 + 1);
+		}
+		return writeMenu(lines);
+	}
+
+	//The pizzas added by a menu are accepted by the mapped, parallel and lenient readers and by snapshots
+	@Test
+	public void processAddedPizza() throws IOException, PizzaException, CustomerException, LogHandlerException {
+		installHawaiian();
+		String log = writeHawaiianLog(1000);
+		PizzaRestaurant restaurant = new PizzaRestaurant();
+		restaurant.processLog(log);
+		assertEquals(1000, restaurant.getNumPizzaOrders());
+		assertEquals("Hawaiian", restaurant.getPizzaByIndex(0).getPizzaType());
+		assertEquals(34.5, restaurant.getPizzaByIndex(2).getOrderPrice(), 0);
+		assertEquals(500, restaurant.getTotalsByPizzaType().get("Hawaiian").getNumOrders());
+		assertEquals(1000, ParallelLogReader.readOrders(log, 4).size());
+		assertEquals("Hawaiian", ParallelLogReader.readOrders(log, 4).get(998).getPizza().getPizzaType());
+		double profit = restaurant.getTotalProfit();
+
+		ErrorReport report = new ErrorReport();
+		restaurant.processLog(log, report);
+		assertEquals(0, report.getNumInvalidLines());
+		assertEquals(1000, restaurant.getNumPizzaOrders());
+		assertEquals(profit, restaurant.getTotalProfit(), 0);
+
+		File snapshot = File.createTempFile("snapshot", ".bin");
+		snapshot.deleteOnExit();
+		restaurant.saveSnapshot(snapshot.getPath());
+		restaurant.resetDetails();
+		restaurant.loadSnapshot(snapshot.getPath());
+		assertEquals(1000, restaurant.getNumPizzaOrders());
+		assertEquals("Hawaiian", restaurant.getPizzaByIndex(998).getPizzaType());
+		assertEquals(profit, restaurant.getTotalProfit(), 0);
+		assertEquals(500, restaurant.getTotalsByPizzaType().get("Hawaiian").getNumOrders());
+	}
+
+	//Installing another menu changes neither the pizzas nor the profits of orders that have been processed
+	@Test
+	public void installAfterProcess() throws IOException, PizzaException, CustomerException, LogHandlerException {
+		installHawaiian();
+		PizzaRestaurant restaurant = new PizzaRestaurant();
+		restaurant.processLog(writeHawaiianLog(100));
+		double profit = restaurant.getTotalProfit();
+		File snapshot = File.createTempFile("snapshot", ".bin");
+		snapshot.deleteOnExit();
+		restaurant.saveSnapshot(snapshot.getPath());
+		PizzaMenu.DEFAULT.install();
+		assertEquals(false, PizzaFactory.isRegistered("PZH"));
+		assertEquals("Hawaiian", restaurant.getPizzaByIndex(0).getPizzaType());
+		TimeWindowAnalytics windows = restaurant.getTotalsByWindow(60);
+		double windowProfit = 0;
+		for (int window = 0; window < windows.getNumWindows(); window++) {
+			windowProfit += windows.getTotalProfit(window);
+		}
+		assertEquals(profit, windowProfit, 1e-6);
+		try {
+			restaurant.loadSnapshot(snapshot.getPath());
+			fail();
+		} catch (LogHandlerException e) {
+			assertEquals(0, restaurant.getNumPizzaOrders());
+		}
+	}
+
+	//The totals of the orders stored in columns use the prices of the installed menu
+	@Test
+	public void changedPrice() throws IOException, PizzaException, CustomerException, LogHandlerException {
+		PizzaRestaurant restaurant = new PizzaRestaurant();
+		restaurant.processLog("logs/20170103.txt");
+		double defaultProfit = restaurant.getTotalProfit();
+		PizzaMenu.load(writeMenu("PZL,Meat Lovers,12,TOMATO CHEESE BACON PEPPERONI SALAMI", "PZM,Margherita,9,CHEESE TOMATO",
+				"PZV,Vegetarian,10,TOMATO CHEESE EGGPLANT MUSHROOM CAPSICUM")).install();
+		restaurant.processLog("logs/20170103.txt");
+		assertEquals(true, restaurant.getTotalProfit() > defaultProfit);
+		TimeWindowAnalytics windows = restaurant.getTotalsByWindow(60);
+		double windowProfit = 0;
+		for (int window = 0; window < windows.getNumWindows(); window++) {
+			windowProfit += windows.getTotalProfit(window);
+		}
+		assertEquals(restaurant.getTotalProfit(), windowProfit, 1e-6);
+	}
+
+	@Test (expected = PizzaException.class)
+	public void missingDefaultPizza() throws IOException, PizzaException {
+		PizzaMenu.load(writeMenu("PZM,Margherita,8,CHEESE TOMATO")).install();
+	}
+
+	@Test (expected = PizzaException.class)
+	public void renamedDefaultPizza() throws IOException, PizzaException {
+		PizzaMenu.load(writeMenu("PZL,Meat Lovers,12,TOMATO CHEESE BACON PEPPERONI SALAMI", "PZM,Cheese and Tomato,8,CHEESE TOMATO",
+				"PZV,Vegetarian,10,TOMATO CHEESE EGGPLANT MUSHROOM CAPSICUM")).install();
+	}
+
+	@Test (expected = PizzaException.class)
+	public void wrongNumberOfParameters() throws IOException, PizzaException {
+		PizzaMenu.load(writeMenu("PZM,Margherita,8"));
+	}
+
+	@Test (expected = PizzaException.class)
+	public void invalidCode() throws IOException, PizzaException {
+		PizzaMenu.load(writeMenu("pzm,Margherita,8,CHEESE TOMATO"));
+	}
+
+	@Test (expected = PizzaException.class)
+	public void repeatedCode() throws IOException, PizzaException {
+		PizzaMenu.load(writeMenu("PZM,Margherita,8,CHEESE TOMATO", "PZM,Cheese,7,CHEESE"));
+	}
+
+	@Test (expected = PizzaException.class)
+	public void repeatedType() throws IOException, PizzaException {
+		PizzaMenu.load(writeMenu("PZM,Margherita,8,CHEESE TOMATO", "PZC,Margherita,7,CHEESE"));
+	}
+
+	@Test (expected = PizzaException.class)
+	public void negativePrice() throws IOException, PizzaException {
+		PizzaMenu.load(writeMenu("PZM,Margherita,-8,CHEESE TOMATO"));
+	}
+
+	@Test (expected = PizzaException.class)
+	public void invalidTopping() throws IOException, PizzaException {
+		PizzaMenu.load(writeMenu("PZM,Margherita,8,CHEESE PINEAPPLE"));
+	}
+
+	@Test
+	public void lineNumberInMessage() throws IOException {
+		try {
+			PizzaMenu.load(writeMenu("# Comment", "PZM,Margherita,8,CHEESE TOMATO", "PZV,Vegetarian,ten,TOMATO"));
+			fail();
+		} catch (PizzaException e) {
+			assertEquals(true, e.getMessage().startsWith("Menu line 3: "));
+		}
+	}
+
+	@Test (expected = PizzaException.class)
+	public void fileNotFound() throws PizzaException {
+		PizzaMenu.load("NonExistentMenu.txt");
+	}
+
+	//The menu named by the system property is found before any menu.txt
+	@Test
+	public void startupFileFromProperty() throws IOException {
+		String menu = writeMenu("PZM,Margherita,8,CHEESE TOMATO");
+		System.setProperty(PizzaMenu.MENU_PROPERTY, menu);
+		try {
+			assertEquals(menu, PizzaMenu.findStartupFile(new File(menu).getParent()));
+		} finally {
+			System.clearProperty(PizzaMenu.MENU_PROPERTY);
+		}
+	}
+
+	//Without the system property, the menu.txt of the first directory that has one is found
+	@Test
+	public void startupFileFromDirectory() throws IOException {
+		File empty = Files.createTempDirectory("empty").toFile();
+		File directory = Files.createTempDirectory("menu").toFile();
+		File menu = new File(directory, PizzaMenu.MENU_FILE_NAME);
+		menu.createNewFile();
+		empty.deleteOnExit();
+		directory.deleteOnExit();
+		menu.deleteOnExit();
+		assertEquals(menu.getPath(), PizzaMenu.findStartupFile(null, empty.getPath(), directory.getPath()));
+	}
+
+	//Without the system property or a menu.txt the default menu is kept
+	@Test
+	public void noStartupFile() throws IOException {
+		File empty = Files.createTempDirectory("empty").toFile();
+		empty.deleteOnExit();
+		assertEquals(null, PizzaMenu.findStartupFile(empty.getPath()));
+	}
+
+}//end PizzaMenuTests
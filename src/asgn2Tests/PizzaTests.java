@@ -11,6 +11,7 @@ import org.junit.Test;
 import asgn2Exceptions.PizzaException;
 import asgn2Pizzas.MargheritaPizza;
 import asgn2Pizzas.MeatLoversPizza;
+import asgn2Pizzas.Pizza;
 import asgn2Pizzas.VegetarianPizza;
 import asgn2Pizzas.PizzaTopping;
 /**
@@ -477,6 +478,15 @@ public class PizzaTests {
 		assertEquals(false, margherita.containsTopping(PizzaTopping.EGGPLANT));
 	}
 	
+	//Pizzas of the same type share one recipe instead of a list of toppings each
+	@Test
+	public void SharedRecipe() throws PizzaException{
+		MargheritaPizza other = new MargheritaPizza(1, orderTime, deliveryTime);
+		assertSame(margherita.getRecipe(), other.getRecipe());
+		assertEquals(2, margherita.getRecipe().getToppings().size());
+		assertEquals(MARGHERITA_COST, other.getCostPerPizza(), 0);
+	}
+	
 	@Test
 	public void ToppingsNotInMeatLovers(){
 		assertEquals(false, meatLovers.containsTopping(PizzaTopping.CAPSICUM));
@@ -537,11 +547,27 @@ public class PizzaTests {
 		assertEquals(quantity + extraQuantity, vegetarian2.getQuantity());
 		assertEquals(quantity + extraQuantity, meatLovers2.getQuantity());	
 	}
-}
-
-
-
-
-
-
 
+	//A pizza given its type and price shares the recipe of the same pizza on the menu
+	@Test
+	public void typeAndPriceOfMenuPizza() throws PizzaException{
+		Pizza pizza = new Pizza(quantity, orderTime, deliveryTime, "Margherita", MARGHERITA_PRICE) {};
+		assertEquals(true, pizza.equals(margherita));
+		assertEquals(MARGHERITA_COST, pizza.getCostPerPizza(), 0);
+		assertEquals(true, pizza.containsTopping(PizzaTopping.CHEESE));
+	}
+	
+	//A pizza of a type or price not on the menu has no toppings
+	@Test
+	public void typeAndPriceOfOtherPizza() throws PizzaException{
+		Pizza pizza = new Pizza(quantity, orderTime, deliveryTime, "Margherita", MARGHERITA_PRICE + 1) {};
+		assertEquals(0, pizza.getCostPerPizza(), 0);
+		assertEquals((MARGHERITA_PRICE + 1) * quantity, pizza.getOrderProfit(), 0);
+		assertEquals(false, pizza.containsTopping(PizzaTopping.CHEESE));
+	}
+	
+	@Test (expected = PizzaException.class)
+	public void typeAndPriceQuantityZero() throws PizzaException{
+		new Pizza(0, orderTime, deliveryTime, "Margherita", MARGHERITA_PRICE) {};
+	}
+}
@@ -2,14 +2,25 @@ package asgn2Tests;
 
 import static org.junit.Assert.*;
 
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.Test;
 
 import asgn2Customers.Customer;
+import asgn2Customers.CustomerFactory;
+import asgn2Customers.DriverDeliveryCustomer;
 import asgn2Exceptions.CustomerException;
 import asgn2Exceptions.LogHandlerException;
 import asgn2Exceptions.PizzaException;
+import asgn2Restaurant.ErrorReport;
 import asgn2Restaurant.LogHandler;
+import asgn2Restaurant.OrderColumn;
+import asgn2Restaurant.OrderRecord;
+import asgn2Restaurant.OrderTotals;
 import asgn2Restaurant.PizzaRestaurant;
 
 
@@ -22,7 +33,7 @@ import asgn2Restaurant.PizzaRestaurant;
 public class RestaurantCustomerTests {
 	static final int NUM_ORDERS = 100;
 	//This is the 8th order in the log file
-	String logFile = ".\\logs\\20170103.txt";
+	String logFile = "logs/20170103.txt";
 	String orderString = "22:16:00,22:31:00,Olivia Williams,0771390439,PUC,0,0,PZM,3";
 	PizzaRestaurant pizzaRestaurant;
 	Customer order;
@@ -39,7 +50,7 @@ public class RestaurantCustomerTests {
 		assertEquals(0, pizzaRestaurant.getTotalDeliveryDistance(), 0);
 	}
 	
-	@Test (expected = java.lang.IndexOutOfBoundsException.class)
+	@Test (expected = CustomerException.class)
 	public void iniialArrayListState() throws CustomerException {
 		pizzaRestaurant.getCustomerByIndex(0);
 	}
@@ -86,6 +97,138 @@ public class RestaurantCustomerTests {
 		assertEquals(distance, pizzaRestaurant.getTotalDeliveryDistance(),0);
 	}
 	
+	//Test if the totals of a log match those of the loaded restaurant without loading it
+	@Test
+	public void testSummarizeLogDeliveryDistance() throws CustomerException, PizzaException, LogHandlerException{
+		OrderTotals totals = PizzaRestaurant.summarizeLog(logFile);
+		assertEquals(0, pizzaRestaurant.getNumCustomerOrders());
+		pizzaRestaurant.processLog(logFile);
+		assertEquals(NUM_ORDERS, totals.getNumOrders());
+		assertEquals(pizzaRestaurant.getTotalDeliveryDistance(), totals.getTotalDeliveryDistance(), 0);
+	}
+	
+	//Test if the last order can be retrieved
+	@Test
+	public void lastIndex() throws CustomerException, PizzaException, LogHandlerException{
+		pizzaRestaurant.processLog(logFile);
+		assertEquals(true, pizzaRestaurant.getCustomerByIndex(NUM_ORDERS - 1).equals(pizzaRestaurant.getCustomers(0, NUM_ORDERS).get(NUM_ORDERS - 1)));
+	}
+	
+	//Test if the value of each customer column is that of the Customer at the index
+	@Test
+	public void testOrderValues() throws CustomerException, PizzaException, LogHandlerException{
+		pizzaRestaurant.processLog(logFile);
+		for (int i = 0; i < NUM_ORDERS; i++){
+			Customer customer = pizzaRestaurant.getCustomerByIndex(i);
+			assertEquals(customer.getName(), pizzaRestaurant.getOrderValue(i, OrderColumn.CUSTOMER_NAME));
+			assertEquals(customer.getMobileNumber(), pizzaRestaurant.getOrderValue(i, OrderColumn.MOBILE_NUMBER));
+			assertEquals(customer.getCustomerType(), pizzaRestaurant.getOrderValue(i, OrderColumn.CUSTOMER_TYPE));
+			assertEquals(customer.getLocationX(), pizzaRestaurant.getOrderValue(i, OrderColumn.LOCATION_X));
+			assertEquals(customer.getLocationY(), pizzaRestaurant.getOrderValue(i, OrderColumn.LOCATION_Y));
+			assertEquals(customer.getDeliveryDistance(), pizzaRestaurant.getOrderValue(i, OrderColumn.DELIVERY_DISTANCE));
+		}
+		assertEquals(null, pizzaRestaurant.getOrderValue(NUM_ORDERS, OrderColumn.CUSTOMER_NAME));
+		pizzaRestaurant.resetDetails();
+		assertEquals(null, pizzaRestaurant.getOrderValue(0, OrderColumn.CUSTOMER_NAME));
+	}
+	
+	//Test if a range of orders matches the orders at each index
+	@Test
+	public void testRange() throws CustomerException, PizzaException, LogHandlerException{
+		pizzaRestaurant.processLog(logFile);
+		List<Customer> orders = pizzaRestaurant.getCustomers(5, 15);
+		assertEquals(10, orders.size());
+		for (int i = 0; i < orders.size(); i++){
+			assertEquals(true, pizzaRestaurant.getCustomerByIndex(i + 5).equals(orders.get(i)));
+		}
+		assertEquals(0, pizzaRestaurant.getCustomers(NUM_ORDERS, NUM_ORDERS).size());
+	}
+	
+	@Test (expected = CustomerException.class)
+	public void rangeBeyondNumberOfOrders() throws CustomerException, PizzaException, LogHandlerException{
+		pizzaRestaurant.processLog(logFile);
+		pizzaRestaurant.getCustomers(0, NUM_ORDERS + 1);
+	}
+	
+	@Test (expected = CustomerException.class)
+	public void reversedRange() throws CustomerException, PizzaException, LogHandlerException{
+		pizzaRestaurant.processLog(logFile);
+		pizzaRestaurant.getCustomers(10, 5);
+	}
+	
+	//Test if the running totals of each customer type add up to the overall totals
+	@Test
+	public void testCustomerTypeTotals() throws CustomerException, PizzaException, LogHandlerException{
+		pizzaRestaurant.processLog(logFile);
+		double distance = 0;
+		for (OrderTotals totals : pizzaRestaurant.getTotalsByCustomerType().values()){
+			distance += totals.getTotalDeliveryDistance();
+		}
+		assertEquals(3, pizzaRestaurant.getTotalsByCustomerType().size());
+		assertEquals(0, pizzaRestaurant.getTotalsByCustomerType().get("Pick Up").getTotalDeliveryDistance(), 0);
+		assertEquals(pizzaRestaurant.getTotalDeliveryDistance(), distance, 0.000001);
+	}
+	
+	//Writes the lines to a temporary log file and returns its name
+	private String writeLog(String... lines) throws IOException {
+		File file = File.createTempFile("log", ".txt");
+		file.deleteOnExit();
+		try (FileWriter writer = new FileWriter(file)) {
+			for (String line : lines) {
+				writer.write(line + "\n");
+			}
+		}
+		return file.getPath();
+	}
+	
+	//Test that the orders of a customer code registered with CustomerFactory are processed, stored, totalled and
+	//saved under their own code, with the delivery distance of the registered constructor
+	@Test
+	public void testRegisteredCustomerCode() throws IOException, CustomerException, PizzaException, LogHandlerException{
+		//A driver that delivers by bicycle along the streets, taking twice as long a route
+		CustomerFactory.register("BKC", (name, mobileNumber, x, y) -> new DriverDeliveryCustomer(name, mobileNumber, x, y) {
+			@Override
+			public double getDeliveryDistance() {
+				return 2 * super.getDeliveryDistance();
+			}
+		});
+		String log = writeLog("20:05:00,20:26:00,Aiden Zhang,0161429209,BKC,-3,9,PZV,2",
+				"22:35:00,22:55:00,Aria Thompson,0695536923,DVC,6,0,PZV,6",
+				"19:39:00,20:06:00,Eli Walker,0106952291,BKC,8,1,PZM,2");
+		pizzaRestaurant.processLog(log);
+		assertEquals(3, pizzaRestaurant.getNumCustomerOrders());
+		assertEquals("BKC", pizzaRestaurant.getCustomerByIndex(0).getCustomerCode());
+		assertEquals("DVC", pizzaRestaurant.getCustomerByIndex(1).getCustomerCode());
+		assertEquals("Driver Delivery", pizzaRestaurant.getCustomerByIndex(2).getCustomerType());
+		assertEquals(24.0, pizzaRestaurant.getCustomerByIndex(0).getDeliveryDistance(), 0);
+		assertEquals(24.0 + 6.0 + 18.0, pizzaRestaurant.getTotalDeliveryDistance(), 1e-9);
+		assertEquals(3, pizzaRestaurant.getTotalsByCustomerType().get("Driver Delivery").getNumOrders());
+
+		//The same orders added one at a time keep their code
+		PizzaRestaurant added = new PizzaRestaurant();
+		for (OrderRecord record : LogHandler.populateOrderDataset(log)){
+			added.addOrder(record);
+		}
+		assertEquals("BKC", added.getCustomerByIndex(2).getCustomerCode());
+		assertEquals(pizzaRestaurant.getTotalDeliveryDistance(), added.getTotalDeliveryDistance(), 0);
+
+		//and so do the orders read leniently and from a snapshot
+		ErrorReport report = new ErrorReport();
+		pizzaRestaurant.processLog(log, report);
+		assertEquals(0, report.getNumInvalidLines());
+		File snapshot = File.createTempFile("snapshot", ".bin");
+		snapshot.deleteOnExit();
+		pizzaRestaurant.saveSnapshot(snapshot.getPath());
+		pizzaRestaurant.loadSnapshot(snapshot.getPath());
+		assertEquals("BKC", pizzaRestaurant.getCustomerByIndex(0).getCustomerCode());
+		assertEquals(24.0 + 6.0 + 18.0, pizzaRestaurant.getTotalDeliveryDistance(), 1e-9);
+	}
+	
+	@Test (expected = CustomerException.class)
+	public void testUnregisteredCustomerCode() throws IOException, CustomerException, PizzaException, LogHandlerException{
+		pizzaRestaurant.processLog(writeLog("20:05:00,20:26:00,Aiden Zhang,0161429209,XYZ,-3,9,PZV,2"));
+	}
+	
 	@Test
 	public void testReset() throws CustomerException, PizzaException, LogHandlerException{
 		pizzaRestaurant.processLog(logFile);
@@ -94,7 +237,7 @@ public class RestaurantCustomerTests {
 		assertEquals(0, pizzaRestaurant.getTotalDeliveryDistance(), 0);
 	}
 	
-	@Test (expected = java.lang.IndexOutOfBoundsException.class)
+	@Test (expected = CustomerException.class)
 	public void testResetArrayReset() throws CustomerException, PizzaException, LogHandlerException{
 		pizzaRestaurant.processLog(logFile);
 		pizzaRestaurant.resetDetails();
@@ -2,6 +2,8 @@ package asgn2Tests;
 
 import static org.junit.Assert.*;
 
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -10,6 +12,8 @@ import asgn2Exceptions.LogHandlerException;
 import asgn2Exceptions.PizzaException;
 import asgn2Pizzas.Pizza;
 import asgn2Restaurant.LogHandler;
+import asgn2Restaurant.OrderColumn;
+import asgn2Restaurant.OrderTotals;
 import asgn2Restaurant.PizzaRestaurant;
 
 
@@ -34,7 +38,7 @@ import asgn2Restaurant.PizzaRestaurant;
 public class RestaurantPizzaTests {
 	static final int NUM_ORDERS = 100;
 	//This is the 8th order in the log file
-	String logFile = ".\\logs\\20170103.txt";
+	String logFile = "logs/20170103.txt";
 	String orderString = "22:16:00,22:31:00,Olivia Williams,0771390439,PUC,0,0,PZM,3";
 	Pizza order;
 	PizzaRestaurant pizzaRestaurant;
@@ -52,8 +56,8 @@ public class RestaurantPizzaTests {
 		assertEquals(0, pizzaRestaurant.getTotalProfit(), 0);
 	}
 	
-	//When initialized, the array is empty thus throws an error.
-	@Test (expected = java.lang.IndexOutOfBoundsException.class)
+	//When initialized, there are no orders thus any index is invalid.
+	@Test (expected = PizzaException.class)
 	public void initialArrayListState() throws PizzaException{
 		pizzaRestaurant.getPizzaByIndex(0);
 	}
@@ -111,15 +115,146 @@ public class RestaurantPizzaTests {
 		assertEquals(profit, pizzaRestaurant.getTotalProfit(),0);
 	}
 	
+	//Test if the totals of a log match those of the loaded restaurant without loading it
+	@Test
+	public void testSummarizeLogProfit() throws CustomerException, PizzaException, LogHandlerException{
+		OrderTotals totals = PizzaRestaurant.summarizeLog(logFile);
+		assertEquals(0, pizzaRestaurant.getNumPizzaOrders());
+		pizzaRestaurant.processLog(logFile);
+		assertEquals(NUM_ORDERS, totals.getNumOrders());
+		assertEquals(pizzaRestaurant.getTotalProfit(), totals.getTotalProfit(), 0);
+	}
+	
+	@Test (expected = PizzaException.class)
+	public void summarizeLogWithOrderTimeAfter11() throws LogHandlerException, PizzaException, CustomerException{
+		PizzaRestaurant.summarizeLog("logs/logWithOrderTimeAfter11");
+	}
+	
+	//Test if the last order can be retrieved
+	@Test
+	public void lastIndex() throws CustomerException, PizzaException, LogHandlerException{
+		pizzaRestaurant.processLog(logFile);
+		assertEquals(true, pizzaRestaurant.getPizzaByIndex(NUM_ORDERS - 1).equals(pizzaRestaurant.getPizzas(0, NUM_ORDERS).get(NUM_ORDERS - 1)));
+	}
+	
+	//Test if the value of each pizza column is that of the Pizza at the index
+	@Test
+	public void testOrderValues() throws CustomerException, PizzaException, LogHandlerException{
+		pizzaRestaurant.processLog(logFile);
+		for (int i = 0; i < NUM_ORDERS; i++){
+			Pizza pizza = pizzaRestaurant.getPizzaByIndex(i);
+			assertEquals(pizza.getPizzaType(), pizzaRestaurant.getOrderValue(i, OrderColumn.PIZZA_TYPE));
+			assertEquals(pizza.getQuantity(), pizzaRestaurant.getOrderValue(i, OrderColumn.QUANTITY));
+			assertEquals(pizza.getOrderPrice(), pizzaRestaurant.getOrderValue(i, OrderColumn.ORDER_PRICE));
+			assertEquals(pizza.getOrderCost(), pizzaRestaurant.getOrderValue(i, OrderColumn.ORDER_COST));
+			assertEquals(pizza.getOrderProfit(), pizzaRestaurant.getOrderValue(i, OrderColumn.ORDER_PROFIT));
+		}
+		assertEquals(null, pizzaRestaurant.getOrderValue(-1, OrderColumn.PIZZA_TYPE));
+	}
+	
+	//Test if a range of orders matches the orders at each index
+	@Test
+	public void testRange() throws CustomerException, PizzaException, LogHandlerException{
+		pizzaRestaurant.processLog(logFile);
+		List<Pizza> orders = pizzaRestaurant.getPizzas(5, 15);
+		assertEquals(10, orders.size());
+		for (int i = 0; i < orders.size(); i++){
+			assertEquals(true, pizzaRestaurant.getPizzaByIndex(i + 5).equals(orders.get(i)));
+		}
+		assertEquals(0, pizzaRestaurant.getPizzas(NUM_ORDERS, NUM_ORDERS).size());
+	}
+	
+	//Test if a range of orders keeps its pizzas when the orders are reset
+	@Test
+	public void rangeAfterReset() throws CustomerException, PizzaException, LogHandlerException{
+		pizzaRestaurant.processLog(logFile);
+		Pizza last = pizzaRestaurant.getPizzaByIndex(NUM_ORDERS - 1);
+		List<Pizza> orders = pizzaRestaurant.getPizzas(0, NUM_ORDERS);
+		pizzaRestaurant.resetDetails();
+		assertEquals(NUM_ORDERS, orders.size());
+		assertEquals(true, last.equals(orders.get(NUM_ORDERS - 1)));
+	}
+	
+	@Test (expected = PizzaException.class)
+	public void rangeBeyondNumberOfOrders() throws CustomerException, PizzaException, LogHandlerException{
+		pizzaRestaurant.processLog(logFile);
+		pizzaRestaurant.getPizzas(0, NUM_ORDERS + 1);
+	}
+	
+	@Test (expected = PizzaException.class)
+	public void reversedRange() throws CustomerException, PizzaException, LogHandlerException{
+		pizzaRestaurant.processLog(logFile);
+		pizzaRestaurant.getPizzas(10, 5);
+	}
+	
+	//Test if the running totals of each pizza type add up to the overall totals
+	@Test
+	public void testPizzaTypeTotals() throws CustomerException, PizzaException, LogHandlerException{
+		pizzaRestaurant.processLog(logFile);
+		double profit = 0;
+		int orders = 0;
+		for (OrderTotals totals : pizzaRestaurant.getTotalsByPizzaType().values()){
+			profit += totals.getTotalProfit();
+			orders += totals.getNumOrders();
+		}
+		assertEquals(3, pizzaRestaurant.getTotalsByPizzaType().size());
+		assertEquals(NUM_ORDERS, orders);
+		assertEquals(pizzaRestaurant.getTotalProfit(), profit, 0.000001);
+		OrderTotals totals = pizzaRestaurant.getTotals();
+		assertEquals(totals.getTotalPrice() - totals.getTotalCost(), totals.getTotalProfit(), 0.000001);
+	}
+	
+	//Test if adding an order updates the running totals
+	@Test
+	public void testAddOrder() throws CustomerException, PizzaException, LogHandlerException{
+		pizzaRestaurant.processLog(logFile);
+		double profit = pizzaRestaurant.getTotalProfit();
+		pizzaRestaurant.addOrder(LogHandler.createOrder(orderString));
+		assertEquals(NUM_ORDERS + 1, pizzaRestaurant.getNumPizzaOrders());
+		assertEquals(profit + order.getOrderProfit(), pizzaRestaurant.getTotalProfit(), 0);
+		assertEquals(true, order.equals(pizzaRestaurant.getPizzaByIndex(NUM_ORDERS)));
+	}
+	
+	//Test that the totals returned cannot change the running totals
+	@Test
+	public void testTotalsAreCopies() throws CustomerException, PizzaException, LogHandlerException{
+		pizzaRestaurant.processLog(logFile);
+		double profit = pizzaRestaurant.getTotalProfit();
+		pizzaRestaurant.getTotals().clear();
+		pizzaRestaurant.getTotalsByPizzaType().values().iterator().next().clear();
+		assertEquals(profit, pizzaRestaurant.getTotalProfit(), 0);
+		assertEquals(profit, pizzaRestaurant.getTotals().getTotalProfit(), 0);
+		assertEquals(NUM_ORDERS, pizzaRestaurant.getTotals().getNumOrders());
+		double typeProfit = 0;
+		for (OrderTotals totals : pizzaRestaurant.getTotalsByPizzaType().values()){
+			typeProfit += totals.getTotalProfit();
+		}
+		assertEquals(profit, typeProfit, 0.000001);
+	}
+	
+	//Test that the totals count more orders and pizzas than an int can hold
+	@Test
+	public void testTotalsBeyondInt() throws CustomerException, PizzaException, LogHandlerException{
+		pizzaRestaurant.processLog(logFile);
+		OrderTotals totals = pizzaRestaurant.getTotals();
+		long numPizzas = totals.getNumPizzas();
+		for (int i = 0; i < 32; i++){
+			totals.add(totals);
+		}
+		assertEquals((long) NUM_ORDERS << 32, totals.getNumOrders());
+		assertEquals(numPizzas << 32, totals.getNumPizzas());
+	}
+	
 	@Test
 	public void testReset() throws CustomerException, PizzaException, LogHandlerException{
 		pizzaRestaurant.processLog(logFile);
 		pizzaRestaurant.resetDetails();
 		assertEquals(0, pizzaRestaurant.getNumPizzaOrders());
 		assertEquals(0, pizzaRestaurant.getTotalProfit(), 0);
+		assertEquals(0, pizzaRestaurant.getTotalsByPizzaType().size());
 	}
 	
-	@Test (expected = java.lang.IndexOutOfBoundsException.class)
+	@Test (expected = PizzaException.class)
 	public void testResetArrayReset() throws CustomerException, PizzaException, LogHandlerException{
 		pizzaRestaurant.processLog(logFile);
 		pizzaRestaurant.resetDetails();
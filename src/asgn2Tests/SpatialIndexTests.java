@@ -0,0 +1,142 @@
+package asgn2Tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import asgn2Customers.Customer;
+import asgn2Exceptions.CustomerException;
+import asgn2Exceptions.LogHandlerException;
+import asgn2Exceptions.PizzaException;
+import asgn2Restaurant.LogHandler;
+import asgn2Restaurant.PizzaRestaurant;
+
+/**
+ * A class that tests that the location queries of asgn2Restaurant.PizzaRestaurant find the same orders
+ * as looking at the customer of every order.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ */
+public class SpatialIndexTests {
+	PizzaRestaurant restaurant;
+
+	@Before
+	public void loadLog() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		File log = File.createTempFile("locations", ".txt");
+		log.deleteOnExit();
+		new LogGenerator(20).write(log.getPath(), 3000);
+		restaurant = new PizzaRestaurant();
+		restaurant.processLog(log.getPath());
+	}
+
+	private double distance(int index, int x, int y) throws CustomerException {
+		Customer customer = restaurant.getCustomerByIndex(index);
+		return Math.hypot(customer.getLocationX() - x, customer.getLocationY() - y);
+	}
+
+	private int[] linearWithin(int x, int y, double radius) throws CustomerException {
+		ArrayList<Integer> within = new ArrayList<Integer>();
+		for (int i = 0; i < restaurant.getNumCustomerOrders(); i++) {
+			if (distance(i, x, y) <= radius) {
+				within.add(i);
+			}
+		}
+		return within.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	private int[] linearNearest(int x, int y, int n) throws CustomerException {
+		Integer[] indices = new Integer[restaurant.getNumCustomerOrders()];
+		double[] distances = new double[indices.length];
+		for (int i = 0; i < indices.length; i++) {
+			indices[i] = i;
+			distances[i] = distance(i, x, y);
+		}
+		Arrays.sort(indices, Comparator.<Integer>comparingDouble(i -> distances[i]).thenComparingInt(i -> i));
+		return Arrays.stream(indices).limit(n).mapToInt(Integer::intValue).toArray();
+	}
+
+	@Test
+	public void withinRadius() throws CustomerException {
+		int[][] queries = {{0, 0}, {3, -4}, {-10, 10}, {10, 0}, {-7, -2}};
+		double[] radii = {0, 1, 2.5, 5, 14.2, 30};
+		for (int[] query : queries) {
+			for (double radius : radii) {
+				assertArrayEquals(linearWithin(query[0], query[1], radius),
+						restaurant.getOrdersWithin(query[0], query[1], radius));
+			}
+		}
+	}
+
+	@Test
+	public void nearest() throws CustomerException {
+		int[][] queries = {{0, 0}, {3, -4}, {-10, 10}, {10, 10}, {1, 1}};
+		int[] sizes = {0, 1, 10, 250, restaurant.getNumCustomerOrders()};
+		for (int[] query : queries) {
+			for (int n : sizes) {
+				assertArrayEquals(linearNearest(query[0], query[1], n),
+						restaurant.getNearestCustomers(query[0], query[1], n));
+			}
+		}
+	}
+
+	@Test
+	public void nearestMoreThanOrders() {
+		assertEquals(restaurant.getNumCustomerOrders(), restaurant.getNearestCustomers(5, 5, Integer.MAX_VALUE).length);
+	}
+
+	@Test
+	public void ordersPerCell() throws CustomerException {
+		int[][] expected = new int[21][21];
+		for (int i = 0; i < restaurant.getNumCustomerOrders(); i++) {
+			Customer customer = restaurant.getCustomerByIndex(i);
+			expected[customer.getLocationX() + 10][customer.getLocationY() + 10]++;
+		}
+		int[][] counts = restaurant.getOrdersPerCell();
+		for (int x = -10; x <= 10; x++) {
+			assertArrayEquals(expected[x + 10], counts[x + 10]);
+			for (int y = -10; y <= 10; y++) {
+				assertEquals(expected[x + 10][y + 10], restaurant.getNumOrdersAt(x, y));
+			}
+		}
+	}
+
+	@Test
+	public void ordersAddedAfterQuery() throws CustomerException, PizzaException, LogHandlerException {
+		int before = restaurant.getNumOrdersAt(-5, 5);
+		restaurant.addOrder(LogHandler.createOrder("19:00:00,19:20:00,Casey Jones,0123456789,DVC,-5,5,PZV,2"));
+		assertEquals(before + 1, restaurant.getNumOrdersAt(-5, 5));
+		assertEquals(restaurant.getNumCustomerOrders() - 1, restaurant.getNearestCustomers(-5, 5, before + 1)[before]);
+	}
+
+	@Test
+	public void resetEmptiesIndex() throws CustomerException, PizzaException, LogHandlerException {
+		restaurant.getOrdersPerCell();
+		restaurant.resetDetails();
+		assertEquals(0, restaurant.getOrdersWithin(0, 0, 30).length);
+		restaurant.processLog("logs/20170101.txt");
+		assertArrayEquals(linearWithin(0, 0, 30), restaurant.getOrdersWithin(0, 0, 30));
+	}
+
+	@Test (expected = IllegalArgumentException.class)
+	public void locationOutsideGrid() {
+		restaurant.getNearestCustomers(11, 0, 1);
+	}
+
+	@Test (expected = IllegalArgumentException.class)
+	public void negativeRadius() {
+		restaurant.getOrdersWithin(0, 0, -1);
+	}
+
+	@Test (expected = IllegalArgumentException.class)
+	public void negativeNumberOfCustomers() {
+		restaurant.getNearestCustomers(0, 0, -1);
+	}
+
+}//end SpatialIndexTests
@@ -0,0 +1,131 @@
+package asgn2Tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalTime;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import asgn2Customers.Customer;
+import asgn2Exceptions.CustomerException;
+import asgn2Exceptions.LogHandlerException;
+import asgn2Exceptions.PizzaException;
+import asgn2Pizzas.Pizza;
+import asgn2Restaurant.PizzaRestaurant;
+import asgn2Restaurant.TimeWindowAnalytics;
+
+/**
+ * A class that tests that the asgn2Restaurant.TimeWindowAnalytics class adds up the orders of each
+ * window of the service hours the same as adding up the customers and pizzas of each order.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ */
+public class TimeWindowAnalyticsTests {
+	PizzaRestaurant restaurant;
+
+	@Before
+	public void loadLog() throws IOException, CustomerException, PizzaException, LogHandlerException {
+		File log = File.createTempFile("windows", ".txt");
+		log.deleteOnExit();
+		new LogGenerator(19).write(log.getPath(), 5000);
+		restaurant = new PizzaRestaurant();
+		restaurant.processLog(log.getPath());
+	}
+
+	private void sameAsOrders(int windowMinutes) throws CustomerException, PizzaException {
+		TimeWindowAnalytics windows = restaurant.getTotalsByWindow(windowMinutes);
+		int numWindows = windows.getNumWindows();
+		int[] numOrders = new int[numWindows];
+		int[] numPizzas = new int[numWindows];
+		double[] profit = new double[numWindows];
+		double[] distance = new double[numWindows];
+		long[] latency = new long[numWindows];
+		for (int i = 0; i < restaurant.getNumPizzaOrders(); i++) {
+			Pizza pizza = restaurant.getPizzaByIndex(i);
+			Customer customer = restaurant.getCustomerByIndex(i);
+			int window = windows.getWindow(pizza.getOrderTime());
+			assertEquals(false, pizza.getOrderTime().isBefore(windows.getWindowStart(window)));
+			assertEquals(true, pizza.getOrderTime().isBefore(windows.getWindowEnd(window)));
+			numOrders[window]++;
+			numPizzas[window] += pizza.getQuantity();
+			profit[window] += pizza.getOrderProfit();
+			distance[window] += customer.getDeliveryDistance();
+			latency[window] += pizza.getDeliveryTime().toSecondOfDay() - pizza.getOrderTime().toSecondOfDay();
+		}
+		for (int window = 0; window < numWindows; window++) {
+			assertEquals(numOrders[window], windows.getNumOrders(window));
+			assertEquals(numPizzas[window], windows.getNumPizzas(window));
+			assertEquals(profit[window], windows.getTotalProfit(window), 1e-6);
+			assertEquals(distance[window], windows.getTotalDeliveryDistance(window), 1e-6);
+			if (numOrders[window] > 0) {
+				assertEquals(latency[window] / 60.0 / numOrders[window], windows.getAverageDeliveryMinutes(window), 1e-9);
+				assertEquals(distance[window] / numOrders[window], windows.getAverageDeliveryDistance(window), 1e-9);
+			}
+		}
+	}
+
+	@Test
+	public void fiveMinuteWindows() throws CustomerException, PizzaException {
+		sameAsOrders(5);
+		assertEquals(48, restaurant.getTotalsByWindow(5).getNumWindows());
+	}
+
+	@Test
+	public void hourWindows() throws CustomerException, PizzaException {
+		sameAsOrders(60);
+		TimeWindowAnalytics windows = restaurant.getTotalsByWindow(60);
+		assertEquals(4, windows.getNumWindows());
+		assertEquals(LocalTime.of(21, 0), windows.getWindowStart(2));
+		assertEquals(LocalTime.of(22, 0), windows.getWindowEnd(2));
+	}
+
+	@Test
+	public void unevenWindows() throws CustomerException, PizzaException {
+		sameAsOrders(7);
+		TimeWindowAnalytics windows = restaurant.getTotalsByWindow(7);
+		assertEquals(35, windows.getNumWindows());
+		assertEquals(LocalTime.of(23, 0), windows.getWindowEnd(34));
+	}
+
+	@Test
+	public void windowsAddUpToTotals() {
+		TimeWindowAnalytics windows = restaurant.getTotalsByWindow(15);
+		int numOrders = 0;
+		double profit = 0;
+		for (int window = 0; window < windows.getNumWindows(); window++) {
+			numOrders += windows.getNumOrders(window);
+			profit += windows.getTotalProfit(window);
+		}
+		assertEquals(restaurant.getNumPizzaOrders(), numOrders);
+		assertEquals(restaurant.getTotalProfit(), profit, 1e-6);
+		assertEquals(numOrders > 0, windows.getNumOrders(windows.getBusiestWindow()) > 0);
+	}
+
+	@Test
+	public void emptyRestaurant() {
+		TimeWindowAnalytics windows = new PizzaRestaurant().getTotalsByWindow(30);
+		assertEquals(8, windows.getNumWindows());
+		assertEquals(0, windows.getNumOrders(0));
+		assertEquals(0, windows.getAverageDeliveryMinutes(0), 0);
+		assertEquals(0, windows.getBusiestWindow());
+	}
+
+	@Test (expected = IllegalArgumentException.class)
+	public void zeroMinuteWindows() {
+		restaurant.getTotalsByWindow(0);
+	}
+
+	@Test (expected = IllegalArgumentException.class)
+	public void windowsLongerThanService() {
+		restaurant.getTotalsByWindow(241);
+	}
+
+	@Test (expected = IndexOutOfBoundsException.class)
+	public void windowBeyondLast() {
+		restaurant.getTotalsByWindow(60).getNumOrders(4);
+	}
+
+}//end TimeWindowAnalyticsTests
@@ -0,0 +1,297 @@
+package asgn2Wizards;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.Map;
+
+import asgn2Exceptions.CustomerException;
+import asgn2Exceptions.LogError;
+import asgn2Exceptions.LogHandlerException;
+import asgn2Exceptions.PizzaException;
+import asgn2Pizzas.PizzaMenu;
+import asgn2Restaurant.ErrorReport;
+import asgn2Restaurant.OrderTotals;
+import asgn2Restaurant.PizzaRestaurant;
+
+/**
+ * This class processes log files from the command line without a graphical user interface, so that logs can be
+ * processed on servers without a display. Each log file is processed in turn by the same PizzaRestaurant and its
+ * totals, the totals of each pizza type and the totals of each customer type are printed as text or JSON,
+ * followed by the totals of all the log files that were processed. A log file that cannot be processed is
+ * reported and skipped, and the exit code is that of the first log file that could not be processed. An invalid line
+ * is reported with its line number and the number of its invalid parameter, counted from 1 in both formats.
+ * With the --lenient option, the invalid lines of each log file are skipped and reported instead, with the
+ * number of invalid lines for each reason and the first few invalid lines for each reason.
+ * With the --menu option, the menu of pizzas is loaded from a file and installed before any log file is processed.
+ * This class refers to no AWT or Swing classes so that none are loaded.
+ *
+ * @author Matthew Holdsworth and Gyeongmin Jee
+ *
+ */
+public class BatchWizard {
+	//Exit codes
+	public static final int EXIT_OK = 0;
+	public static final int EXIT_USAGE = 1;
+	public static final int EXIT_CUSTOMER_EXCEPTION = 2;
+	public static final int EXIT_PIZZA_EXCEPTION = 3;
+	public static final int EXIT_LOG_HANDLER_EXCEPTION = 4;
+	public static final int EXIT_UNEXPECTED_EXCEPTION = 5;
+
+	static final String USAGE = "Usage: PizzaWizard [--text | --json] [--lenient] [--menu MENUFILE] LOGFILE...";
+
+	private final PrintStream out;
+	private final PrintStream err;
+	private final boolean json;
+	//The invalid lines of the log file being processed, or null if log files are not processed leniently
+	private final ErrorReport report;
+	private final PizzaRestaurant restaurant = new PizzaRestaurant();
+	private final OrderTotals allTotals = new OrderTotals();
+	private int numProcessed;
+	private int exitCode = EXIT_OK;
+	private boolean firstFile = true;
+
+	private BatchWizard(PrintStream out, PrintStream err, boolean json, boolean lenient) {
+		this.out = out;
+		this.err = err;
+		this.json = json;
+		this.report = lenient ? new ErrorReport() : null;
+	}
+
+	/**
+	 * Processes the log files named on the command line and prints their totals.
+	 * @param args - Command line arguments, an optional output format followed by the file names of the log files
+	 * @param out - The stream the totals are printed to
+	 * @param err - The stream errors are printed to
+	 * @return EXIT_OK if every log file was processed, EXIT_USAGE if the arguments are invalid, or otherwise the exit
+	 * code of the exception thrown for the first log file that could not be processed, which is
+	 * EXIT_UNEXPECTED_EXCEPTION for an unchecked exception
+	 */
+	public static int run(String[] args, PrintStream out, PrintStream err) {
+		boolean json = false;
+		boolean lenient = false;
+		String menu = null;
+		int first = 0;
+		while (first < args.length && args[first].startsWith("--")) {
+			String option = args[first++];
+			if (option.equals("--json")) {
+				json = true;
+			} else if (option.equals("--text")) {
+				json = false;
+			} else if (option.equals("--lenient")) {
+				lenient = true;
+			} else if (option.equals("--menu") && first < args.length) {
+				menu = args[first++];
+			} else if (option.equals("--")) {
+				break;
+			} else {
+				err.println("Unknown option " + option);
+				err.println(USAGE);
+				return EXIT_USAGE;
+			}
+		}//end while loop
+		if (first == args.length) {
+			err.println(USAGE);
+			return EXIT_USAGE;
+		}
+		if (menu != null) {
+			try {
+				PizzaMenu.load(menu).install();
+			} catch (PizzaException e) {
+				err.println(menu + ": " + e.getMessage());
+				return EXIT_PIZZA_EXCEPTION;
+			}//end try-catch block
+		}
+		BatchWizard wizard = new BatchWizard(out, err, json, lenient);
+		wizard.begin();
+		for (int i = first; i < args.length; i++) {
+			wizard.process(args[i]);
+		}//end for loop
+		wizard.end();
+		out.flush();
+		return wizard.exitCode;
+	}//end Run
+
+	private void begin() {
+		if (json) {
+			out.print("{\"files\":[");
+		}
+	}
+
+	//Processes a single log file, reporting its totals or the reason it could not be processed
+	private void process(String filename) {
+		String error;
+		String type;
+		int code;
+		//The line and parameter of the log file that are invalid, if the exception reports them
+		long lineNumber = -1;
+		int fieldIndex = -1;
+		try {
+			if (report != null) {
+				report.clear();
+				restaurant.processLog(filename, report);
+			} else {
+				restaurant.processLog(filename);
+			}
+			allTotals.add(restaurant.getTotals());
+			printFile(filename);
+			numProcessed++;
+			return;
+		} catch (CustomerException e) {
+			error = e.getMessage();
+			type = "CustomerException";
+			code = EXIT_CUSTOMER_EXCEPTION;
+			lineNumber = e.getLineNumber();
+			fieldIndex = e.getFieldIndex();
+		} catch (PizzaException e) {
+			error = e.getMessage();
+			type = "PizzaException";
+			code = EXIT_PIZZA_EXCEPTION;
+			lineNumber = e.getLineNumber();
+			fieldIndex = e.getFieldIndex();
+		} catch (LogHandlerException e) {
+			error = e.getMessage();
+			type = "LogHandlerException";
+			code = EXIT_LOG_HANDLER_EXCEPTION;
+			lineNumber = e.getLineNumber();
+			fieldIndex = e.getFieldIndex();
+		} catch (RuntimeException e) {
+			//PizzaRestaurant passes on the unchecked exceptions of reading a log file as LogHandlerExceptions, so this
+			//is a fault of the program rather than of the log file. It is reported in the same way, with its own exit
+			//code, so that the other log files are still processed
+			error = String.valueOf(e.getMessage());
+			type = e.getClass().getSimpleName();
+			code = EXIT_UNEXPECTED_EXCEPTION;
+		}//end try-catch block
+		if (exitCode == EXIT_OK) {
+			exitCode = code;
+		}
+		//Parameters are numbered from 1 in both formats, as they are counted along the line of the log file
+		String location = lineNumber < 0 ? "" : " (line " + lineNumber + (fieldIndex < 0 ? ")" : ", parameter " + (fieldIndex + 1) + ")");
+		err.println(filename + ": " + type + ": " + error + location);
+		if (json) {
+			separate();
+			out.print("{\"file\":" + quote(filename) + ",\"error\":{\"type\":" + quote(type)
+					+ ",\"message\":" + quote(error) + ",\"exitCode\":" + code
+					+ (lineNumber < 0 ? "" : ",\"line\":" + lineNumber)
+					+ (lineNumber < 0 || fieldIndex < 0 ? "" : ",\"parameter\":" + (fieldIndex + 1)) + "}}");
+		}
+	}//end Process
+
+	private void printFile(String filename) {
+		if (json) {
+			separate();
+			out.print("{\"file\":" + quote(filename) + ",\"totals\":" + jsonTotals(restaurant.getTotals())
+					+ ",\"pizzaTypes\":" + jsonTypeTotals(restaurant.getTotalsByPizzaType())
+					+ ",\"customerTypes\":" + jsonTypeTotals(restaurant.getTotalsByCustomerType())
+					+ (report == null ? "" : ",\"invalid\":" + jsonReport(report)) + "}");
+		} else {
+			out.println(filename);
+			out.println(textTotals("  Total", restaurant.getTotals()));
+			for (Map.Entry<String, OrderTotals> entry : restaurant.getTotalsByPizzaType().entrySet()) {
+				out.println(textTotals("  Pizza: " + entry.getKey(), entry.getValue()));
+			}
+			for (Map.Entry<String, OrderTotals> entry : restaurant.getTotalsByCustomerType().entrySet()) {
+				out.println(textTotals("  Customer: " + entry.getKey(), entry.getValue()));
+			}
+			if (report != null) {
+				printReport(report);
+			}
+		}//end if-else
+	}//end PrintFile
+
+	//Prints the number of invalid lines for each reason followed by the sample lines
+	private void printReport(ErrorReport report) {
+		out.println(String.format(Locale.ROOT, "  %-26s %8d", "Invalid lines", report.getNumInvalidLines()));
+		for (LogError error : LogError.values()) {
+			if (report.getCount(error) > 0) {
+				out.println(String.format(Locale.ROOT, "    %-24s %8d", error, report.getCount(error)));
+			}
+		}
+		for (int i = 0; i < report.getNumSamples(); i++) {
+			out.println("    line " + report.getSampleLineNumber(i) + " at byte " + report.getSampleOffset(i)
+					+ (report.getSampleFieldIndex(i) < 0 ? "" : ", parameter " + (report.getSampleFieldIndex(i) + 1))
+					+ ": " + report.getSampleError(i).getMessage());
+		}
+	}//end PrintReport
+
+	private static String jsonReport(ErrorReport report) {
+		StringBuilder builder = new StringBuilder("{\"lines\":").append(report.getNumInvalidLines()).append(",\"reasons\":{");
+		boolean first = true;
+		for (LogError error : LogError.values()) {
+			if (report.getCount(error) > 0) {
+				builder.append(first ? "" : ",").append(quote(error.name())).append(':').append(report.getCount(error));
+				first = false;
+			}
+		}
+		builder.append("},\"samples\":[");
+		for (int i = 0; i < report.getNumSamples(); i++) {
+			builder.append(i == 0 ? "" : ",").append("{\"reason\":").append(quote(report.getSampleError(i).name()))
+					.append(",\"line\":").append(report.getSampleLineNumber(i))
+					.append(",\"offset\":").append(report.getSampleOffset(i));
+			if (report.getSampleFieldIndex(i) >= 0) {
+				builder.append(",\"parameter\":").append(report.getSampleFieldIndex(i) + 1);
+			}
+			builder.append('}');
+		}
+		return builder.append("]}").toString();
+	}//end JsonReport
+
+	private void end() {
+		if (json) {
+			out.println("],\"processed\":" + numProcessed + ",\"totals\":" + jsonTotals(allTotals) + "}");
+		} else {
+			out.println(textTotals("All " + numProcessed + " processed log files", allTotals));
+		}
+	}
+
+	//Separates the JSON objects of the log files after the first
+	private void separate() {
+		if (!firstFile) {
+			out.print(',');
+		}
+		firstFile = false;
+	}
+
+	private static String textTotals(String label, OrderTotals totals) {
+		return String.format(Locale.ROOT, "%-28s orders %8d  pizzas %9d  price %12.2f  cost %12.2f  profit %12.2f  distance %12.2f",
+				label, totals.getNumOrders(), totals.getNumPizzas(), totals.getTotalPrice(), totals.getTotalCost(),
+				totals.getTotalProfit(), totals.getTotalDeliveryDistance());
+	}
+
+	private static String jsonTotals(OrderTotals totals) {
+		return "{\"orders\":" + totals.getNumOrders() + ",\"pizzas\":" + totals.getNumPizzas()
+				+ ",\"price\":" + totals.getTotalPrice() + ",\"cost\":" + totals.getTotalCost()
+				+ ",\"profit\":" + totals.getTotalProfit() + ",\"distance\":" + totals.getTotalDeliveryDistance() + "}";
+	}
+
+	private static String jsonTypeTotals(Map<String, OrderTotals> totalsByType) {
+		StringBuilder builder = new StringBuilder("{");
+		for (Map.Entry<String, OrderTotals> entry : totalsByType.entrySet()) {
+			if (builder.length() > 1) {
+				builder.append(',');
+			}
+			builder.append(quote(entry.getKey())).append(':').append(jsonTotals(entry.getValue()));
+		}
+		return builder.append('}').toString();
+	}
+
+	//Returns the string as a JSON string literal
+	static String quote(String text) {
+		if (text == null) {
+			return "null";
+		}
+		StringBuilder builder = new StringBuilder(text.length() + 2).append('"');
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == '"' || c == '\\') {
+				builder.append('\\').append(c);
+			} else if (c < 0x20) {
+				builder.append(String.format("\\u%04x", (int) c));
+			} else {
+				builder.append(c);
+			}
+		}//end for loop
+		return builder.append('"').toString();
+	}//end Quote
+
+}
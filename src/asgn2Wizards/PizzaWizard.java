@@ -1,12 +1,17 @@
 package asgn2Wizards;
 
 
+import java.io.File;
+import java.net.URISyntaxException;
+import java.security.CodeSource;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import javax.swing.SwingUtilities;
 
+import asgn2Exceptions.PizzaException;
 import asgn2GUIs.PizzaGUI;
+import asgn2Pizzas.PizzaMenu;
 
 /**
  * This class is the 멷ntry point� to the rest of the system and provides a public static void main method. 
@@ -25,12 +30,45 @@ public class PizzaWizard {
 	}
 
 	/**
-	 * The entry point to the rest of the system. 
-	 * @param args Command Line Arguments
+	 * The entry point to the rest of the system. Without arguments the graphical user interface is started.
+	 * With arguments the log files named on the command line are processed without the graphical user interface
+	 * and the exit code is that returned by BatchWizard.run. Either way, the menu named by the asgn2.menu system
+	 * property, or else the menu.txt in the working directory or next to the jar, is installed first if there is one,
+	 * and the default menu is kept if there is none or it cannot be loaded.
+	 * @param args Command Line Arguments, an optional --text or --json output format followed by log file names
 	 * 
 	 */
 	public static void main(String[] args) {
+		installStartupMenu();
+		if (args.length > 0) {
+			System.exit(BatchWizard.run(args, System.out, System.err));
+		}
 		SwingUtilities.invokeLater(new PizzaGUI("Pizza Place"));	
 	}
 
+	//Installs the menu found at start-up, keeping the default menu if it cannot be loaded
+	private static void installStartupMenu() {
+		String menu = PizzaMenu.findStartupFile(System.getProperty("user.dir"), jarDirectory());
+		if (menu != null) {
+			try {
+				PizzaMenu.load(menu).install();
+			} catch (PizzaException e) {
+				System.err.println(menu + ": " + e.getMessage() + ", so the default menu is used");
+			}//end try-catch block
+		}
+	}//end InstallStartupMenu
+
+	//Returns the directory of the jar or classes that the program is run from, or null if it is not known
+	private static String jarDirectory() {
+		CodeSource source = PizzaWizard.class.getProtectionDomain().getCodeSource();
+		if (source == null) {
+			return null;
+		}
+		try {
+			return new File(source.getLocation().toURI()).getParent();
+		} catch (URISyntaxException | IllegalArgumentException e) {
+			return null;
+		}//end try-catch block
+	}//end JarDirectory
+
 }